@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.model.SchemaContext;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.DefaultAnnotation;
+import org.onosproject.yang.runtime.DefaultAppModuleInfo;
+import org.onosproject.yang.runtime.DefaultModelRegistrationParam;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.onosproject.yang.runtime.impl.DefaultYangModelRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.deSerializeDataModel;
+import static org.onosproject.yang.runtime.RuntimeHelper.addLinkerAndJavaInfo;
+import static org.onosproject.yang.runtime.RuntimeHelper.getInterfaceClassName;
+import static org.onosproject.yang.runtime.helperutils.YangApacheUtils.processModuleId;
+import static org.onosproject.yang.runtime.helperutils.YangApacheUtils.processYangModel;
+
+/**
+ * Represents the shared state of the benchmarks: a model registry holding
+ * the benchmark schema, serializer context over it and generators for the
+ * benchmark inputs.
+ */
+public final class BenchmarkContext implements YangSerializerContext {
+
+    private static final String META_DATA = "/yang/resources/YangMetaData.ser";
+    private static final String CORPUS = "/corpus/";
+    private static final String NETCONF_NS =
+            "urn:ietf:params:xml:ns:netconf:base:1.0";
+    private static final String XMLNS_NC = "xmlns:nc";
+
+    /**
+     * YANG files of the compiler corpus, all bundled under /corpus/.
+     */
+    private static final String[] CORPUS_FILES = {
+            "ietf-l3vpn-svc@2016-07-30.yang",
+            "l3vpn-svc-ext@2016-07-30.yang",
+            "yrt-ietf-inet-types.yang",
+            "yrt-ietf-yang-types.yang",
+            "yrt-ietf-network.yang",
+            "yrt-network-topology.yang",
+            "yrt-ietf-schedule.yang",
+            "yrt-ietf-te-types.yang",
+            "yrt-ietf-te-topology.yang",
+            "yrt-ietf-te.yang",
+    };
+
+    private final DefaultYangModelRegistry registry =
+            new DefaultYangModelRegistry();
+
+    /**
+     * Creates a benchmark context, registering the schema generated from
+     * the benchmark YANG files.
+     */
+    public BenchmarkContext() {
+        try {
+            Path meta = Files.createTempFile("YangMetaData", ".ser");
+            try {
+                try (InputStream in = BenchmarkContext.class
+                        .getResourceAsStream(META_DATA)) {
+                    Files.copy(in, meta, REPLACE_EXISTING);
+                }
+                List<YangNode> nodes = new ArrayList<>(
+                        deSerializeDataModel(meta.toString()));
+                addLinkerAndJavaInfo(new LinkedHashSet<>(nodes));
+                registry.registerModel(param(meta.toString(), nodes));
+            } finally {
+                Files.deleteIfExists(meta);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns model registration parameter for the YANG nodes.
+     *
+     * @param path  path of the metadata file
+     * @param nodes YANG nodes
+     * @return model registration parameter
+     */
+    private static ModelRegistrationParam param(String path,
+                                                List<YangNode> nodes) {
+        ClassLoader loader = BenchmarkContext.class.getClassLoader();
+        ModelRegistrationParam.Builder b =
+                DefaultModelRegistrationParam.builder();
+        b.setYangModel(processYangModel(path, nodes));
+        for (YangNode node : nodes) {
+            Class<?> cls;
+            try {
+                cls = loader.loadClass(getInterfaceClassName(node));
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+            b.addAppModuleInfo(processModuleId(node),
+                               new DefaultAppModuleInfo(cls, null));
+        }
+        return b.build();
+    }
+
+    /**
+     * Returns the model registry.
+     *
+     * @return model registry
+     */
+    public DefaultYangModelRegistry registry() {
+        return registry;
+    }
+
+    @Override
+    public SchemaContext getContext() {
+        return registry;
+    }
+
+    @Override
+    public List<Annotation> getProtocolAnnotations() {
+        return Collections.singletonList(
+                new DefaultAnnotation(XMLNS_NC, NETCONF_NS));
+    }
+
+    /**
+     * Returns JSON for the bench-interfaces module with the given number of
+     * interface list entries.
+     *
+     * @param count number of interfaces
+     * @return JSON document
+     */
+    public static String interfacesJson(int count) {
+        StringBuilder sb = new StringBuilder(count * 400);
+        sb.append("{\"bench-interfaces:interfaces\":{\"interface\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"name\":\"eth").append(i).append('"')
+                    .append(",\"description\":\"interface ").append(i)
+                    .append('"')
+                    .append(",\"enabled\":").append(i % 2 == 0)
+                    .append(",\"mtu\":").append(1500 + i % 7000)
+                    .append(",\"address\":[\"10.").append(i >> 16 & 0xff)
+                    .append('.').append(i >> 8 & 0xff).append('.')
+                    .append(i & 0xff).append("\",\"fe80::").append(i)
+                    .append("\"]")
+                    .append(",\"statistics\":{")
+                    .append("\"in-octets\":").append(i * 1024L)
+                    .append(",\"in-unicast-pkts\":").append(i * 16L)
+                    .append(",\"in-errors\":").append(i % 3)
+                    .append(",\"out-octets\":").append(i * 2048L)
+                    .append(",\"out-unicast-pkts\":").append(i * 32L)
+                    .append(",\"out-errors\":").append(i % 5)
+                    .append("}}");
+        }
+        return sb.append("]}}").toString();
+    }
+
+    /**
+     * Copies the YANG files of the compiler corpus to the directory.
+     *
+     * @param dir target directory
+     * @return paths of the copied YANG files
+     * @throws IOException when fails to copy a file
+     */
+    public static Set<Path> copyCorpus(Path dir) throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        for (String name : CORPUS_FILES) {
+            Path file = dir.resolve(name);
+            try (InputStream in = BenchmarkContext.class
+                    .getResourceAsStream(CORPUS + name)) {
+                Files.copy(in, file, REPLACE_EXISTING);
+            }
+            files.add(file);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+
+/**
+ * Represents an output stream consuming everything written to it into a
+ * blackhole.
+ */
+final class BlackholeOutputStream extends OutputStream {
+
+    private final Blackhole bh;
+
+    /**
+     * Creates an output stream consuming into the blackhole.
+     *
+     * @param bh blackhole
+     */
+    BlackholeOutputStream(Blackhole bh) {
+        this.bh = bh;
+    }
+
+    @Override
+    public void write(int b) {
+        bh.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        bh.consume(b);
+        bh.consume(len);
+    }
+}
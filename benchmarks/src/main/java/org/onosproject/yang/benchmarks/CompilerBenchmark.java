@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.parser.impl.YangUtilsParserManager;
+import org.onosproject.yang.compiler.tool.DefaultYangCompilationParam;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Benchmarks parsing, linking and full compilation of the YANG corpus.
+ * Parsing is measured both in the default two stage mode and in full LL
+ * mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CompilerBenchmark {
+
+    private Path corpusDir;
+    private Set<Path> files;
+
+    /**
+     * Copies the YANG corpus to a temporary directory.
+     *
+     * @throws IOException when fails to copy the corpus
+     */
+    @Setup
+    public void setup() throws IOException {
+        corpusDir = Files.createTempDirectory("yang-corpus");
+        files = BenchmarkContext.copyCorpus(corpusDir);
+    }
+
+    /**
+     * Removes the temporary corpus directory.
+     *
+     * @throws IOException when fails to delete the directory
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        deleteDirectory(corpusDir.toString());
+    }
+
+    @Benchmark
+    public List<YangNode> parse() throws IOException {
+        return parse(new YangUtilsParserManager());
+    }
+
+    @Benchmark
+    public List<YangNode> parseFullLl() throws IOException {
+        return parse(new YangUtilsParserManager(false));
+    }
+
+    @Benchmark
+    public List<YangNode> parseStreaming() throws IOException {
+        return parse(new YangUtilsParserManager(true, true));
+    }
+
+    private List<YangNode> parse(YangUtilsParserManager parser)
+            throws IOException {
+        List<YangNode> nodes = new ArrayList<>(files.size());
+        for (Path file : files) {
+            nodes.add(parser.getDataModel(file.toString()));
+        }
+        return nodes;
+    }
+
+    @Benchmark
+    public Set<YangNode> link(ParsedCorpus parsed) {
+        parsed.manager.resolveDependenciesUsingLinker();
+        return parsed.manager.getYangNodeSet();
+    }
+
+    @Benchmark
+    public Object compile(OutputDirs dirs) throws IOException {
+        DefaultYangCompilationParam param = new DefaultYangCompilationParam();
+        for (Path file : files) {
+            param.addYangFile(file);
+        }
+        param.setCodeGenDir(dirs.codeGenDir);
+        param.setMetadataGenDir(dirs.metadataGenDir);
+        return new YangCompilerManager().compileYangFiles(param);
+    }
+
+    /**
+     * Represents the corpus parsed afresh before each link invocation, as
+     * linking mutates the parsed trees.
+     */
+    @State(Scope.Thread)
+    public static class ParsedCorpus {
+
+        private YangCompilerManager manager;
+
+        /**
+         * Parses the corpus.
+         *
+         * @param bench benchmark state holding the corpus files
+         * @throws IOException when fails to parse the corpus
+         */
+        @Setup(Level.Invocation)
+        public void setup(CompilerBenchmark bench) throws IOException {
+            manager = new YangCompilerManager();
+            manager.setYangFileInfoSet(
+                    manager.createYangFileInfoSet(bench.files));
+            manager.parseYangFileInfoSet();
+        }
+    }
+
+    /**
+     * Represents fresh output directories for each compile invocation.
+     */
+    @State(Scope.Thread)
+    public static class OutputDirs {
+
+        private Path root;
+        private Path codeGenDir;
+        private Path metadataGenDir;
+
+        /**
+         * Creates the output directories.
+         *
+         * @throws IOException when fails to create a directory
+         */
+        @Setup(Level.Invocation)
+        public void setup() throws IOException {
+            root = Files.createTempDirectory("yang-out");
+            codeGenDir = Files.createDirectory(root.resolve("java"));
+            metadataGenDir = Files.createDirectory(root.resolve("resources"));
+        }
+
+        /**
+         * Removes the output directories.
+         *
+         * @throws IOException when fails to delete a directory
+         */
+        @TearDown(Level.Invocation)
+        public void tearDown() throws IOException {
+            deleteDirectory(root.toString());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.ModelObjectData;
+import org.onosproject.yang.model.ResourceData;
+import org.onosproject.yang.runtime.DefaultCompositeStream;
+import org.onosproject.yang.runtime.impl.DefaultModelConverter;
+import org.onosproject.yang.serializers.json.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Benchmarks conversion between data node trees and model objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelConverterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int interfaces;
+
+    private DefaultModelConverter converter;
+    private ResourceData resourceData;
+    private ModelObjectData modelData;
+
+    /**
+     * Builds the data node tree and the model objects to convert.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkContext context = new BenchmarkContext();
+        converter = new DefaultModelConverter(context.registry());
+        byte[] bytes = BenchmarkContext.interfacesJson(interfaces)
+                .getBytes(UTF_8);
+        resourceData = new JsonSerializer().decode(
+                new DefaultCompositeStream(
+                        null, new ByteArrayInputStream(bytes)),
+                context).resourceData();
+        modelData = converter.createModel(resourceData);
+    }
+
+    @Benchmark
+    public ModelObjectData createModel() {
+        return converter.createModel(resourceData);
+    }
+
+    @Benchmark
+    public ResourceData createDataNode() {
+        return converter.createDataNode(modelData);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.DefaultResourceData;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.runtime.CompositeData;
+import org.onosproject.yang.runtime.CompositeStream;
+import org.onosproject.yang.runtime.DefaultCompositeData;
+import org.onosproject.yang.runtime.DefaultCompositeStream;
+import org.onosproject.yang.serializers.json.JsonSerializer;
+import org.onosproject.yang.serializers.xml.XmlSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Benchmarks encoding and decoding of JSON and XML documents of growing
+ * size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializerBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int interfaces;
+
+    private final JsonSerializer json = new JsonSerializer();
+    private final XmlSerializer xml = new XmlSerializer();
+    private final byte[] buffer = new byte[8192];
+    private BenchmarkContext context;
+    private byte[] jsonBytes;
+    private byte[] xmlBytes;
+    private CompositeData data;
+    private CompositeData jsonData;
+
+    /**
+     * Builds the JSON and XML documents and their decoded form.
+     *
+     * @throws IOException when fails to read an encoded document
+     */
+    @Setup
+    public void setup() throws IOException {
+        context = new BenchmarkContext();
+        jsonBytes = BenchmarkContext.interfacesJson(interfaces)
+                .getBytes(UTF_8);
+        data = json.decode(stream(jsonBytes), context);
+        jsonData = DefaultCompositeData.builder().resourceData(
+                DefaultResourceData.builder().addDataNode(topNode(data))
+                        .build()).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        xml.encode(data, context, out);
+        xmlBytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public CompositeData jsonDecode() {
+        return json.decode(stream(jsonBytes), context);
+    }
+
+    @Benchmark
+    public long jsonEncode() throws IOException {
+        return drain(json.encode(jsonData, context));
+    }
+
+    @Benchmark
+    public void jsonEncodeToStream(Blackhole bh) {
+        json.encode(jsonData, context, new BlackholeOutputStream(bh));
+    }
+
+    @Benchmark
+    public CompositeData xmlDecode() {
+        return xml.decode(stream(xmlBytes), context);
+    }
+
+    @Benchmark
+    public long xmlEncode() throws IOException {
+        return drain(xml.encode(data, context));
+    }
+
+    @Benchmark
+    public void xmlEncodeToStream(Blackhole bh) {
+        xml.encode(data, context, new BlackholeOutputStream(bh));
+    }
+
+    /**
+     * Returns the top level container of the decoded data. The JSON encoder
+     * expects the data nodes under the root rather than the root itself.
+     *
+     * @param data decoded data
+     * @return top level data node
+     */
+    private static DataNode topNode(CompositeData data) {
+        DataNode root = data.resourceData().dataNodes().get(0);
+        return ((InnerNode) root).childNodes().values().iterator().next();
+    }
+
+    private static CompositeStream stream(byte[] bytes) {
+        return new DefaultCompositeStream(
+                null, new ByteArrayInputStream(bytes));
+    }
+
+    private long drain(CompositeStream stream) throws IOException {
+        long count = 0;
+        try (InputStream in = stream.resourceData()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                count += n;
+            }
+        }
+        return count;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-present Open Networking Laboratory
+ * Copyright 2016-present Open Networking Laboratory
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -14,10 +14,8 @@
  * limitations under the License.
  */
 
-package org.onosproject.yang.serializers.xml;
 
 /**
- * Represents a single instance node and multi instance node handler.
+ * JMH benchmarks for the YANG compiler, runtime and serializers.
  */
-public class XmlSerializerNodeHandler extends XmlSerializerHandler {
-}
+package org.onosproject.yang.benchmarks;
@@ -36,6 +36,13 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
     // Binary data is a decoded value by base64 decoding scheme from data input (jason)
     private byte[] binaryData;
 
+    /**
+     * Creates a binary object for the YANG meta data file, which sets
+     * the binary data afterwards.
+     */
+    private YangBinary() {
+    }
+
     /**
      * Creates a binary object corresponding to the base 64 encoding value.
      *
@@ -77,6 +77,14 @@ public class YangDeviation extends YangNode implements Parsable, YangDesc,
      */
     private ResolvableStatus resolvableStatus;
 
+    /**
+     * Creates a deviation node for the YANG meta data file, which sets the
+     * node data afterwards.
+     */
+    private YangDeviation() {
+        this(YangNodeType.DEVIATION_NODE, null);
+    }
+
     /**
      * Creates a specific type of node.
      *
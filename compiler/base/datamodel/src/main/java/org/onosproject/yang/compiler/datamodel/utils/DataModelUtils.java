@@ -68,13 +68,14 @@ import org.onosproject.yang.model.SchemaId;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -86,6 +87,7 @@ import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_AUGMENT;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_BASE;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_COMPILER_ANNOTATION;
@@ -398,7 +400,8 @@ public final class DataModelUtils {
     }
 
     /**
-     * Returns de-serializes YANG data-model nodes.
+     * Returns de-serializes YANG data-model nodes. Both YANG meta data file
+     * and java serialized data-model are supported.
      *
      * @param serializedFileInfo serialized File Info
      * @return de-serializes YANG data-model nodes
@@ -406,8 +409,32 @@ public final class DataModelUtils {
      */
     public static Set<YangNode> deSerializeDataModel(String serializedFileInfo)
             throws IOException {
+        return deSerializeDataModel(serializedFileInfo, Collections.emptySet());
+    }
+
+    /**
+     * Returns de-serializes YANG data-model nodes, except the modules with
+     * given names. Modules of a YANG meta data file which are skipped are
+     * not de-serialized at all.
+     *
+     * @param serializedFileInfo serialized File Info
+     * @param skipped            names of modules to be skipped
+     * @return de-serializes YANG data-model nodes
+     * @throws IOException when fails do IO operations
+     */
+    public static Set<YangNode> deSerializeDataModel(String serializedFileInfo,
+                                                     Set<String> skipped)
+            throws IOException {
 
         Set<YangNode> nodes;
+        if (YangMetaDataFile.isMetaDataFile(serializedFileInfo)) {
+            try (InputStream stream = new FileInputStream(serializedFileInfo)) {
+                return YangMetaDataFile.read(stream).nodes(skipped);
+            } catch (IOException e) {
+                throw new IOException(serializedFileInfo + " failed to fetch " +
+                                              "nodes due to " + e.getLocalizedMessage());
+            }
+        }
         try {
             FileInputStream fileInputStream = new FileInputStream(serializedFileInfo);
             ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
@@ -418,6 +445,9 @@ public final class DataModelUtils {
             throw new IOException(serializedFileInfo + " failed to fetch " +
                                           "nodes due to " + e.getLocalizedMessage());
         }
+        if (!skipped.isEmpty()) {
+            nodes.removeIf(node -> skipped.contains(node.getName()));
+        }
         return nodes;
     }
 
@@ -857,54 +887,32 @@ public final class DataModelUtils {
     }
 
     /**
-     * Parses jar file and returns list of serialized file names.
+     * Parses jar file and returns the linked YANG data-model nodes read
+     * directly from the given jar entry. Read content is cached against
+     * the jar file modification time.
      *
-     * @param jarFile   jar file to be parsed
-     * @param directory directory where to search
-     * @return list of serialized files
+     * @param jarFile jar file to be parsed
+     * @param entry   name of the linked meta data entry in jar
+     * @return linked YANG data-model nodes, null if jar has no such entry
      * @throws IOException when fails to do IO operations
      */
-    public static List<YangNode> parseJarFile(String jarFile, String directory)
+    public static List<YangNode> parseLinkedJarFile(String jarFile, String entry)
             throws IOException {
+        return YangMetaDataLoader.load(jarFile, entry);
+    }
 
-        List<YangNode> nodes = new ArrayList<>();
-        JarFile jar = new JarFile(jarFile);
-        Enumeration<?> enumEntries = jar.entries();
-
-        while (enumEntries.hasMoreElements()) {
-            JarEntry file = (JarEntry) enumEntries.nextElement();
-            if (file.getName().endsWith(".ser")) {
-
-                if (file.getName().contains(SLASH)) {
-                    String[] strArray = file.getName().split(SLASH);
-                    String tempPath = "";
-                    for (int i = 0; i < strArray.length - 1; i++) {
-                        tempPath = SLASH + tempPath + SLASH + strArray[i];
-                    }
-                    File dir = new File(directory + tempPath);
-                    dir.mkdirs();
-                }
-                File serializedFile = new File(directory + SLASH + file.getName());
-                if (file.isDirectory()) {
-                    serializedFile.mkdirs();
-                    continue;
-                }
-                InputStream inputStream = jar.getInputStream(file);
-
-                FileOutputStream fileOutputStream = new FileOutputStream(serializedFile);
-                while (inputStream.available() > 0) {
-                    fileOutputStream.write(inputStream.read());
-                }
-                fileOutputStream.close();
-                inputStream.close();
-                nodes.addAll(deSerializeDataModel(serializedFile.toString()));
-                //As of now only one metadata files will be there so if we
-                // found one then we should break the loop.
-                break;
-            }
-        }
-        jar.close();
-        return nodes;
+    /**
+     * Parses jar file and returns the YANG data-model nodes of its meta
+     * data, read directly from the jar without extracting it. Read content
+     * is cached against the jar file modification time.
+     *
+     * @param jarFile jar file to be parsed
+     * @return YANG data-model nodes
+     * @throws IOException when fails to do IO operations
+     */
+    public static List<YangNode> parseJarFile(String jarFile)
+            throws IOException {
+        return YangMetaDataLoader.load(jarFile);
     }
 
     /**
@@ -938,14 +946,10 @@ public final class DataModelUtils {
                     serializedFile.mkdirs();
                     continue;
                 }
-                InputStream inputStream = jar.getInputStream(file);
-
-                FileOutputStream fileOutputStream = new FileOutputStream(serializedFile);
-                while (inputStream.available() > 0) {
-                    fileOutputStream.write(inputStream.read());
+                try (InputStream inputStream = jar.getInputStream(file)) {
+                    Files.copy(inputStream, serializedFile.toPath(),
+                               REPLACE_EXISTING);
                 }
-                fileOutputStream.close();
-                inputStream.close();
                 //As of now only one metadata files will be there so if we
                 // found one then we should break the loop.
                 break;
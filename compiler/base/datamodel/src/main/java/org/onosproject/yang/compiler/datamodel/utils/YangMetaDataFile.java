@@ -0,0 +1,1087 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.datamodel.utils;
+
+import org.onosproject.yang.compiler.datamodel.YangNamespace;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isTransient;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Paths.get;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
+
+/**
+ * Represents YANG meta data file, a module indexed node table of the schema
+ * node trees of YANG modules.
+ * <p>
+ * Every object reachable from the schema nodes is an entry of the node
+ * table, and references between objects are node table indexes, so the
+ * objects shared by the modules, for example after linking, are shared
+ * again when they are read. The objects are encoded field by field, the
+ * fields being named in the class table; a field which is no longer part of
+ * a class is skipped and a field which is not in the file keeps the value
+ * its class constructor gives it. A module is decoded on first use, along
+ * with the objects reachable from it only.
+ * <p>
+ * The encoded objects are of the serializable classes outside the JDK,
+ * which have a constructor without parameters, of the java.util
+ * collections and maps, and arrays. Strings, boxed primitives, enum
+ * constants, dates, big numbers and bit sets are encoded as values.
+ * <p>
+ * All the numbers are in big endian order and the file is laid out as
+ * follows:
+ * <pre>
+ * header       : magic (int), layout version (int)
+ * string table : string count (int), followed by length (int) and UTF-8
+ *                bytes of each string
+ * class table  : class count (int), followed by name string index (int)
+ *                and kind (byte) of each class; objects also have field
+ *                count (int), followed by declaring class and field name
+ *                string indexes (int) of each field
+ * node table   : object count (int), followed by class index (int) and
+ *                data offset (int) of each object
+ * module table : module count (int), followed by name, revision, namespace
+ *                and file name string indexes (int, -1 when absent) and
+ *                node table index (int) of each module
+ * data         : tagged value of each field of objects, size (int) and
+ *                tagged elements of collections and arrays, size (int)
+ *                and tagged keys and values of maps
+ * </pre>
+ */
+public final class YangMetaDataFile {
+
+    /**
+     * Magic number of YANG meta data file.
+     */
+    public static final int MAGIC = 0x59414e47;
+
+    /**
+     * Layout version of YANG meta data file. It covers the whole file, the
+     * tables as well as the encoding of the objects; a file of any other
+     * layout version is not read.
+     */
+    public static final int LAYOUT_VERSION = 2;
+
+    private static final int NO_STRING = -1;
+    private static final int CHUNK_SIZE = 8192;
+    private static final String CORRUPTED = "corrupted YANG meta data file";
+    private static final String JAVA = "java.";
+    private static final String JAVAX = "javax.";
+    private static final String JAVA_UTIL = "java.util.";
+
+    // Kinds of the class table entries.
+    private static final byte OBJECT = 0;
+    private static final byte COLLECTION = 1;
+    private static final byte MAP = 2;
+    private static final byte ARRAY = 3;
+    private static final byte ENUM = 4;
+
+    // Tags of the encoded values.
+    private static final byte NULL = 0;
+    private static final byte REF = 1;
+    private static final byte STRING = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte BYTE = 4;
+    private static final byte SHORT = 5;
+    private static final byte CHAR = 6;
+    private static final byte INT = 7;
+    private static final byte LONG = 8;
+    private static final byte FLOAT = 9;
+    private static final byte DOUBLE = 10;
+    private static final byte CONSTANT = 11;
+    private static final byte DATE = 12;
+    private static final byte BIG_INTEGER = 13;
+    private static final byte BIG_DECIMAL = 14;
+    private static final byte BIT_SET = 15;
+
+    private final int layoutVersion;
+    private final String[] strings;
+    private final ClassEntry[] classes;
+    private final int[] objectClasses;
+    private final int[] objectOffsets;
+    private final Object[] objects;
+    private final ByteBuffer data;
+    private final List<Module> modules;
+
+    /**
+     * Creates an instance of YANG meta data file from its content.
+     *
+     * @param buffer content of YANG meta data file
+     * @throws IOException when content is not a valid YANG meta data file
+     */
+    private YangMetaDataFile(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("not a YANG meta data file");
+            }
+            layoutVersion = buffer.getInt();
+            if (layoutVersion != LAYOUT_VERSION) {
+                throw new IOException("unsupported YANG meta data file " +
+                                              "layout version " +
+                                              layoutVersion);
+            }
+            strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, UTF_8);
+            }
+            classes = new ClassEntry[buffer.getInt()];
+            for (int i = 0; i < classes.length; i++) {
+                String name = strings[buffer.getInt()];
+                byte kind = buffer.get();
+                int count = kind == OBJECT ? buffer.getInt() : 0;
+                String[] owners = new String[count];
+                String[] fields = new String[count];
+                for (int j = 0; j < count; j++) {
+                    owners[j] = strings[buffer.getInt()];
+                    fields[j] = strings[buffer.getInt()];
+                }
+                classes[i] = new ClassEntry(name, kind, owners, fields);
+            }
+            int count = buffer.getInt();
+            objectClasses = new int[count];
+            objectOffsets = new int[count];
+            for (int i = 0; i < count; i++) {
+                objectClasses[i] = buffer.getInt();
+                objectOffsets[i] = buffer.getInt();
+            }
+            objects = new Object[count];
+            count = buffer.getInt();
+            List<Module> list = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                list.add(new Module(string(strings, buffer.getInt()),
+                                    string(strings, buffer.getInt()),
+                                    string(strings, buffer.getInt()),
+                                    string(strings, buffer.getInt()),
+                                    buffer.getInt()));
+            }
+            modules = unmodifiableList(list);
+            data = buffer.slice();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException |
+                NegativeArraySizeException e) {
+            throw new IOException(CORRUPTED, e);
+        }
+    }
+
+    /**
+     * Opens YANG meta data file by memory mapping it.
+     *
+     * @param path path of YANG meta data file
+     * @return YANG meta data file
+     * @throws IOException when fails to do IO operations
+     */
+    public static YangMetaDataFile open(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(get(path), READ)) {
+            return new YangMetaDataFile(channel.map(READ_ONLY, 0,
+                                                    channel.size()));
+        }
+    }
+
+    /**
+     * Reads YANG meta data file from given input stream.
+     *
+     * @param stream input stream of YANG meta data file
+     * @return YANG meta data file
+     * @throws IOException when fails to do IO operations
+     */
+    public static YangMetaDataFile read(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = stream.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return wrap(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    /**
+     * Returns YANG meta data file over given content.
+     *
+     * @param buffer content of YANG meta data file
+     * @return YANG meta data file
+     * @throws IOException when content is not a valid YANG meta data file
+     */
+    public static YangMetaDataFile wrap(ByteBuffer buffer) throws IOException {
+        return new YangMetaDataFile(buffer);
+    }
+
+    /**
+     * Returns true if given file is a YANG meta data file.
+     *
+     * @param path path of file
+     * @return true if given file is a YANG meta data file
+     * @throws IOException when fails to do IO operations
+     */
+    public static boolean isMetaDataFile(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new FileInputStream(path))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes YANG meta data file for given schema nodes to the output
+     * stream.
+     *
+     * @param nodes  YANG schema nodes
+     * @param stream output stream
+     * @throws IOException when fails to do IO operations or when a schema
+     *                     node refers to an object which can not be encoded
+     */
+    public static void write(Collection<YangNode> nodes, OutputStream stream)
+            throws IOException {
+        // Keep the output stable across builds.
+        List<YangNode> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparing(YangNode::getName).thenComparing(
+                DataModelUtils::getDateInStringFormat,
+                nullsFirst(naturalOrder())));
+
+        Encoder encoder = new Encoder();
+        int[][] entries = new int[sorted.size()][];
+        for (int i = 0; i < entries.length; i++) {
+            YangNode node = sorted.get(i);
+            entries[i] = new int[]{
+                    encoder.string(node.getName()),
+                    encoder.string(getDateInStringFormat(node)),
+                    encoder.string(getNamespace(node)),
+                    encoder.string(node.getFileName()),
+                    encoder.object(node)};
+        }
+        encoder.encode();
+
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(LAYOUT_VERSION);
+        out.writeInt(encoder.strings.size());
+        for (String str : encoder.strings.keySet()) {
+            byte[] bytes = str.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(encoder.classes.size());
+        for (ClassEntry entry : encoder.classes) {
+            out.writeInt(encoder.string(entry.name));
+            out.writeByte(entry.kind);
+            if (entry.kind == OBJECT) {
+                out.writeInt(entry.fields.length);
+                for (Field field : entry.fields) {
+                    out.writeInt(encoder.string(
+                            field.getDeclaringClass().getName()));
+                    out.writeInt(encoder.string(field.getName()));
+                }
+            }
+        }
+        out.writeInt(encoder.objects.size());
+        for (int i = 0; i < encoder.objects.size(); i++) {
+            out.writeInt(encoder.objectClasses.get(i));
+            out.writeInt(encoder.objectOffsets.get(i));
+        }
+        out.writeInt(entries.length);
+        for (int[] entry : entries) {
+            for (int value : entry) {
+                out.writeInt(value);
+            }
+        }
+        encoder.bytes.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Returns layout version of YANG meta data file.
+     *
+     * @return layout version
+     */
+    public int layoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Returns modules of YANG meta data file.
+     *
+     * @return modules
+     */
+    public List<Module> modules() {
+        return modules;
+    }
+
+    /**
+     * Returns module for given name and revision.
+     *
+     * @param name     module name
+     * @param revision module revision, null if module has no revision
+     * @return module, null if there is no such module
+     */
+    public Module module(String name, String revision) {
+        for (Module module : modules) {
+            if (module.name().equals(name) &&
+                    Objects.equals(module.revision(), revision)) {
+                return module;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns schema nodes of all the modules, decoding the ones which are
+     * not read yet.
+     *
+     * @return schema nodes
+     * @throws IOException when fails to do IO operations
+     */
+    public Set<YangNode> nodes() throws IOException {
+        return nodes(Collections.emptySet());
+    }
+
+    /**
+     * Returns schema nodes of the modules, except the modules with given
+     * names which are not decoded at all.
+     *
+     * @param skipped names of modules to be skipped
+     * @return schema nodes
+     * @throws IOException when fails to do IO operations
+     */
+    public Set<YangNode> nodes(Set<String> skipped) throws IOException {
+        Set<YangNode> nodes = new LinkedHashSet<>();
+        for (Module module : modules) {
+            if (!skipped.contains(module.name())) {
+                nodes.add(module.node());
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns object of given node table index, decoding it along with the
+     * objects reachable from it which are not read yet.
+     *
+     * @param index node table index
+     * @return object
+     * @throws IOException when content is not a valid YANG meta data file
+     */
+    private synchronized Object decode(int index) throws IOException {
+        Decoder decoder = new Decoder();
+        try {
+            return decoder.decode(index);
+        } catch (IOException e) {
+            decoder.discard();
+            throw e;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException |
+                IllegalArgumentException | NegativeArraySizeException e) {
+            decoder.discard();
+            throw new IOException(CORRUPTED, e);
+        }
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    private static String getNamespace(YangNode node) {
+        if (node instanceof YangNamespace) {
+            return ((YangNamespace) node).getModuleNamespace();
+        }
+        return null;
+    }
+
+    private static boolean isJdkClass(Class<?> type) {
+        return type.getName().startsWith(JAVA) ||
+                type.getName().startsWith(JAVAX);
+    }
+
+    /**
+     * Returns the class the given collection or map is read back as; the
+     * java.util classes are kept and the others, such as unmodifiable views,
+     * are read as insertion ordered ones.
+     *
+     * @param container collection or map
+     * @return class to be read back as
+     * @throws IOException when collection or map can not be encoded
+     */
+    private static Class<?> containerClass(Object container)
+            throws IOException {
+        Class<?> type = container.getClass();
+        if (type.getName().startsWith(JAVA_UTIL) &&
+                isPublic(type.getModifiers())) {
+            try {
+                type.getConstructor();
+                if (container instanceof SortedSet &&
+                        ((SortedSet<?>) container).comparator() != null ||
+                        container instanceof SortedMap &&
+                                ((SortedMap<?, ?>) container)
+                                        .comparator() != null) {
+                    throw new IOException(type.getName() + " with a " +
+                                                  "comparator can't be " +
+                                                  "encoded");
+                }
+                return type;
+            } catch (NoSuchMethodException e) {
+                // Read as one of the insertion ordered classes below.
+            }
+        }
+        if (container instanceof Map) {
+            return LinkedHashMap.class;
+        }
+        if (container instanceof Set) {
+            return LinkedHashSet.class;
+        }
+        return ArrayList.class;
+    }
+
+    /**
+     * Returns fields of given class which are encoded, the ones of super
+     * classes first.
+     *
+     * @param type class
+     * @return encoded fields
+     */
+    private static Field[] encodedFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> cls = type; cls != null &&
+                Serializable.class.isAssignableFrom(cls);
+             cls = cls.getSuperclass()) {
+            hierarchy.add(0, cls);
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> cls : hierarchy) {
+            List<Field> declared = new ArrayList<>();
+            for (Field field : cls.getDeclaredFields()) {
+                if (!isStatic(field.getModifiers()) &&
+                        !isTransient(field.getModifiers())) {
+                    field.setAccessible(true);
+                    declared.add(field);
+                }
+            }
+            declared.sort(Comparator.comparing(Field::getName));
+            fields.addAll(declared);
+        }
+        return fields.toArray(new Field[fields.size()]);
+    }
+
+    /**
+     * Returns field of given class matching the encoded field, null if the
+     * class has no such field any more.
+     *
+     * @param type  class
+     * @param owner name of declaring class of encoded field
+     * @param name  name of encoded field
+     * @return field, null if there is no such field
+     */
+    private static Field decodedField(Class<?> type, String owner,
+                                      String name) {
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            if (!cls.getName().equals(owner)) {
+                continue;
+            }
+            try {
+                Field field = cls.getDeclaredField(name);
+                if (isStatic(field.getModifiers()) ||
+                        isTransient(field.getModifiers())) {
+                    return null;
+                }
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> load(String name) throws IOException {
+        try {
+            return Class.forName(name, false,
+                                 YangMetaDataFile.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            ClassLoader loader = Thread.currentThread()
+                    .getContextClassLoader();
+            try {
+                if (loader != null) {
+                    return Class.forName(name, false, loader);
+                }
+            } catch (ClassNotFoundException ex) {
+                // Reported below.
+            }
+            throw new IOException("class " + name + " of YANG meta data " +
+                                          "file not found", e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object constant(Class<?> type, String name) {
+        return Enum.valueOf((Class<Enum>) type, name);
+    }
+
+    /**
+     * Represents a module entry of YANG meta data file.
+     */
+    public final class Module {
+
+        private final String name;
+        private final String revision;
+        private final String namespace;
+        private final String fileName;
+        private final int root;
+
+        private Module(String name, String revision, String namespace,
+                       String fileName, int root) {
+            this.name = name;
+            this.revision = revision;
+            this.namespace = namespace;
+            this.fileName = fileName;
+            this.root = root;
+        }
+
+        /**
+         * Returns module name.
+         *
+         * @return module name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns module revision.
+         *
+         * @return module revision, null if module has no revision
+         */
+        public String revision() {
+            return revision;
+        }
+
+        /**
+         * Returns module namespace.
+         *
+         * @return module namespace, null if not known at compile time
+         */
+        public String namespace() {
+            return namespace;
+        }
+
+        /**
+         * Returns YANG file name of module.
+         *
+         * @return YANG file name
+         */
+        public String fileName() {
+            return fileName;
+        }
+
+        /**
+         * Returns schema node of module, decoding it on first use.
+         *
+         * @return schema node
+         * @throws IOException when fails to do IO operations
+         */
+        public YangNode node() throws IOException {
+            Object node = decode(root);
+            if (!(node instanceof YangNode)) {
+                throw new IOException(name + " failed to fetch node due " +
+                                              "to " + CORRUPTED);
+            }
+            return (YangNode) node;
+        }
+    }
+
+    /**
+     * Represents a class table entry of YANG meta data file.
+     */
+    private static final class ClassEntry {
+
+        private final String name;
+        private final byte kind;
+        private final String[] owners;
+        private final String[] names;
+        private Class<?> type;
+        private Constructor<?> constructor;
+        private Field[] fields;
+
+        /**
+         * Creates a class table entry to be written.
+         *
+         * @param type   class
+         * @param kind   kind of class
+         * @param fields encoded fields of objects
+         */
+        private ClassEntry(Class<?> type, byte kind, Field[] fields) {
+            this.name = type.getName();
+            this.kind = kind;
+            this.owners = null;
+            this.names = null;
+            this.type = type;
+            this.fields = fields;
+        }
+
+        /**
+         * Creates a class table entry which is read.
+         *
+         * @param name   class name
+         * @param kind   kind of class
+         * @param owners declaring class names of encoded fields
+         * @param names  names of encoded fields
+         */
+        private ClassEntry(String name, byte kind, String[] owners,
+                           String[] names) {
+            this.name = name;
+            this.kind = kind;
+            this.owners = owners;
+            this.names = names;
+        }
+
+        /**
+         * Resolves class, constructor and fields of the entry which is
+         * read, on first use.
+         *
+         * @throws IOException when class is not found or not usable
+         */
+        private void resolve() throws IOException {
+            if (type != null) {
+                return;
+            }
+            Class<?> cls = load(name);
+            if (kind == OBJECT || kind == COLLECTION || kind == MAP) {
+                try {
+                    constructor = cls.getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                } catch (NoSuchMethodException e) {
+                    throw new IOException("class " + name + " has no " +
+                                                  "constructor without " +
+                                                  "parameters", e);
+                }
+            }
+            if (kind == OBJECT) {
+                fields = new Field[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    fields[i] = decodedField(cls, owners[i], names[i]);
+                }
+            }
+            type = cls;
+        }
+    }
+
+    /**
+     * Represents encoder of the node table, which walks the objects
+     * reachable from the schema nodes in node table order.
+     */
+    private static final class Encoder {
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final List<ClassEntry> classes = new ArrayList<>();
+        private final Map<Class<?>, Integer> classIndexes = new IdentityHashMap<>();
+        private final Map<Object, Integer> ids = new IdentityHashMap<>();
+        private final List<Object> objects = new ArrayList<>();
+        private final List<Integer> objectClasses = new ArrayList<>();
+        private final List<Integer> objectOffsets = new ArrayList<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+
+        private int string(String str) {
+            if (str == null) {
+                return NO_STRING;
+            }
+            return strings.computeIfAbsent(str, s -> strings.size());
+        }
+
+        private int object(Object obj) throws IOException {
+            Integer id = ids.get(obj);
+            if (id == null) {
+                id = objects.size();
+                objectClasses.add(classIndex(obj));
+                ids.put(obj, id);
+                objects.add(obj);
+            }
+            return id;
+        }
+
+        private int classIndex(Object obj) throws IOException {
+            Class<?> type = obj.getClass();
+            byte kind;
+            if (obj instanceof Collection) {
+                kind = COLLECTION;
+                type = containerClass(obj);
+            } else if (obj instanceof Map) {
+                kind = MAP;
+                type = containerClass(obj);
+            } else if (type.isArray()) {
+                kind = ARRAY;
+            } else {
+                kind = OBJECT;
+            }
+            Integer index = classIndexes.get(type);
+            if (index != null) {
+                return index;
+            }
+            Field[] fields = null;
+            if (kind == OBJECT) {
+                if (isJdkClass(type)) {
+                    throw new IOException(type.getName() + " can't be " +
+                                                  "encoded in YANG meta " +
+                                                  "data file");
+                }
+                if (!(obj instanceof Serializable)) {
+                    throw new IOException(type.getName() + " is not " +
+                                                  "serializable");
+                }
+                try {
+                    type.getDeclaredConstructor();
+                } catch (NoSuchMethodException e) {
+                    throw new IOException(type.getName() + " has no " +
+                                                  "constructor without " +
+                                                  "parameters", e);
+                }
+                fields = encodedFields(type);
+            }
+            return register(type, kind, fields);
+        }
+
+        private int enumIndex(Class<?> type) {
+            Integer index = classIndexes.get(type);
+            if (index != null) {
+                return index;
+            }
+            return register(type, ENUM, null);
+        }
+
+        private int register(Class<?> type, byte kind, Field[] fields) {
+            int index = classes.size();
+            classes.add(new ClassEntry(type, kind, fields));
+            classIndexes.put(type, index);
+            string(type.getName());
+            if (fields != null) {
+                for (Field field : fields) {
+                    string(field.getDeclaringClass().getName());
+                    string(field.getName());
+                }
+            }
+            return index;
+        }
+
+        /**
+         * Encodes the objects of node table, including the ones which are
+         * reached while encoding.
+         *
+         * @throws IOException when an object can not be encoded
+         */
+        private void encode() throws IOException {
+            for (int i = 0; i < objects.size(); i++) {
+                Object obj = objects.get(i);
+                objectOffsets.add(data.size());
+                ClassEntry entry = classes.get(objectClasses.get(i));
+                switch (entry.kind) {
+                    case OBJECT:
+                        for (Field field : entry.fields) {
+                            try {
+                                value(field.get(obj));
+                            } catch (IllegalAccessException e) {
+                                throw new IOException(e.getMessage(), e);
+                            }
+                        }
+                        break;
+                    case COLLECTION:
+                        Collection<?> collection = (Collection<?>) obj;
+                        data.writeInt(collection.size());
+                        for (Object element : collection) {
+                            value(element);
+                        }
+                        break;
+                    case MAP:
+                        Map<?, ?> map = (Map<?, ?>) obj;
+                        data.writeInt(map.size());
+                        for (Map.Entry<?, ?> e : map.entrySet()) {
+                            value(e.getKey());
+                            value(e.getValue());
+                        }
+                        break;
+                    default:
+                        int length = Array.getLength(obj);
+                        data.writeInt(length);
+                        for (int j = 0; j < length; j++) {
+                            value(Array.get(obj, j));
+                        }
+                        break;
+                }
+            }
+        }
+
+        private void value(Object value) throws IOException {
+            if (value == null) {
+                data.writeByte(NULL);
+            } else if (value instanceof String) {
+                data.writeByte(STRING);
+                data.writeInt(string((String) value));
+            } else if (value instanceof Boolean) {
+                data.writeByte(BOOLEAN);
+                data.writeBoolean((Boolean) value);
+            } else if (value instanceof Byte) {
+                data.writeByte(BYTE);
+                data.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                data.writeByte(SHORT);
+                data.writeShort((Short) value);
+            } else if (value instanceof Character) {
+                data.writeByte(CHAR);
+                data.writeChar((Character) value);
+            } else if (value instanceof Integer) {
+                data.writeByte(INT);
+                data.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                data.writeByte(LONG);
+                data.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                data.writeByte(FLOAT);
+                data.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                data.writeByte(DOUBLE);
+                data.writeDouble((Double) value);
+            } else if (value instanceof Enum) {
+                Enum<?> constant = (Enum<?>) value;
+                data.writeByte(CONSTANT);
+                data.writeInt(enumIndex(constant.getDeclaringClass()));
+                data.writeInt(string(constant.name()));
+            } else if (value instanceof Date) {
+                data.writeByte(DATE);
+                data.writeLong(((Date) value).getTime());
+            } else if (value instanceof BigInteger) {
+                data.writeByte(BIG_INTEGER);
+                data.writeInt(string(value.toString()));
+            } else if (value instanceof BigDecimal) {
+                data.writeByte(BIG_DECIMAL);
+                data.writeInt(string(value.toString()));
+            } else if (value instanceof BitSet) {
+                byte[] bits = ((BitSet) value).toByteArray();
+                data.writeByte(BIT_SET);
+                data.writeInt(bits.length);
+                data.write(bits);
+            } else {
+                data.writeByte(REF);
+                data.writeInt(object(value));
+            }
+        }
+    }
+
+    /**
+     * Represents decoder of the node table, which decodes an object along
+     * with the objects reachable from it which are not read yet.
+     */
+    private final class Decoder {
+
+        private final ByteBuffer in = data.duplicate();
+        private final Deque<Integer> pending = new ArrayDeque<>();
+        private final List<Integer> created = new ArrayList<>();
+        private final List<Integer> containers = new ArrayList<>();
+        private final List<Object[]> contents = new ArrayList<>();
+
+        private Object decode(int index) throws IOException {
+            Object root = object(index);
+            while (!pending.isEmpty()) {
+                fill(pending.poll());
+            }
+            // Collections and maps are filled last, inner ones first, so
+            // that the hash of their elements is taken on complete objects.
+            for (int i = containers.size() - 1; i >= 0; i--) {
+                Object container = objects[containers.get(i)];
+                Object[] content = contents.get(i);
+                if (container instanceof Map) {
+                    Map<Object, Object> map = castMap(container);
+                    for (int j = 0; j < content.length; j += 2) {
+                        map.put(content[j], content[j + 1]);
+                    }
+                } else {
+                    Collection<Object> collection = castCollection(container);
+                    Collections.addAll(collection, content);
+                }
+            }
+            return root;
+        }
+
+        private void discard() {
+            for (int index : created) {
+                objects[index] = null;
+            }
+        }
+
+        private Object object(int index) throws IOException {
+            Object obj = objects[index];
+            if (obj != null) {
+                return obj;
+            }
+            ClassEntry entry = classes[objectClasses[index]];
+            entry.resolve();
+            try {
+                if (entry.kind == ARRAY) {
+                    obj = Array.newInstance(entry.type.getComponentType(),
+                                            data.getInt(objectOffsets[index]));
+                } else if (entry.kind == ENUM) {
+                    throw new IOException(CORRUPTED);
+                } else {
+                    obj = entry.constructor.newInstance();
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("failed to create " + entry.name, e);
+            }
+            objects[index] = obj;
+            created.add(index);
+            pending.add(index);
+            return obj;
+        }
+
+        private void fill(int index) throws IOException {
+            Object obj = objects[index];
+            ClassEntry entry = classes[objectClasses[index]];
+            in.position(objectOffsets[index]);
+            switch (entry.kind) {
+                case OBJECT:
+                    for (Field field : entry.fields) {
+                        Object value = value();
+                        if (field == null) {
+                            continue;
+                        }
+                        try {
+                            field.set(obj, value);
+                        } catch (IllegalArgumentException |
+                                IllegalAccessException e) {
+                            throw new IOException(
+                                    "field " + field.getName() + " of " +
+                                            entry.name + " does not match " +
+                                            "YANG meta data file", e);
+                        }
+                    }
+                    break;
+                case COLLECTION:
+                case MAP:
+                    int size = in.getInt();
+                    Object[] content = new Object[entry.kind == MAP ?
+                            size * 2 : size];
+                    for (int i = 0; i < content.length; i++) {
+                        content[i] = value();
+                    }
+                    containers.add(index);
+                    contents.add(content);
+                    break;
+                default:
+                    int length = in.getInt();
+                    for (int i = 0; i < length; i++) {
+                        Array.set(obj, i, value());
+                    }
+                    break;
+            }
+        }
+
+        private Object value() throws IOException {
+            byte tag = in.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case REF:
+                    return object(in.getInt());
+                case STRING:
+                    return strings[in.getInt()];
+                case BOOLEAN:
+                    return in.get() != 0;
+                case BYTE:
+                    return in.get();
+                case SHORT:
+                    return in.getShort();
+                case CHAR:
+                    return in.getChar();
+                case INT:
+                    return in.getInt();
+                case LONG:
+                    return in.getLong();
+                case FLOAT:
+                    return in.getFloat();
+                case DOUBLE:
+                    return in.getDouble();
+                case CONSTANT:
+                    ClassEntry entry = classes[in.getInt()];
+                    String name = strings[in.getInt()];
+                    entry.resolve();
+                    return constant(entry.type, name);
+                case DATE:
+                    return new Date(in.getLong());
+                case BIG_INTEGER:
+                    return new BigInteger(strings[in.getInt()]);
+                case BIG_DECIMAL:
+                    return new BigDecimal(strings[in.getInt()]);
+                case BIT_SET:
+                    byte[] bits = new byte[in.getInt()];
+                    in.get(bits);
+                    return BitSet.valueOf(bits);
+                default:
+                    throw new IOException(CORRUPTED);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<Object, Object> castMap(Object map) {
+            return (Map<Object, Object>) map;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Collection<Object> castCollection(Object collection) {
+            return (Collection<Object>) collection;
+        }
+    }
+}
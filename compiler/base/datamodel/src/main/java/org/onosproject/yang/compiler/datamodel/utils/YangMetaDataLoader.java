@@ -0,0 +1,227 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.datamodel.utils;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static org.onosproject.yang.compiler.datamodel.utils.YangMetaDataFile.MAGIC;
+
+/**
+ * Represents loader of YANG meta data from jar files. Meta data is read
+ * directly from the jar entry without extracting it to file system, and
+ * the content is cached against the jar path and its modification time,
+ * so that repeated loads of an unchanged jar do not touch it again. The
+ * cache holds the content of a bounded number of recently loaded entries
+ * through soft references, so content of jars which are no longer loaded,
+ * such as uninstalled bundles, does not stay in memory.
+ * <p>
+ * Only the jar read is cached: each load decodes the content again and
+ * returns new schema nodes, as callers link and update the returned nodes,
+ * so decoded nodes cannot be shared between loads.
+ */
+public final class YangMetaDataLoader {
+
+    private static final String SER = ".ser";
+    private static final String FIRST_SER = "*" + SER;
+    private static final int CHUNK_SIZE = 8192;
+    private static final int MAX_ENTRIES = 64;
+
+    // Guava is not used here, as the maven plugin class path carries an old
+    // google collections jar which shadows its classes.
+    private static final Map<String, SoftReference<Content>> CACHE =
+            new LinkedHashMap<String, SoftReference<Content>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, SoftReference<Content>> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    // Forbid construction.
+    private YangMetaDataLoader() {
+    }
+
+    /**
+     * Returns YANG nodes of the first serialized meta data entry of the
+     * given jar file.
+     *
+     * @param jarFile jar file path
+     * @return YANG nodes, empty if jar has no meta data
+     * @throws IOException when fails to do IO operations
+     */
+    public static List<YangNode> load(String jarFile) throws IOException {
+        byte[] bytes = content(jarFile, null);
+        List<YangNode> nodes = new ArrayList<>();
+        if (bytes != null) {
+            nodes.addAll(decode(jarFile, bytes));
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns YANG nodes of the given meta data entry of the jar file.
+     *
+     * @param jarFile jar file path
+     * @param entry   name of meta data entry in jar
+     * @return YANG nodes, null if jar has no such entry
+     * @throws IOException when fails to do IO operations
+     */
+    public static List<YangNode> load(String jarFile, String entry)
+            throws IOException {
+        byte[] bytes = content(jarFile, entry);
+        if (bytes == null) {
+            return null;
+        }
+        return new ArrayList<>(decode(jarFile, bytes));
+    }
+
+    /**
+     * Removes the cached meta data of given jar file.
+     *
+     * @param jarFile jar file path
+     */
+    public static void invalidate(String jarFile) {
+        synchronized (CACHE) {
+            CACHE.keySet().removeIf(
+                    key -> key.startsWith(jarFile + File.pathSeparator));
+        }
+    }
+
+    /**
+     * Returns content of the meta data entry, from cache if the jar file is
+     * not modified since it was read.
+     *
+     * @param jarFile jar file path
+     * @param entry   name of meta data entry, null for the first serialized
+     *                meta data entry
+     * @return content of the entry, null if jar has no such entry
+     * @throws IOException when fails to do IO operations
+     */
+    private static byte[] content(String jarFile, String entry)
+            throws IOException {
+        File file = new File(jarFile);
+        long modified = file.lastModified();
+        long length = file.length();
+        String key = jarFile + File.pathSeparator +
+                (entry == null ? FIRST_SER : entry);
+        Content content = cached(key);
+        if (content == null || content.modified != modified ||
+                content.length != length) {
+            content = new Content(modified, length, read(jarFile, entry));
+            synchronized (CACHE) {
+                CACHE.put(key, new SoftReference<>(content));
+            }
+        }
+        return content.bytes;
+    }
+
+    /**
+     * Returns the cached content of the meta data entry.
+     *
+     * @param key cache key of the entry
+     * @return cached content, null if not cached or reclaimed
+     */
+    private static Content cached(String key) {
+        synchronized (CACHE) {
+            SoftReference<Content> ref = CACHE.get(key);
+            return ref == null ? null : ref.get();
+        }
+    }
+
+    private static byte[] read(String jarFile, String entry)
+            throws IOException {
+        try (JarFile jar = new JarFile(jarFile)) {
+            JarEntry file = entry == null ? firstSer(jar) : jar.getJarEntry(entry);
+            if (file == null || file.isDirectory()) {
+                return null;
+            }
+            int size = (int) Math.max(file.getSize(), CHUNK_SIZE);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+            byte[] chunk = new byte[CHUNK_SIZE];
+            try (InputStream in = jar.getInputStream(file)) {
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    out.write(chunk, 0, read);
+                }
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static JarEntry firstSer(JarFile jar) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry file = entries.nextElement();
+            //As of now only one metadata files will be there so if we
+            // found one then we should stop.
+            if (file.getName().endsWith(SER) && !file.isDirectory()) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<YangNode> decode(String jarFile, byte[] bytes)
+            throws IOException {
+        if (bytes.length >= Integer.BYTES &&
+                ByteBuffer.wrap(bytes).getInt(0) == MAGIC) {
+            return YangMetaDataFile.wrap(ByteBuffer.wrap(bytes)).nodes();
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes))) {
+            return (Set<YangNode>) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(jarFile + " failed to fetch nodes due to " +
+                                          e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Represents cached content of a meta data entry.
+     */
+    private static final class Content {
+
+        private final long modified;
+        private final long length;
+        private final byte[] bytes;
+
+        private Content(long modified, long length, byte[] bytes) {
+            this.modified = modified;
+            this.length = length;
+            this.bytes = bytes;
+        }
+    }
+}
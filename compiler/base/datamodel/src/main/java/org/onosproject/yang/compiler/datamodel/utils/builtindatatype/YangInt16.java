@@ -56,7 +56,14 @@ public class YangInt16 extends DefaultLocationInfo
     /**
      * The value of YANG's int16.
      */
-    private final short value;
+    private short value;
+
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangInt16() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
@@ -56,7 +56,14 @@ public class YangInt32 extends DefaultLocationInfo
     /**
      * The value of YANG's int32.
      */
-    private final int value;
+    private int value;
+
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangInt32() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
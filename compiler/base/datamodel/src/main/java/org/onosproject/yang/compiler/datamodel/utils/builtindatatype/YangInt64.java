@@ -57,7 +57,14 @@ public class YangInt64 extends DefaultLocationInfo
     /**
      * The value of YANG's int64.
      */
-    private final long value;
+    private long value;
+
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangInt64() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
@@ -53,7 +53,14 @@ public class YangInt8 extends DefaultLocationInfo
     /**
      * The value of YANG's int8.
      */
-    private final byte value;
+    private byte value;
+
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangInt8() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
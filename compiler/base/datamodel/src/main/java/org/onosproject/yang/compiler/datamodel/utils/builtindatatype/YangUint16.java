@@ -55,6 +55,13 @@ public class YangUint16 extends DefaultLocationInfo
      */
     private int value;
 
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangUint16() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
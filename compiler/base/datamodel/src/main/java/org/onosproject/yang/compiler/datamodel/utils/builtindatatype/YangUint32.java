@@ -48,6 +48,13 @@ public class YangUint32 extends DefaultLocationInfo
      */
     private long value;
 
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangUint32() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
@@ -56,6 +56,13 @@ public class YangUint64 extends DefaultLocationInfo
      */
     private BigInteger value;
 
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangUint64() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
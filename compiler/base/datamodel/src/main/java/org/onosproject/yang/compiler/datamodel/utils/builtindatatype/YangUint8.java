@@ -55,6 +55,13 @@ public class YangUint8 extends DefaultLocationInfo
      */
     private short value;
 
+    /**
+     * Creates an object for the YANG meta data file, which sets the
+     * value afterwards.
+     */
+    private YangUint8() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.parser.impl;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.onosproject.yang.compiler.parser.antlrgencode.GeneratedYangParser.BodyStatementsContext;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Represents a parse listener which builds the data model while the YANG
+ * file is being parsed.
+ * <p>
+ * The listeners of the tree walk listener read the child contexts of the
+ * statement they are called for, so a statement is handed over only once
+ * it is completely parsed. Each top level body statement is walked when
+ * the parser enters the next one, or when parsing ends, and its parse tree
+ * is dropped right after, so only the tree of the statement being parsed
+ * is kept in memory along with the module header.
+ */
+final class StreamingParseListener implements ParseTreeListener {
+
+    private final ParseTreeListener listener;
+    private final ParseTreeWalker walker = ParseTreeWalker.DEFAULT;
+
+    // Contexts entered so far, with the number of children already walked.
+    private final Map<ParserRuleContext, Integer> walked =
+            new IdentityHashMap<>();
+
+    // Body statement parsed completely but not walked yet.
+    private ParserRuleContext pending;
+
+    /**
+     * Creates a streaming parse listener.
+     *
+     * @param listener listener which builds the data model
+     */
+    StreamingParseListener(ParseTreeListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if (pending != null && ctx.getParent() instanceof BodyStatementsContext) {
+            flush();
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        /*
+         * A rule is exited also when parsing is aborted, so the statement
+         * is only walked once parsing has moved past it.
+         */
+        if (ctx.getParent() instanceof BodyStatementsContext) {
+            pending = ctx;
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        // do nothing.
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        // do nothing.
+    }
+
+    /**
+     * Walks the part of the parse tree which is not walked yet. To be
+     * called once parsing is completed successfully.
+     *
+     * @param tree root of the parse tree
+     */
+    void finish(ParseTree tree) {
+        if (pending != null) {
+            flush();
+        }
+        resume(tree);
+    }
+
+    /**
+     * Walks the pending body statement along with everything parsed before
+     * it, and drops it from the parse tree.
+     */
+    private void flush() {
+        ParserRuleContext stmt = pending;
+        pending = null;
+        ParserRuleContext body = stmt.getParent();
+        enter(body);
+        int index = body.children.indexOf(stmt);
+        for (int i = 0; i <= index; i++) {
+            walker.walk(listener, body.children.get(i));
+        }
+        body.children.subList(0, index + 1).clear();
+    }
+
+    /**
+     * Enters the given context and its ancestors, if not entered already,
+     * walking the children parsed before it.
+     *
+     * @param ctx context to be entered
+     */
+    private void enter(ParserRuleContext ctx) {
+        if (walked.containsKey(ctx)) {
+            return;
+        }
+        ParserRuleContext parent = ctx.getParent();
+        if (parent != null) {
+            enter(parent);
+            int index = parent.children.indexOf(ctx);
+            for (int i = walked.get(parent); i < index; i++) {
+                walker.walk(listener, parent.getChild(i));
+            }
+            walked.put(parent, index);
+        }
+        listener.enterEveryRule(ctx);
+        ctx.enterRule(listener);
+        walked.put(ctx, 0);
+    }
+
+    /**
+     * Walks the given tree, skipping the children already walked.
+     *
+     * @param tree parse tree
+     */
+    private void resume(ParseTree tree) {
+        Integer done = walked.get(tree);
+        if (done == null) {
+            walker.walk(listener, tree);
+            return;
+        }
+        ParserRuleContext ctx = (ParserRuleContext) tree;
+        for (int i = done; i < ctx.getChildCount(); i++) {
+            resume(ctx.getChild(i));
+        }
+        ctx.exitRule(listener);
+        listener.exitEveryRule(ctx);
+    }
+}
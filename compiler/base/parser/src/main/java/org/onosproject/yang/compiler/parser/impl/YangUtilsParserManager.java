@@ -16,9 +16,12 @@
 
 package org.onosproject.yang.compiler.parser.impl;
 
-import org.antlr.v4.runtime.ANTLRFileStream;
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.onosproject.yang.compiler.datamodel.YangNode;
@@ -29,13 +32,68 @@ import org.onosproject.yang.compiler.parser.exceptions.ParserException;
 import org.onosproject.yang.compiler.parser.impl.parserutils.ParseTreeErrorListener;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Represents file parsing, parse tree creation and data model tree creation
  * corresponding to an input YANG file.
+ * <p>
+ * By default a file is first parsed in SLL prediction mode, which bails
+ * out on the first syntax error, and it is parsed again in full LL mode
+ * only when that fails. The prediction DFA of the generated parser is
+ * shared by all the parser instances, so it stays warm across files and
+ * compilations.
+ * <p>
+ * In streaming mode the data model is built while the file is being
+ * parsed, and the parse tree of each top level body statement is dropped
+ * once the statement is walked, so the memory taken by the parse tree stays
+ * bounded by the largest top level statement rather than the whole file.
+ * A semantic error in a statement may then be reported ahead of a syntax
+ * error further down the file.
  */
 public class YangUtilsParserManager implements YangUtilsParser {
 
+    private final boolean twoStage;
+    private final boolean streaming;
+
+    /**
+     * Creates an instance of YANG utils parser manager which parses in two
+     * stages.
+     */
+    public YangUtilsParserManager() {
+        this(true);
+    }
+
+    /**
+     * Creates an instance of YANG utils parser manager.
+     *
+     * @param twoStage true to parse in SLL prediction mode first and fall
+     *                 back to full LL mode on failure, false to always
+     *                 parse in full LL mode
+     */
+    public YangUtilsParserManager(boolean twoStage) {
+        this(twoStage, false);
+    }
+
+    /**
+     * Creates an instance of YANG utils parser manager.
+     *
+     * @param twoStage  true to parse in SLL prediction mode first and fall
+     *                  back to full LL mode on failure, false to always
+     *                  parse in full LL mode
+     * @param streaming true to build the data model while parsing, false
+     *                  to walk the parse tree once parsing is completed
+     */
+    public YangUtilsParserManager(boolean twoStage, boolean streaming) {
+        this.twoStage = twoStage;
+        this.streaming = streaming;
+    }
+
     @Override
     public YangNode getDataModel(String yangFile) throws IOException, ParserException {
 
@@ -45,7 +103,7 @@ public class YangUtilsParserManager implements YangUtilsParser {
          */
         ANTLRInputStream input;
         try {
-            input = new ANTLRFileStream(yangFile);
+            input = readYangFile(yangFile);
         } catch (IOException e) {
             throw new ParserException("YANG file error : YANG file does not exist. " + yangFile);
         }
@@ -62,34 +120,68 @@ public class YangUtilsParserManager implements YangUtilsParser {
         // Remove console error listener.
         parser.removeErrorListeners();
 
-        // Create instance of customized error listener.
-        ParseTreeErrorListener parseTreeErrorListener = new ParseTreeErrorListener();
-
-        // Add customized error listener to catch errors during parsing.
-        parser.addErrorListener(parseTreeErrorListener);
+        ParseTree tree = null;
 
-        ParseTree tree;
+        // Create a listener implementation class object.
+        TreeWalkListener treeWalker = createTreeWalker(yangFile);
+        StreamingParseListener streamer = null;
+        if (streaming) {
+            streamer = new StreamingParseListener(treeWalker);
+            parser.addParseListener(streamer);
+        }
 
-        try {
-            // Begin parsing YANG file and generate parse tree.
-            tree = parser.yangfile();
-        } catch (ParserException parserException) {
-            parserException.setFileName(yangFile);
-            throw parserException;
+        if (twoStage) {
+            // Try the faster SLL prediction, bailing out on first error.
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            parser.setErrorHandler(new BailErrorStrategy());
+            try {
+                tree = parser.yangfile();
+            } catch (ParseCancellationException e) {
+                // Parse again in full LL mode to get the actual error.
+                tokens.seek(0);
+                parser.reset();
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                parser.setErrorHandler(new DefaultErrorStrategy());
+                if (streaming) {
+                    // Part of the data model may have been built already.
+                    treeWalker = createTreeWalker(yangFile);
+                    streamer = new StreamingParseListener(treeWalker);
+                    parser.removeParseListeners();
+                    parser.addParseListener(streamer);
+                }
+            } catch (ParserException parserException) {
+                parserException.setFileName(yangFile);
+                throw parserException;
+            }
         }
 
-        // Create a walker to walk the parse tree.
-        ParseTreeWalker walker = new ParseTreeWalker();
+        if (tree == null) {
+            // Create instance of customized error listener.
+            ParseTreeErrorListener parseTreeErrorListener = new ParseTreeErrorListener();
 
-        // Create a listener implementation class object.
-        TreeWalkListener treeWalker = new TreeWalkListener();
-        treeWalker.setFileName(yangFile);
+            // Add customized error listener to catch errors during parsing.
+            parser.addErrorListener(parseTreeErrorListener);
+
+            try {
+                // Begin parsing YANG file and generate parse tree.
+                tree = parser.yangfile();
+            } catch (ParserException parserException) {
+                parserException.setFileName(yangFile);
+                throw parserException;
+            }
+        }
         /**
          * Walk parse tree, provide call backs to methods in listener and build
          * data model tree.
          */
         try {
-            walker.walk(treeWalker, tree);
+            if (streamer != null) {
+                streamer.finish(tree);
+            } else {
+                // Create a walker to walk the parse tree.
+                ParseTreeWalker walker = new ParseTreeWalker();
+                walker.walk(treeWalker, tree);
+            }
         } catch (ParserException listenerException) {
             // TODO free incomplete data model tree.
             listenerException.setFileName(yangFile);
@@ -101,4 +193,33 @@ public class YangUtilsParserManager implements YangUtilsParser {
         // Returns the Root Node of the constructed data model tree.
         return treeWalker.getRootNode();
     }
+
+    /**
+     * Returns a new tree walk listener for the given YANG file.
+     *
+     * @param yangFile YANG file
+     * @return tree walk listener
+     */
+    private static TreeWalkListener createTreeWalker(String yangFile) {
+        TreeWalkListener treeWalker = new TreeWalkListener();
+        treeWalker.setFileName(yangFile);
+        return treeWalker;
+    }
+
+    /**
+     * Returns char stream of YANG file, read in one go.
+     *
+     * @param yangFile YANG file
+     * @return char stream
+     * @throws IOException when fails to read the file
+     */
+    private static ANTLRInputStream readYangFile(String yangFile)
+            throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(yangFile));
+        CharBuffer chars = UTF_8.decode(ByteBuffer.wrap(bytes));
+        ANTLRInputStream input = new ANTLRInputStream(chars.array(),
+                                                      chars.limit());
+        input.name = yangFile;
+        return input;
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.parser.impl;
+
+import org.junit.After;
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangNotification;
+import org.onosproject.yang.compiler.datamodel.utils.YangMetaDataFile;
+import org.onosproject.yang.compiler.parser.exceptions.ParserException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.deSerializeDataModel;
+
+/**
+ * Test cases for YANG meta data file.
+ */
+public class YangMetaDataFileTest {
+
+    private static final String META_DATA = "target/YangMetaDataFileTest.ser";
+
+    private final YangUtilsParserManager manager = new YangUtilsParserManager();
+
+    @After
+    public void tearDown() {
+        new File(META_DATA).delete();
+    }
+
+    private Set<YangNode> parse() throws IOException, ParserException {
+        Set<YangNode> nodes = new HashSet<>();
+        nodes.add(manager.getDataModel("src/test/resources/AnyxmlStatement.yang"));
+        nodes.add(manager.getDataModel("src/test/resources/BelongsToWithPrefix.yang"));
+        return nodes;
+    }
+
+    private void write(Set<YangNode> nodes) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(META_DATA)) {
+            YangMetaDataFile.write(nodes, out);
+        }
+    }
+
+    /**
+     * Checks module table of a memory mapped YANG meta data file and
+     * deserialization of a single module.
+     */
+    @Test
+    public void processModuleTable() throws IOException, ParserException {
+        write(parse());
+
+        YangMetaDataFile file = YangMetaDataFile.open(META_DATA);
+        assertThat(file.layoutVersion(), is(YangMetaDataFile.LAYOUT_VERSION));
+        assertThat(file.modules().size(), is(2));
+
+        assertThat(file.modules().get(0).name(), is("Test"));
+        YangMetaDataFile.Module event = file.module("event", null);
+        assertThat(event.name(), is("event"));
+        assertThat(event.revision(), nullValue());
+        assertThat(event.namespace(), is("http://example.com/event"));
+
+        YangMetaDataFile.Module module = file.module("Test", null);
+        assertThat(module.namespace(), nullValue());
+        YangNode node = module.node();
+        assertThat(node.getName(), is("Test"));
+        assertThat(module.node() == node, is(true));
+        assertThat(file.module("Test", "2016-01-01"), nullValue());
+    }
+
+    /**
+     * Checks both YANG meta data file and java serialized data model are
+     * de-serialized.
+     */
+    @Test
+    public void processDeSerialize() throws IOException, ParserException {
+        write(parse());
+        assertThat(YangMetaDataFile.isMetaDataFile(META_DATA), is(true));
+        assertThat(deSerializeDataModel(META_DATA).size(), is(2));
+        Set<YangNode> nodes = deSerializeDataModel(META_DATA,
+                                                   singleton("Test"));
+        assertThat(nodes.size(), is(1));
+        assertThat(nodes.iterator().next().getName(), is("event"));
+
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new FileOutputStream(META_DATA))) {
+            out.writeObject(parse());
+        }
+        assertThat(YangMetaDataFile.isMetaDataFile(META_DATA), is(false));
+        assertThat(deSerializeDataModel(META_DATA).size(), is(2));
+        assertThat(deSerializeDataModel(META_DATA, singleton("event")).size(),
+                   is(1));
+    }
+
+    /**
+     * Checks schema node tree is decoded from the node table with its
+     * references, including the ones back to the parent.
+     */
+    @Test
+    public void processNodeTable() throws IOException, ParserException {
+        write(parse());
+
+        YangNode node = YangMetaDataFile.open(META_DATA)
+                .module("event", null).node();
+        YangNotification notification = (YangNotification) node.getChild();
+        assertThat(notification.getName(), is("event"));
+        assertThat(notification.getParent(), sameInstance(node));
+        assertThat(notification.getNextSibling(), nullValue());
+
+        YangLeaf leaf = notification.getListOfLeaf().get(0);
+        assertThat(leaf.getName(), is("event-class"));
+        assertThat(leaf.getContainedIn(), sameInstance(notification));
+        assertThat(leaf.getDataType().getDataTypeName(), is("string"));
+    }
+
+    /**
+     * Checks YANG meta data file of other layout version is not read.
+     */
+    @Test(expected = IOException.class)
+    public void processOtherLayoutVersion() throws IOException,
+            ParserException {
+        write(parse());
+        try (RandomAccessFile file = new RandomAccessFile(META_DATA, "rw")) {
+            file.seek(Integer.BYTES);
+            file.writeInt(YangMetaDataFile.LAYOUT_VERSION - 1);
+        }
+        YangMetaDataFile.open(META_DATA);
+    }
+}
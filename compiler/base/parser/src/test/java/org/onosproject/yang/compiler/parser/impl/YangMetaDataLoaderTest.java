@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.parser.impl;
+
+import org.junit.After;
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.utils.YangMetaDataFile;
+import org.onosproject.yang.compiler.datamodel.utils.YangMetaDataLoader;
+import org.onosproject.yang.compiler.parser.exceptions.ParserException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * Test cases for loading YANG meta data from jar files.
+ */
+public class YangMetaDataLoaderTest {
+
+    private static final String JAR = "target/YangMetaDataLoaderTest.jar";
+    private static final String ENTRY = "yang/resources/YangMetaData.ser";
+
+    private final YangUtilsParserManager manager = new YangUtilsParserManager();
+
+    @After
+    public void tearDown() {
+        YangMetaDataLoader.invalidate(JAR);
+        new File(JAR).delete();
+    }
+
+    private void writeJar(String... yangFiles)
+            throws IOException, ParserException {
+        Set<YangNode> nodes = new HashSet<>();
+        for (String yangFile : yangFiles) {
+            nodes.add(manager.getDataModel("src/test/resources/" + yangFile));
+        }
+        try (JarOutputStream out = new JarOutputStream(
+                new FileOutputStream(JAR))) {
+            out.putNextEntry(new JarEntry("yang/resources/"));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry(ENTRY));
+            YangMetaDataFile.write(nodes, out);
+            out.closeEntry();
+        }
+    }
+
+    /**
+     * Checks meta data is loaded from jar and each load returns newly
+     * materialised nodes.
+     */
+    @Test
+    public void processLoad() throws IOException, ParserException {
+        writeJar("AnyxmlStatement.yang", "BelongsToWithPrefix.yang");
+
+        List<YangNode> first = YangMetaDataLoader.load(JAR);
+        assertThat(first.size(), is(2));
+        List<YangNode> second = YangMetaDataLoader.load(JAR, ENTRY);
+        assertThat(second.size(), is(2));
+        assertThat(second.contains(first.get(0)), is(false));
+        assertThat(YangMetaDataLoader.load(JAR, "yang/resources/none.dat"),
+                   nullValue());
+    }
+
+    /**
+     * Checks cached meta data is reloaded when jar file is modified.
+     */
+    @Test
+    public void processModifiedJar() throws IOException, ParserException {
+        writeJar("AnyxmlStatement.yang", "BelongsToWithPrefix.yang");
+        File jar = new File(JAR);
+        long modified = jar.lastModified();
+        assertThat(YangMetaDataLoader.load(JAR).size(), is(2));
+
+        writeJar("AnyxmlStatement.yang");
+        jar.setLastModified(modified - 10000);
+        assertThat(YangMetaDataLoader.load(JAR).size(), is(1));
+    }
+}
@@ -27,6 +27,9 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
 /**
  * Test case for testing YANG utils parser manager.
  */
@@ -101,4 +104,129 @@ public class YangUtilsParserManagerTest {
 
         YangNode node = manager.getDataModel("demo.yang");
     }
-}
\ No newline at end of file
+
+    /**
+     * This test case checks two stage parsing builds the same data model
+     * tree as parsing in full LL mode.
+     */
+    @Test
+    public void getDataModelTwoStageTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("container cont { leaf leaf1 { type string; } }\n");
+        out.write("}\n");
+        out.close();
+
+        YangNode node = manager.getDataModel("demo.yang");
+        YangNode llNode = new YangUtilsParserManager(false)
+                .getDataModel("demo.yang");
+        assertThat(node.getName(), is(llNode.getName()));
+        assertThat(node.getChild().getName(), is("cont"));
+        assertThat(llNode.getChild().getName(), is("cont"));
+    }
+
+    /**
+     * This test case checks two stage parsing reports the same error as
+     * parsing in full LL mode.
+     */
+    @Test
+    public void getDataModelTwoStageErrorTest() throws IOException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("}\n");
+        out.close();
+
+        ParserException twoStage = null;
+        ParserException ll = null;
+        try {
+            manager.getDataModel("demo.yang");
+        } catch (ParserException e) {
+            twoStage = e;
+        }
+        try {
+            new YangUtilsParserManager(false).getDataModel("demo.yang");
+        } catch (ParserException e) {
+            ll = e;
+        }
+        assertThat(twoStage.getMessage(), is(ll.getMessage()));
+        assertThat(twoStage.getLineNumber(), is(ll.getLineNumber()));
+        assertThat(twoStage.getFileName(), is("demo.yang"));
+    }
+
+    /**
+     * This test case checks building the data model while parsing gives
+     * the same data model tree as walking the parse tree.
+     */
+    @Test
+    public void getDataModelStreamingTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("container cont1 { leaf leaf1 { type string; } }\n");
+        out.write("leaf leaf2 { type int32; }\n");
+        out.write("list list1 { key leaf3; leaf leaf3 { type string; } }\n");
+        out.write("container cont2 { container cont3 { presence true; } }\n");
+        out.write("}\n");
+        out.close();
+
+        YangNode node = new YangUtilsParserManager(true, true)
+                .getDataModel("demo.yang");
+        YangNode walked = new YangUtilsParserManager(true, false)
+                .getDataModel("demo.yang");
+        assertThat(node.getName(), is(walked.getName()));
+
+        YangNode child = node.getChild();
+        YangNode walkedChild = walked.getChild();
+        assertThat(child.getName(), is("cont1"));
+        while (walkedChild != null) {
+            assertThat(child.getName(), is(walkedChild.getName()));
+            child = child.getNextSibling();
+            walkedChild = walkedChild.getNextSibling();
+        }
+        assertThat(child == null, is(true));
+        assertThat(node.getChild().getNextSibling().getNextSibling()
+                           .getChild().getName(), is("cont3"));
+    }
+
+    /**
+     * This test case checks building the data model while parsing reports
+     * a syntax error after a valid statement the same as walking the parse
+     * tree.
+     */
+    @Test
+    public void getDataModelStreamingErrorTest() throws IOException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("container cont1 { leaf leaf1 { type string; } }\n");
+        out.write("container cont2 { leaf leaf2 { type string } }\n");
+        out.write("}\n");
+        out.close();
+
+        ParserException streaming = null;
+        ParserException walked = null;
+        try {
+            new YangUtilsParserManager(true, true).getDataModel("demo.yang");
+        } catch (ParserException e) {
+            streaming = e;
+        }
+        try {
+            new YangUtilsParserManager(false).getDataModel("demo.yang");
+        } catch (ParserException e) {
+            walked = e;
+        }
+        assertThat(streaming.getMessage(), is(walked.getMessage()));
+        assertThat(streaming.getLineNumber(), is(6));
+        assertThat(streaming.getFileName(), is("demo.yang"));
+    }
+}
@@ -21,8 +21,13 @@ import org.onosproject.yang.compiler.api.YangCompiledOutput;
 import org.onosproject.yang.compiler.api.YangCompilerException;
 import org.onosproject.yang.compiler.api.YangCompilerService;
 import org.onosproject.yang.compiler.datamodel.YangDeviationHolder;
+import org.onosproject.yang.compiler.datamodel.YangImport;
+import org.onosproject.yang.compiler.datamodel.YangInclude;
+import org.onosproject.yang.compiler.datamodel.YangModule;
+import org.onosproject.yang.compiler.datamodel.YangNamespace;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangReferenceResolver;
+import org.onosproject.yang.compiler.datamodel.YangSubModule;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 import org.onosproject.yang.compiler.linker.YangLinker;
 import org.onosproject.yang.compiler.linker.exceptions.LinkerException;
@@ -35,39 +40,53 @@ import org.onosproject.yang.model.DefaultYangModel;
 import org.onosproject.yang.model.DefaultYangModule;
 import org.onosproject.yang.model.DefaultYangModuleId;
 import org.onosproject.yang.model.YangModel;
-import org.onosproject.yang.model.YangModule;
 import org.onosproject.yang.model.YangModuleId;
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.file.Files.copy;
 import static java.nio.file.Paths.get;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.sort;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_IDENTITYREF;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.deSerializeDataModel;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
+import static org.onosproject.yang.compiler.datamodel.utils.YangMetaDataFile.write;
 import static org.onosproject.yang.compiler.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
 import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
+import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.translate;
 import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.translatorErrorHandler;
+import static org.onosproject.yang.compiler.translator.tojava.utils.JavaIdentifierSyntax.getRootPackage;
 import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.SLASH;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_LINKED_META_DATA;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
 import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getJavaFiles;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.createDirectories;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getPackageDirPathFromJavaJPackage;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -76,6 +95,15 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class YangCompilerManager implements YangCompilerService {
 
     private static final Logger log = getLogger(YangCompilerManager.class);
+    private static final String PARSER_THREAD = "yang-parser-";
+
+    /**
+     * Default number of YANG files parsed concurrently.
+     */
+    public static final int DEFAULT_PARALLELISM =
+            Runtime.getRuntime().availableProcessors();
+
+    private final int parallelism;
     private final YangUtilsParser yangUtilsParser = new YangUtilsParserManager();
     private final YangLinker yangLinker = new YangLinkerManager();
     private final Set<YangNode> yangNodeSet = new HashSet<>();
@@ -84,11 +112,35 @@ public class YangCompilerManager implements YangCompilerService {
     private Set<YangFileInfo> yangFileInfoSet; //initialize in tool invocation;
     private YangFileInfo curYangFileInfo = new YangFileInfo();
     private Set<Path> genJavaPath = new LinkedHashSet<>();
+    private Set<Path> changedYangFiles; // null when translating all files.
+
+    /**
+     * Creates an instance of YANG compiler manager.
+     */
+    public YangCompilerManager() {
+        this(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates an instance of YANG compiler manager which parses at most the
+     * given number of YANG files concurrently.
+     *
+     * @param parallelism maximum number of YANG files parsed concurrently
+     */
+    public YangCompilerManager(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
 
     @Override
     public YangCompiledOutput compileYangFiles(YangCompilationParam param)
             throws IOException, YangCompilerException {
-        synchronized (YangCompilerManager.class) {
+        // State of a compilation is held by this instance, so compilations
+        // by different instances can run at the same time.
+        synchronized (this) {
 
             YangPluginConfig config = new YangPluginConfig();
             config.setCodeGenDir(param.getCodeGenDir().toString() + SLASH);
@@ -103,6 +155,33 @@ public class YangCompilerManager implements YangCompilerService {
         }
     }
 
+    /**
+     * Compiles the YANG files, generating java code only for the given
+     * changed YANG files and for the YANG files depending on them through
+     * import, include or belongs-to statements. All the YANG files are
+     * still parsed and linked, and the schema meta data covers all of them.
+     * Code generated earlier for the files being translated is deleted
+     * before translation, while code of the other files is left as it is.
+     *
+     * @param param        YANG compilation parameters
+     * @param changedFiles changed YANG files
+     * @return compiled output
+     * @throws IOException           when fails to do IO operations
+     * @throws YangCompilerException when fails to compile YANG files
+     */
+    public YangCompiledOutput compileYangFiles(YangCompilationParam param,
+                                               Set<Path> changedFiles)
+            throws IOException, YangCompilerException {
+        synchronized (this) {
+            changedYangFiles = changedFiles;
+            try {
+                return compileYangFiles(param);
+            } finally {
+                changedYangFiles = null;
+            }
+        }
+    }
+
     /**
      * Returns YANG model for application.
      *
@@ -114,9 +193,8 @@ public class YangCompilerManager implements YangCompilerService {
         YangModuleId id;
         for (YangNode node : yangNodeSet) {
             id = processModuleId(node);
-            YangModule module =
-                    new DefaultYangModule(id, get(node.getFileName()), get(path));
-            b.addModule(id, module);
+            b.addModule(id, new DefaultYangModule(id, get(node.getFileName()),
+                                                  get(path)));
         }
         return b.build();
     }
@@ -172,7 +250,7 @@ public class YangCompilerManager implements YangCompilerService {
                                   Set<YangNode> dependentSchema,
                                   YangPluginConfig config) throws IOException {
 
-        synchronized (YangCompilerManager.class) {
+        synchronized (this) {
             try {
 
                 yangFileInfoSet = yangFiles;
@@ -198,9 +276,17 @@ public class YangCompilerManager implements YangCompilerService {
                 // Resolve dependencies using linker.
                 resolveDependenciesUsingLinker();
 
+                // Limit translation to the changed files, if given.
+                if (changedYangFiles != null) {
+                    limitTranslation(changedYangFiles, config);
+                }
+
                 // Perform translation to JAVA.
                 translateToJava(config);
 
+                // Serialize linked data model for runtime.
+                processLinkedSerialization(config.resourceGenDir());
+
                 //add to generated java code map
                 processGeneratedCode(config.getCodeGenDir());
 
@@ -249,9 +335,17 @@ public class YangCompilerManager implements YangCompilerService {
      */
     private Set<YangNode> dependentSchema(Set<Path> dependentSchemaPath) {
         Set<YangNode> depNodes = new LinkedHashSet<>();
+        // Meta data of a jar holds the modules of its own dependencies as
+        // well; only the first one of a module is used, so the others are
+        // not read.
+        Set<String> names = new HashSet<>();
         for (Path path : dependentSchemaPath) {
             try {
-                depNodes.addAll(deSerializeDataModel(path.toString()));
+                for (YangNode node : deSerializeDataModel(path.toString(),
+                                                          names)) {
+                    names.add(node.getName());
+                    depNodes.add(node);
+                }
             } catch (IOException e) {
                 throw new YangCompilerException(
                         "Failed to fetch dependent schema from given " +
@@ -299,6 +393,122 @@ public class YangCompilerManager implements YangCompilerService {
         }
     }
 
+    /**
+     * Marks the nodes which neither are nor depend on the changed YANG
+     * files as not to be translated, and deletes the code generated earlier
+     * for the others.
+     *
+     * @param changedFiles changed YANG files
+     * @param config       tool configurations
+     * @throws IOException when fails to delete generated code
+     */
+    private void limitTranslation(Set<Path> changedFiles,
+                                  YangPluginConfig config) throws IOException {
+        Set<Path> changedPaths = new HashSet<>();
+        for (Path file : changedFiles) {
+            changedPaths.add(file.toAbsolutePath().normalize());
+        }
+        Set<YangNode> changed = new HashSet<>();
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            if (yangFileInfo.isForTranslator() && changedPaths.contains(
+                    get(yangFileInfo.getYangFileName()).toAbsolutePath()
+                            .normalize())) {
+                changed.add(yangFileInfo.getRootNode());
+            }
+        }
+
+        Set<YangNode> affected = getAffectedNodes(changed);
+        for (YangNode node : yangNodeSet) {
+            if (!affected.contains(node)) {
+                node.setToTranslate(false);
+            } else if (node.isToTranslate()) {
+                deleteDirectory(config.getCodeGenDir() +
+                                        getPackageDirPathFromJavaJPackage(
+                                                getRootPkg(node, config)));
+            }
+        }
+        log.info("Translating " + affected.size() + " of " +
+                         yangNodeSet.size() + " YANG files.");
+    }
+
+    /**
+     * Returns the given nodes along with all the nodes depending on them
+     * through import, include or belongs-to statements, as linked by the
+     * linker. A deviation changes the module it deviates, so the modules
+     * imported by a deviation module are taken as depending on it.
+     *
+     * @param changed changed nodes
+     * @return affected nodes
+     */
+    private Set<YangNode> getAffectedNodes(Set<YangNode> changed) {
+        Map<YangNode, Set<YangNode>> dependents = new HashMap<>();
+        for (YangNode node : yangNodeSet) {
+            YangReferenceResolver resolver = (YangReferenceResolver) node;
+            boolean deviation = ((YangDeviationHolder) node)
+                    .isModuleForDeviation();
+            for (YangImport yangImport : resolver.getImportList()) {
+                addDependent(dependents, yangImport.getImportedNode(), node);
+                if (deviation) {
+                    addDependent(dependents, node,
+                                 yangImport.getImportedNode());
+                }
+            }
+            for (YangInclude yangInclude : resolver.getIncludeList()) {
+                addDependent(dependents, yangInclude.getIncludedNode(), node);
+            }
+            if (node instanceof YangSubModule) {
+                addDependent(dependents, ((YangSubModule) node)
+                        .getBelongsTo().getModuleNode(), node);
+            }
+        }
+
+        Set<YangNode> affected = new HashSet<>();
+        Deque<YangNode> pending = new ArrayDeque<>(changed);
+        while (!pending.isEmpty()) {
+            YangNode node = pending.pop();
+            if (affected.add(node) && dependents.containsKey(node)) {
+                pending.addAll(dependents.get(node));
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Adds a node depending on the given node.
+     *
+     * @param dependents map of nodes to the nodes depending on them
+     * @param node       node depended on
+     * @param dependent  node depending on it
+     */
+    private static void addDependent(Map<YangNode, Set<YangNode>> dependents,
+                                     YangNode node, YangNode dependent) {
+        if (node != null && node != dependent) {
+            dependents.computeIfAbsent(node, k -> new HashSet<>())
+                    .add(dependent);
+        }
+    }
+
+    /**
+     * Returns the root java package of the given module or sub-module, the
+     * same as derived by the translator.
+     *
+     * @param node   module or sub-module node
+     * @param config tool configurations
+     * @return root java package
+     */
+    private static String getRootPkg(YangNode node, YangPluginConfig config) {
+        String name = ((YangNamespace) node).getModuleName();
+        if (node instanceof YangSubModule) {
+            YangSubModule subModule = (YangSubModule) node;
+            return getRootPackage(subModule.getVersion(), name,
+                                  subModule.getRevision(),
+                                  config.getConflictResolver());
+        }
+        YangModule module = (YangModule) node;
+        return getRootPackage(module.getVersion(), name, module.getRevision(),
+                              config.getConflictResolver());
+    }
+
     /**
      * Creates YANG nodes set.
      */
@@ -310,36 +520,131 @@ public class YangCompilerManager implements YangCompilerService {
 
     /**
      * Parses all the provided YANG files and generates YANG data model tree.
+     * Files are parsed concurrently on a bounded pool. Errors of all the
+     * files are reported, and the first one is thrown with the others
+     * added as suppressed.
      *
      * @throws IOException a violation in IO
      */
     public void parseYangFileInfoSet()
             throws IOException {
+        List<YangFileInfo> files = new ArrayList<>();
         for (YangFileInfo yangFileInfo : yangFileInfoSet) {
-            curYangFileInfo = yangFileInfo;
             if (yangFileInfo.isForTranslator()) {
-                try {
-                    YangNode yangNode = yangUtilsParser.getDataModel(
-                            yangFileInfo.getYangFileName());
-                    yangFileInfo.setRootNode(yangNode);
-                    resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
-                    try {
-                        ((YangReferenceResolver) yangNode)
-                                .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
-                        ((YangReferenceResolver) yangNode)
-                                .resolveSelfFileLinking(YANG_IDENTITYREF);
-                    } catch (DataModelException e) {
-                        printLog(e.getFileName(), e.getLineNumber(), e
-                                .getCharPositionInLine(), e.getMessage(), e
-                                         .getLocalizedMessage());
-                    }
-                } catch (ParserException e) {
-                    printLog(e.getFileName(), e.getLineNumber(), e
-                            .getCharPositionInLine(), e.getMessage(), e
-                                     .getLocalizedMessage());
-                    throw e;
+                files.add(yangFileInfo);
+            }
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+
+        List<ParserException> errors = new ArrayList<>(files.size());
+        int threads = Math.min(parallelism, files.size());
+        if (threads == 1) {
+            for (YangFileInfo yangFileInfo : files) {
+                errors.add(parseYangFile(yangFileInfo));
+            }
+        } else {
+            AtomicInteger count = new AtomicInteger();
+            ExecutorService pool = newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, PARSER_THREAD +
+                        count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<ParserException>> results = new ArrayList<>();
+                for (YangFileInfo yangFileInfo : files) {
+                    results.add(pool.submit(() -> parseYangFile(yangFileInfo)));
+                }
+                for (Future<ParserException> result : results) {
+                    errors.add(getParseResult(result));
                 }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        // Report errors of all the files, and fail with the first one.
+        ParserException error = null;
+        for (int i = 0; i < files.size(); i++) {
+            ParserException e = errors.get(i);
+            if (e == null) {
+                continue;
+            }
+            printLog(e.getFileName(), e.getLineNumber(), e
+                    .getCharPositionInLine(), e.getMessage(), e
+                             .getLocalizedMessage());
+            if (error == null) {
+                error = e;
+                curYangFileInfo = files.get(i);
+            } else {
+                error.addSuppressed(e);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        curYangFileInfo = files.get(files.size() - 1);
+    }
+
+    /**
+     * Parses a YANG file and resolves its self file linking.
+     *
+     * @param yangFileInfo YANG file information
+     * @return parser exception of the file, null if parsed successfully
+     * @throws IOException when fails to do IO operations
+     */
+    private ParserException parseYangFile(YangFileInfo yangFileInfo)
+            throws IOException {
+        try {
+            YangNode yangNode = yangUtilsParser.getDataModel(
+                    yangFileInfo.getYangFileName());
+            yangFileInfo.setRootNode(yangNode);
+            resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
+            try {
+                ((YangReferenceResolver) yangNode)
+                        .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
+                ((YangReferenceResolver) yangNode)
+                        .resolveSelfFileLinking(YANG_IDENTITYREF);
+            } catch (DataModelException e) {
+                printLog(e.getFileName(), e.getLineNumber(), e
+                        .getCharPositionInLine(), e.getMessage(), e
+                                 .getLocalizedMessage());
             }
+            return null;
+        } catch (ParserException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Returns result of parsing a YANG file in parser pool.
+     *
+     * @param result pending result
+     * @return parser exception of the file, null if parsed successfully
+     * @throws IOException when fails to do IO operations
+     */
+    private static ParserException getParseResult(
+            Future<ParserException> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while parsing " +
+                                                     "YANG files");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
         }
     }
 
@@ -397,11 +702,32 @@ public class YangCompilerManager implements YangCompilerService {
         }
 
         String serFileName = path + YANG_META_DATA;
-        FileOutputStream fileOutputStream = new FileOutputStream(serFileName);
-        ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-        objectOutputStream.writeObject(compiledSchemas);
-        objectOutputStream.close();
-        fileOutputStream.close();
+        try (FileOutputStream fileOutputStream = new FileOutputStream(serFileName)) {
+            write(compiledSchemas, fileOutputStream);
+        }
+    }
+
+    /**
+     * Process serialization of linked datamodel. The serialized datamodel
+     * is linked and updated with java info the same way the runtime does
+     * it on registration, so that the runtime can use it as it is.
+     *
+     * @param path path of resource directory
+     * @throws IOException when fails to IO operations
+     */
+    private void processLinkedSerialization(String path) throws IOException {
+        Set<YangNode> linkedSchemas = deSerializeDataModel(path + YANG_META_DATA);
+        new YangLinkerManager().resolveDependencies(linkedSchemas);
+        for (YangNode node : linkedSchemas) {
+            if (!((YangDeviationHolder) node).isModuleForDeviation()) {
+                translate(node, new YangPluginConfig(), false);
+            }
+        }
+
+        String serFileName = path + YANG_LINKED_META_DATA;
+        try (FileOutputStream fileOutputStream = new FileOutputStream(serFileName)) {
+            write(linkedSchemas, fileOutputStream);
+        }
     }
 
     /**
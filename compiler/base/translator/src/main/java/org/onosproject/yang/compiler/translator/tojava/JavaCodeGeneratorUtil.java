@@ -38,6 +38,9 @@ import static org.onosproject.yang.compiler.datamodel.TraversalType.ROOT;
 import static org.onosproject.yang.compiler.datamodel.TraversalType.SIBLING;
 import static org.onosproject.yang.compiler.translator.tojava.YangJavaModelUtils.updateJavaInfo;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaIdentifierSyntax.getEnumJavaAttribute;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.DEFAULT_SPILL_THRESHOLD;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.startBuffering;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.stopBuffering;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.searchAndDeleteTempDir;
 
 /**
@@ -63,6 +66,33 @@ public final class JavaCodeGeneratorUtil {
     public static void translate(YangNode rootNode, YangPluginConfig yangPlugin,
                                  boolean codeGen)
             throws TranslatorException, IOException {
+        // Files of the translation are kept in memory till closed, and what
+        // is left of them is dropped once the translation ends.
+        boolean owner = startBuffering(yangPlugin == null ?
+                                               DEFAULT_SPILL_THRESHOLD :
+                                               yangPlugin.getSpillThreshold());
+        try {
+            translateNodes(rootNode, yangPlugin, codeGen);
+        } finally {
+            if (owner) {
+                stopBuffering();
+            }
+        }
+    }
+
+    /**
+     * Translates the YANG info of the nodes under the root node to java info.
+     *
+     * @param rootNode   root node
+     * @param yangPlugin YANG plugin configurations
+     * @param codeGen    true if code generation is required
+     * @throws TranslatorException when fails to generate java code file the current node
+     * @throws IOException         when fails to do IO operations
+     */
+    private static void translateNodes(YangNode rootNode,
+                                       YangPluginConfig yangPlugin,
+                                       boolean codeGen)
+            throws TranslatorException, IOException {
         YangNode codeGenNode = rootNode;
         TraversalType curTraversal = ROOT;
 
@@ -19,11 +19,13 @@ import org.onosproject.yang.compiler.datamodel.RpcNotificationContainer;
 import org.onosproject.yang.compiler.datamodel.YangAugment;
 import org.onosproject.yang.compiler.datamodel.YangAugmentableNode;
 import org.onosproject.yang.compiler.datamodel.YangCase;
+import org.onosproject.yang.compiler.datamodel.YangContainer;
 import org.onosproject.yang.compiler.datamodel.YangDataStructure;
 import org.onosproject.yang.compiler.datamodel.YangLeaf;
 import org.onosproject.yang.compiler.datamodel.YangLeafList;
 import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
 import org.onosproject.yang.compiler.datamodel.YangList;
+import org.onosproject.yang.compiler.datamodel.YangModule;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.YangType;
@@ -72,6 +74,7 @@ import static org.onosproject.yang.compiler.translator.tojava.YangJavaModelUtils
 import static org.onosproject.yang.compiler.translator.tojava.javamodel.AttributesJavaDataType.updateJavaFileInfo;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.generateEnumAttributeString;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.getJavaAttributeDefinition;
+import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateCodecClassFile;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateDefaultClassFile;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateInterfaceFile;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateKeyClassFile;
@@ -101,6 +104,7 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.AUGMENTABLE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.BIT_SET;
 import static org.onosproject.yang.compiler.utils.UtilConstants.CLASS_STRING;
 import static org.onosproject.yang.compiler.utils.UtilConstants.CLOSE_CURLY_BRACKET;
+import static org.onosproject.yang.compiler.utils.UtilConstants.CODEC;
 import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT;
 import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT_CAPS;
 import static org.onosproject.yang.compiler.utils.UtilConstants.DIAMOND_CLOSE_BRACKET;
@@ -128,6 +132,8 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.SPACE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.STRING_JOINER_CLASS;
 import static org.onosproject.yang.compiler.utils.UtilConstants.VALUE_LEAF;
 import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.closeFile;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.createBufferedFile;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.isFilePresent;
 import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.readAppendFile;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType.ADD_TO_LIST;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType.GETTER_METHOD;
@@ -301,6 +307,16 @@ public class TempJavaFragmentFiles {
      */
     private File implClassJavaFileHandle;
 
+    /**
+     * Java file handle for codec class file.
+     */
+    private File codecClassJavaFileHandle;
+
+    /**
+     * Attributes which are settable through the generated codec class.
+     */
+    private final List<JavaAttributeInfo> codecAttributes = new ArrayList<>();
+
     /**
      * Temporary file handle for attribute.
      */
@@ -1189,22 +1205,10 @@ public class TempJavaFragmentFiles {
     protected File getTemporaryFileHandle(String fileName)
             throws IOException {
         String path = getTempDirPath(absoluteDirPath);
-        File dir = new File(path);
-        boolean isCreated;
-        if (!dir.exists()) {
-            isCreated = dir.mkdirs();
-            if (!isCreated) {
-                throw new IOException("failed to create temporary directory " +
-                                              "for " + fileName);
-            }
-        }
         File file = new File(path + fileName + TEMP_FILE_EXTENSION);
-        if (!file.exists()) {
-            isCreated = file.createNewFile();
-            if (!isCreated) {
-                throw new IOException("failed to create temporary file for " +
-                                              fileName);
-            }
+        if (!isFilePresent(file)) {
+            // Fragments are kept in memory till merged in to the java file.
+            createBufferedFile(file);
         } else {
             throw new IOException(fileName + " is reused due to YANG naming. " +
                                           "probably your previous build " +
@@ -1237,7 +1241,7 @@ public class TempJavaFragmentFiles {
     public String getTemporaryDataFromFileHandle(File file, String absolutePath)
             throws IOException {
         String path = getTempDirPath(absolutePath);
-        if (new File(path + file.getName()).exists()) {
+        if (isFilePresent(new File(path + file.getName()))) {
             return readAppendFile(path + file.getName(), EMPTY_STRING);
         }
         throw new IOException("Unable to get data from the given " +
@@ -1472,6 +1476,7 @@ public class TempJavaFragmentFiles {
 
         if (tempFlagSet(SETTER_FOR_CLASS_MASK) && required) {
             addSetterImpl(newAttrInfo);
+            codecAttributes.add(newAttrInfo);
         }
         if (tempFlagSet(HASH_CODE_IMPL_MASK)) {
             addHashCodeMethod(newAttrInfo);
@@ -1659,6 +1664,22 @@ public class TempJavaFragmentFiles {
 
             insertDataIntoJavaFile(implClassJavaFileHandle, CLOSE_CURLY_BRACKET);
             formatFile(implClassJavaFileHandle);
+
+            //Create codec class file.
+            if (curNode instanceof YangContainer ||
+                    curNode instanceof YangList ||
+                    curNode instanceof YangModule) {
+                String implName = getImplClassName(curNode);
+                codecClassJavaFileHandle =
+                        getJavaFileHandle(implName + CODEC);
+                codecClassJavaFileHandle =
+                        generateCodecClassFile(codecClassJavaFileHandle,
+                                               curNode, implName,
+                                               codecAttributes);
+                insertDataIntoJavaFile(codecClassJavaFileHandle,
+                                       CLOSE_CURLY_BRACKET);
+                formatFile(codecClassJavaFileHandle);
+            }
         }
 
         if (curNode instanceof YangList) {
@@ -1667,6 +1688,7 @@ public class TempJavaFragmentFiles {
                     getJavaFileHandle(getJavaClassName(
                             KEY_CLASS_FILE_NAME_SUFFIX));
             generateKeyClassFile(keyClassJavaFileHandle, curNode);
+            closeFile(keyClassJavaFileHandle, false);
         }
         //Close all the file handles.
         freeTemporaryResources(false);
@@ -1698,6 +1720,7 @@ public class TempJavaFragmentFiles {
 
         if (javaFlagSet(DEFAULT_CLASS_MASK)) {
             closeFile(implClassJavaFileHandle, errorOccurred);
+            closeFile(codecClassJavaFileHandle, errorOccurred);
         }
         /*
          * Close all temporary file handles and delete the files.
@@ -85,6 +85,7 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.VOID;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RPC_SERVICE;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.getJavaDocForExecuteMethod;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.getJavaDocForRpcCommandConstructor;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.closeFile;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getAbsolutePackagePath;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCapitalCase;
@@ -211,6 +212,7 @@ public class TempJavaRpcCommandFragmentFiles extends TempJavaFragmentFiles {
         try {
             rpcCommandClassTempFileHandle = getJavaFileHandle(className);
             generateRpcCommand(rpcCommandClassTempFileHandle, curNode, imports);
+            closeFile(rpcCommandClassTempFileHandle, false);
         } catch (IOException e) {
             throw new TranslatorException(
                     "Failed to generate code for RPC command " + curNode.getName());
@@ -654,6 +654,7 @@ public class TempJavaTypeFragmentFiles
 
         if ((getGeneratedJavaFiles() & GENERATE_TYPEDEF_CLASS) != 0 ||
                 (getGeneratedJavaFiles() & GENERATE_UNION_CLASS) != 0) {
+            closeFile(typedefClassJavaFileHandle, isErrorOccurred);
             closeFile(typeClassJavaFileHandle, isErrorOccurred);
         }
 
@@ -76,6 +76,7 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.HYPHEN;
 import static org.onosproject.yang.compiler.utils.UtilConstants.INPUT_KEYWORD;
 import static org.onosproject.yang.compiler.utils.UtilConstants.OUTPUT_KEYWORD;
 import static org.onosproject.yang.compiler.utils.UtilConstants.PERIOD;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.closeFile;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.addPackageInfo;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.formatFile;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
@@ -793,6 +794,7 @@ public final class YangJavaModelUtils {
                                                       rootNode, false)),
                                CLOSE_CURLY_BRACKET);
         formatFile(interFace);
+        closeFile(interFace, false);
     }
 
     /**
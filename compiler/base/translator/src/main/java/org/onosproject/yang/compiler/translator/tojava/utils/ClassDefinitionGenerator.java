@@ -29,6 +29,7 @@ import org.onosproject.yang.compiler.translator.tojava.JavaQualifiedTypeInfoTran
 import org.onosproject.yang.compiler.translator.tojava.TempJavaCodeFragmentFilesContainer;
 
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_CODEC_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
@@ -77,6 +78,7 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.KEYS;
 import static org.onosproject.yang.compiler.utils.UtilConstants.KEY_INFO;
 import static org.onosproject.yang.compiler.utils.UtilConstants.LISTENER_SERVICE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.MODEL_OBJECT;
+import static org.onosproject.yang.compiler.utils.UtilConstants.MODEL_OBJECT_CODEC;
 import static org.onosproject.yang.compiler.utils.UtilConstants.MULTI_INSTANCE_OBJECT;
 import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.OPEN_CURLY_BRACKET;
@@ -160,6 +162,8 @@ final class ClassDefinitionGenerator {
                 return getEventListenerDefinition(yangName);
             case GENERATE_KEY_CLASS:
                 return getKeyClassDefinition(yangName, curNode);
+            case GENERATE_CODEC_CLASS:
+                return getCodecClassDefinition(yangName);
             case GENERATE_EVENT_SUBJECT_CLASS:
                 return getClassDefinition(yangName);
             case GENERATE_IDENTITY_CLASS:
@@ -249,6 +253,18 @@ final class ClassDefinitionGenerator {
                                            keyInfo);
     }
 
+    /**
+     * Returns codec class definition.
+     *
+     * @param yangName file name
+     * @return codec class definition
+     */
+    private static String getCodecClassDefinition(String yangName) {
+        return getDefinitionWithImplements(CLASS, yangName,
+                                           getSpecificModifier(PUBLIC, FINAL),
+                                           MODEL_OBJECT_CODEC);
+    }
+
     /**
      * Returns implementation file identity class definition.
      *
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.translator.tojava.utils;
+
+import org.onosproject.yang.compiler.datamodel.YangDataStructure;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yang.compiler.translator.tojava.JavaAttributeInfo;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yang.compiler.translator.tojava.utils.IndentationType.FOUR_SPACE;
+import static org.onosproject.yang.compiler.translator.tojava.utils.JavaIdentifierSyntax.getEnumJavaAttribute;
+import static org.onosproject.yang.compiler.translator.tojava.utils.MethodClassTypes.CLASS_TYPE;
+import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGenerator.getYangDataStructure;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getOpenCloseParaWithValue;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getOverRideString;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getReturnString;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.methodClose;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.methodSignature;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.multiAttrMethodSignature;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.signatureClose;
+import static org.onosproject.yang.compiler.utils.UtilConstants.ADD_STRING;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BIG_DECIMAL;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BIG_INTEGER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BOOLEAN_DATA_TYPE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BOOLEAN_WRAPPER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BYTE_WRAPPER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.CASE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.CLOSE_CURLY_BRACKET;
+import static org.onosproject.yang.compiler.utils.UtilConstants.CLOSE_PARENTHESIS;
+import static org.onosproject.yang.compiler.utils.UtilConstants.COLON;
+import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT;
+import static org.onosproject.yang.compiler.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.EQUAL;
+import static org.onosproject.yang.compiler.utils.UtilConstants.FALSE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.FOUR_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.FROM_STRING_METHOD_NAME;
+import static org.onosproject.yang.compiler.utils.UtilConstants.IF;
+import static org.onosproject.yang.compiler.utils.UtilConstants.INSTANCE_OF;
+import static org.onosproject.yang.compiler.utils.UtilConstants.INTEGER_WRAPPER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.JAVA_MATH;
+import static org.onosproject.yang.compiler.utils.UtilConstants.LEAF_IDENTIFIER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.LONG_WRAPPER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.NEW;
+import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.NULL;
+import static org.onosproject.yang.compiler.utils.UtilConstants.OBJECT_STRING;
+import static org.onosproject.yang.compiler.utils.UtilConstants.OF;
+import static org.onosproject.yang.compiler.utils.UtilConstants.OPEN_CURLY_BRACKET;
+import static org.onosproject.yang.compiler.utils.UtilConstants.OPEN_PARENTHESIS;
+import static org.onosproject.yang.compiler.utils.UtilConstants.PERIOD;
+import static org.onosproject.yang.compiler.utils.UtilConstants.PUBLIC;
+import static org.onosproject.yang.compiler.utils.UtilConstants.QUOTES;
+import static org.onosproject.yang.compiler.utils.UtilConstants.SHORT_WRAPPER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.SPACE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.STRING_DATA_TYPE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.SWITCH;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TO_CAPS;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TRUE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.VALUE;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents utility class to generate the methods of the reflection free
+ * model object codec classes.
+ */
+public final class CodecMethodsGenerator {
+
+    private static final String OBJ = "obj";
+    private static final String ATTRIBUTE = "attribute";
+    private static final String CHILD = "child";
+    private static final String TARGET = "target";
+    private static final String NEW_OBJECT = "newObject";
+    private static final String SET_LEAF = "setLeaf";
+    private static final String SET_CHILD = "setChild";
+    private static final String GET = "get";
+    private static final String IS_LEAF_VALUE_SET = "isLeafValueSet";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String TO_STRING = ".toString()";
+    private static final String GET_BYTES = ".getBytes()";
+    private static final String JAVA_PKG_PREFIX = "java.";
+
+    // No instantiation.
+    private CodecMethodsGenerator() {
+    }
+
+    /**
+     * Returns the methods of the codec class of the given default class.
+     *
+     * @param implName name of the default class
+     * @param attrs    attributes of the default class
+     * @return methods of the codec class
+     */
+    public static String getCodecMethods(String implName,
+                                         List<JavaAttributeInfo> attrs) {
+        StringBuilder leaves = new StringBuilder();
+        StringBuilder children = new StringBuilder();
+        StringBuilder getters = new StringBuilder();
+        StringBuilder flags = new StringBuilder();
+        for (JavaAttributeInfo attr : attrs) {
+            if (attr.isIntConflict() || attr.isLongConflict() ||
+                    attr.isShortConflict()) {
+                continue;
+            }
+            String name = attr.getAttributeName();
+            getters.append(getCase(name, getReturnString(
+                    TARGET + PERIOD + name + OPEN_PARENTHESIS +
+                            CLOSE_PARENTHESIS, SIXTEEN_SPACE_INDENTATION) +
+                    signatureClose()));
+            if (getYangDataStructure(attr.getCompilerAnnotation()) ==
+                    YangDataStructure.MAP) {
+                continue;
+            }
+            if (attr.getAttributeType() == null) {
+                children.append(getCase(name, getInvocation(
+                        attr, getCast(getQualifiedType(attr), CHILD),
+                        SIXTEEN_SPACE_INDENTATION)));
+                continue;
+            }
+            String leafCase = getLeafCase(attr);
+            if (leafCase != null) {
+                leaves.append(getCase(name, leafCase));
+            }
+            flags.append(getCase(name, getReturnString(
+                    TARGET + PERIOD + IS_LEAF_VALUE_SET + getOpenCloseParaWithValue(
+                            implName + PERIOD + LEAF_IDENTIFIER + PERIOD +
+                                    getEnumJavaAttribute(name).toUpperCase()),
+                    SIXTEEN_SPACE_INDENTATION) + signatureClose()));
+        }
+
+        Map<String, String> leafParams = new LinkedHashMap<>();
+        leafParams.put(OBJ, OBJECT_STRING);
+        leafParams.put(ATTRIBUTE, STRING_DATA_TYPE);
+        leafParams.put(VALUE, OBJECT_STRING);
+
+        Map<String, String> childParams = new LinkedHashMap<>();
+        childParams.put(OBJ, OBJECT_STRING);
+        childParams.put(ATTRIBUTE, STRING_DATA_TYPE);
+        childParams.put(CHILD, OBJECT_STRING);
+
+        Map<String, String> getParams = new LinkedHashMap<>();
+        getParams.put(OBJ, OBJECT_STRING);
+        getParams.put(ATTRIBUTE, STRING_DATA_TYPE);
+
+        return getOverRideString() +
+                methodSignature(NEW_OBJECT, null, PUBLIC, null, OBJECT_STRING,
+                                null, CLASS_TYPE) +
+                getReturnString(NEW + SPACE + implName + OPEN_PARENTHESIS +
+                                        CLOSE_PARENTHESIS,
+                                EIGHT_SPACE_INDENTATION) + signatureClose() +
+                methodClose(FOUR_SPACE) +
+                getOverRideString() +
+                multiAttrMethodSignature(SET_LEAF, null, PUBLIC,
+                                         BOOLEAN_DATA_TYPE, leafParams,
+                                         CLASS_TYPE,
+                                         FOUR_SPACE_INDENTATION) +
+                getSwitch(implName, leaves.toString(), FALSE) +
+                methodClose(FOUR_SPACE) +
+                getOverRideString() +
+                multiAttrMethodSignature(SET_CHILD, null, PUBLIC,
+                                         BOOLEAN_DATA_TYPE, childParams,
+                                         CLASS_TYPE,
+                                         FOUR_SPACE_INDENTATION) +
+                getSwitch(implName, children.toString(), FALSE) +
+                methodClose(FOUR_SPACE) +
+                getOverRideString() +
+                multiAttrMethodSignature(GET, null, PUBLIC, OBJECT_STRING,
+                                         getParams, CLASS_TYPE,
+                                         FOUR_SPACE_INDENTATION) +
+                getSwitch(implName, getters.toString(), UNKNOWN) +
+                methodClose(FOUR_SPACE) +
+                getOverRideString() +
+                multiAttrMethodSignature(IS_LEAF_VALUE_SET, null, PUBLIC,
+                                         BOOLEAN_WRAPPER, getParams,
+                                         CLASS_TYPE,
+                                         FOUR_SPACE_INDENTATION) +
+                getSwitch(implName, flags.toString(), NULL) +
+                methodClose(FOUR_SPACE);
+    }
+
+    /*
+     * Returns the switch over the attribute name with the given cases, or
+     * only the default return when there are no cases.
+     */
+    private static String getSwitch(String implName, String cases,
+                                    String defaultValue) {
+        if (cases.isEmpty()) {
+            return getReturnString(defaultValue, EIGHT_SPACE_INDENTATION) +
+                    signatureClose();
+        }
+        return EIGHT_SPACE_INDENTATION + implName + SPACE + TARGET + SPACE +
+                EQUAL + SPACE + getCast(implName, OBJ) + signatureClose() +
+                EIGHT_SPACE_INDENTATION + SWITCH + SPACE +
+                getOpenCloseParaWithValue(ATTRIBUTE) + SPACE +
+                OPEN_CURLY_BRACKET + NEW_LINE +
+                cases + TWELVE_SPACE_INDENTATION + DEFAULT + COLON + NEW_LINE +
+                getReturnString(defaultValue, SIXTEEN_SPACE_INDENTATION) +
+                signatureClose() + EIGHT_SPACE_INDENTATION +
+                CLOSE_CURLY_BRACKET + NEW_LINE;
+    }
+
+    /*
+     * Returns the case label for the attribute followed by the given body.
+     */
+    private static String getCase(String name, String body) {
+        return TWELVE_SPACE_INDENTATION + CASE + SPACE + QUOTES + name +
+                QUOTES + COLON + NEW_LINE + body;
+    }
+
+    /*
+     * Returns the setter or add to list invocation of the attribute
+     * followed by the successful return.
+     */
+    private static String getInvocation(JavaAttributeInfo attr, String value,
+                                        String indentation) {
+        String name = attr.getAttributeName();
+        String method = name;
+        if (attr.isListAttr()) {
+            method = ADD_STRING + TO_CAPS + getCapitalCase(name);
+        }
+        return indentation + TARGET + PERIOD + method +
+                getOpenCloseParaWithValue(value) + signatureClose() +
+                getReturnString(TRUE, indentation) + signatureClose();
+    }
+
+    /*
+     * Returns the case body which converts the leaf value to the attribute
+     * type and sets it, or null when the conversion is left to the
+     * reflection path.
+     */
+    private static String getLeafCase(JavaAttributeInfo attr) {
+        YangDataTypes type = attr.getAttributeType().getDataType();
+        switch (type) {
+            case INT8:
+                return getCheckedCase(attr, BYTE_WRAPPER);
+            case UINT8:
+            case INT16:
+                return getCheckedCase(attr, SHORT_WRAPPER);
+            case UINT16:
+            case INT32:
+                return getCheckedCase(attr, INTEGER_WRAPPER);
+            case UINT32:
+            case INT64:
+                return getCheckedCase(attr, LONG_WRAPPER);
+            case UINT64:
+                return getCheckedCase(attr, JAVA_MATH + PERIOD + BIG_INTEGER);
+            case BOOLEAN:
+                return getCheckedCase(attr, BOOLEAN_WRAPPER);
+            case STRING:
+                return getCheckedCase(attr, STRING_DATA_TYPE);
+            case DECIMAL64:
+                return getInvocation(attr, NEW + SPACE + JAVA_MATH + PERIOD +
+                                             BIG_DECIMAL + getOpenCloseParaWithValue(
+                        VALUE + TO_STRING), SIXTEEN_SPACE_INDENTATION);
+            case BINARY:
+                return getInvocation(attr, getOpenCloseParaWithValue(
+                        getCast(STRING_DATA_TYPE, VALUE)) + GET_BYTES,
+                                     SIXTEEN_SPACE_INDENTATION);
+            case DERIVED:
+            case UNION:
+                return getFactoryCase(attr, FROM_STRING_METHOD_NAME);
+            case ENUMERATION:
+                return getFactoryCase(attr, OF);
+            default:
+                return null;
+        }
+    }
+
+    /*
+     * Returns the case body which sets the value only when it is an
+     * instance of the expected wrapper type, so that a mismatch is reported
+     * back to the caller instead of failing with a class cast.
+     */
+    private static String getCheckedCase(JavaAttributeInfo attr,
+                                         String wrapper) {
+        return SIXTEEN_SPACE_INDENTATION + IF + SPACE +
+                getOpenCloseParaWithValue(VALUE + INSTANCE_OF + wrapper) +
+                SPACE + OPEN_CURLY_BRACKET + NEW_LINE +
+                getInvocation(attr, getCast(wrapper, VALUE),
+                              TWENTY_SPACE_INDENTATION) +
+                SIXTEEN_SPACE_INDENTATION + CLOSE_CURLY_BRACKET + NEW_LINE +
+                getReturnString(FALSE, SIXTEEN_SPACE_INDENTATION) +
+                signatureClose();
+    }
+
+    /*
+     * Returns the case body which sets the value through the generated
+     * static factory of derived, union and enumeration types.
+     */
+    private static String getFactoryCase(JavaAttributeInfo attr,
+                                         String method) {
+        String pkg = attr.getImportInfo().getPkgInfo();
+        if (pkg == null || pkg.startsWith(JAVA_PKG_PREFIX)) {
+            return null;
+        }
+        return getInvocation(attr, getQualifiedType(attr) + PERIOD + method +
+                getOpenCloseParaWithValue(VALUE + TO_STRING),
+                             SIXTEEN_SPACE_INDENTATION);
+    }
+
+    /*
+     * Returns the fully qualified type of the attribute.
+     */
+    private static String getQualifiedType(JavaAttributeInfo attr) {
+        String pkg = attr.getImportInfo().getPkgInfo();
+        String cls = attr.getImportInfo().getClassInfo();
+        if (pkg == null) {
+            return cls;
+        }
+        return pkg + PERIOD + cls;
+    }
+
+    /*
+     * Returns the cast of the variable to the given type.
+     */
+    private static String getCast(String type, String var) {
+        return getOpenCloseParaWithValue(type) + SPACE + var;
+    }
+
+}
@@ -46,6 +46,7 @@ import java.util.List;
 import static java.util.Collections.sort;
 import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.IDENTITYREF;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_CODEC_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
@@ -86,6 +87,7 @@ import static org.onosproject.yang.compiler.translator.tojava.TempJavaRpcFragmen
 import static org.onosproject.yang.compiler.translator.tojava.TempJavaRpcFragmentFiles.getRpcExtendedCommandContents;
 import static org.onosproject.yang.compiler.translator.tojava.TempJavaRpcFragmentFiles.getRpcHandlerContents;
 import static org.onosproject.yang.compiler.translator.tojava.utils.IndentationType.FOUR_SPACE;
+import static org.onosproject.yang.compiler.translator.tojava.utils.CodecMethodsGenerator.getCodecMethods;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.addStaticAttributeIntRange;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.addStaticAttributeLongRange;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.addStaticAttributeShortRange;
@@ -136,6 +138,7 @@ import static org.onosproject.yang.compiler.translator.tojava.utils.TranslatorUt
 import static org.onosproject.yang.compiler.utils.UtilConstants.BIG_INTEGER;
 import static org.onosproject.yang.compiler.utils.UtilConstants.CLASS_STRING;
 import static org.onosproject.yang.compiler.utils.UtilConstants.CLOSE_CURLY_BRACKET;
+import static org.onosproject.yang.compiler.utils.UtilConstants.CODEC;
 import static org.onosproject.yang.compiler.utils.UtilConstants.COMMA;
 import static org.onosproject.yang.compiler.utils.UtilConstants.COMMAND;
 import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT;
@@ -157,6 +160,7 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.JAVA_UTIL_OBJECT
 import static org.onosproject.yang.compiler.utils.UtilConstants.JAVA_UTIL_PKG;
 import static org.onosproject.yang.compiler.utils.UtilConstants.KEYS;
 import static org.onosproject.yang.compiler.utils.UtilConstants.KEY_INFO;
+import static org.onosproject.yang.compiler.utils.UtilConstants.MODEL_OBJECT_CODEC;
 import static org.onosproject.yang.compiler.utils.UtilConstants.MODEL_PKG;
 import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.OP_PARAM;
@@ -392,6 +396,29 @@ public final class JavaFileGenerator {
         return file;
     }
 
+    /**
+     * Returns generated codec class file for current node. The codec
+     * creates and populates the default class without reflection.
+     *
+     * @param file     file
+     * @param curNode  current YANG node
+     * @param implName name of the default class
+     * @param attrs    attributes of the default class
+     * @return codec class file
+     * @throws IOException when fails to write in file
+     */
+    public static File generateCodecClassFile(File file, YangNode curNode,
+                                              String implName,
+                                              List<JavaAttributeInfo> attrs)
+            throws IOException {
+        List<String> imports = new ArrayList<>();
+        imports.add(getImportString(MODEL_PKG, MODEL_OBJECT_CODEC));
+        initiateJavaFileGeneration(file, GENERATE_CODEC_CLASS, imports,
+                                   curNode, implName + CODEC);
+        insertDataIntoJavaFile(file, getCodecMethods(implName, attrs));
+        return file;
+    }
+
     /**
      * Returns generated default class file for current node.
      *
@@ -46,6 +46,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_CODEC_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
@@ -98,6 +99,9 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.SET_METHOD_PREFI
 import static org.onosproject.yang.compiler.utils.UtilConstants.SLASH;
 import static org.onosproject.yang.compiler.utils.UtilConstants.SPACE;
 import static org.onosproject.yang.compiler.utils.io.impl.CopyrightHeader.parseCopyrightHeader;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.createBufferedFile;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.isFilePresent;
+import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType.CODEC_CLASS;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType.DEFAULT_CLASS;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType.ENUM_CLASS;
 import static org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType.EVENT;
@@ -351,18 +355,14 @@ public final class JavaFileGeneratorUtils {
                                                   String pkg)
             throws IOException {
 
-        if (file.exists()) {
+        if (isFilePresent(file)) {
             throw new IOException(" file " + file.getName() + " is already generated." +
                                           ERROR_MSG_FOR_GEN_CODE);
         }
 
-        boolean isFileCreated;
         try {
-            isFileCreated = file.createNewFile();
-            if (!isFileCreated) {
-                throw new IOException("Failed to create " + file.getName() +
-                                              " class file.");
-            }
+            // The class is kept in memory and written when it is closed.
+            createBufferedFile(file);
             appendContents(file, className, genType, imports, pkg);
         } catch (IOException e) {
             throw new IOException("Failed to append contents in " + file.getName() +
@@ -385,17 +385,13 @@ public final class JavaFileGeneratorUtils {
                                                   YangNode curNode, String name)
             throws IOException {
 
-        if (file.exists()) {
+        if (isFilePresent(file)) {
             throw new IOException(" file " + file.getName() + " is already generated." +
                                           ERROR_MSG_FOR_GEN_CODE);
         }
-        boolean isFileCreated;
         try {
-            isFileCreated = file.createNewFile();
-            if (!isFileCreated) {
-                throw new IOException("Failed to create " + file.getName() +
-                                              " class file.");
-            }
+            // The class is kept in memory and written when it is closed.
+            createBufferedFile(file);
             appendContents(file, genType, imports, curNode, name);
         } catch (IOException e) {
             throw new IOException("Failed to append contents in " + file.getName() +
@@ -452,6 +448,10 @@ public final class JavaFileGeneratorUtils {
                 appendHeaderContents(file, pkgString, importsList);
                 write(file, genType, RPC_INTERFACE, curNode, className, false);
                 break;
+            case GENERATE_CODEC_CLASS:
+                appendHeaderContents(file, pkgString, importsList);
+                write(file, genType, CODEC_CLASS, curNode, className, false);
+                break;
             case GENERATE_EVENT_CLASS:
                 appendHeaderContents(file, pkgString, importsList);
                 write(file, genType, EVENT, curNode, className, false);
@@ -51,6 +51,12 @@ public final class UtilConstants {
     public static final String OP_PARAM_JAVA_DOC =
             " * Represents operation parameter implementation of ";
 
+    /**
+     * JavaDocs for codec class.
+     */
+    public static final String CODEC_CLASS_JAVA_DOC =
+            " * Represents the reflection free codec of ";
+
     /**
      * JavaDocs for event listener.
      */
@@ -1784,6 +1790,11 @@ public final class UtilConstants {
      */
     public static final String YANG_META_DATA = "YangMetaData.ser";
 
+    /**
+     * Linked meta data file name.
+     */
+    public static final String YANG_LINKED_META_DATA = "YangLinkedMetaData.dat";
+
     /**
      * Static attribute for concurrent import package.
      */
@@ -1937,6 +1948,8 @@ public final class UtilConstants {
             "DefaultModelObjectData";
     public static final String STRING_JOINER_CLASS = "StringJoiner";
     public static final String AUGMENTABLE = "Augmentable";
+    public static final String CODEC = "Codec";
+    public static final String MODEL_OBJECT_CODEC = "ModelObjectCodec";
 
     // No instantiation.
     private UtilConstants() {
@@ -16,6 +16,7 @@
 
 package org.onosproject.yang.compiler.utils.io;
 
+import org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil;
 import org.onosproject.yang.compiler.utils.io.impl.YangFileScanner;
 
 import javax.tools.JavaCompiler;
@@ -53,6 +54,12 @@ public final class YangPluginConfig {
      */
     private String resourceGenDir;
 
+    /**
+     * Size, in characters, beyond which the contents of a generated file
+     * are written to disk instead of being kept in memory.
+     */
+    private int spillThreshold = FileSystemUtil.DEFAULT_SPILL_THRESHOLD;
+
     /**
      * Creates an object for YANG plugin config.
      */
@@ -114,6 +121,30 @@ public final class YangPluginConfig {
     }
 
 
+    /**
+     * Returns the size, in characters, beyond which the contents of a
+     * generated file are written to disk.
+     *
+     * @return spill threshold
+     */
+    public int getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    /**
+     * Sets the size, in characters, beyond which the contents of a
+     * generated file are written to disk instead of being kept in memory.
+     *
+     * @param spillThreshold spill threshold
+     */
+    public void setSpillThreshold(int spillThreshold) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "spill threshold must not be negative: " + spillThreshold);
+        }
+        this.spillThreshold = spillThreshold;
+    }
+
     public String resourceGenDir() {
         return resourceGenDir;
     }
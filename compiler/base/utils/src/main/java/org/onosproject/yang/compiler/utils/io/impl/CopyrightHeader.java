@@ -19,12 +19,10 @@ package org.onosproject.yang.compiler.utils.io.impl;
 import org.onosproject.yang.compiler.utils.UtilConstants;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.FileReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.StringReader;
 
 import static java.util.Calendar.YEAR;
 import static java.util.Calendar.getInstance;
@@ -35,10 +33,13 @@ import static java.util.Calendar.getInstance;
 public final class CopyrightHeader {
 
     private static final int EOF = -1;
+    private static final int BUFFER_SIZE = 1024;
     private static final String COPYRIGHT_HEADER_FILE = "CopyrightHeader.txt";
     private static final String COPYRIGHTS_FIRST_LINE = "/*\n * Copyright " + getInstance().get(YEAR)
             + "-present Open Networking Laboratory\n";
-    private static final String TEMP_FILE = "temp.txt";
+
+    // Header is the same for all the generated files, so it is read once.
+    private static volatile String copyrightHeader;
 
     /**
      * Creates an instance of copyright header.
@@ -47,46 +48,52 @@ public final class CopyrightHeader {
     }
 
     /**
-     * parses Copyright to the temporary file.
+     * Returns the copyright header.
      *
      * @return string of file.
      * @throws IOException when fails to get the copyright header
      */
     public static String parseCopyrightHeader() throws IOException {
+        String header = copyrightHeader;
+        if (header == null) {
+            header = readCopyrightHeader();
+            copyrightHeader = header;
+        }
+        return header;
+    }
 
-        File temp = new File(TEMP_FILE);
-
-        try {
-            InputStream stream = CopyrightHeader.class.getClassLoader()
-                    .getResourceAsStream(COPYRIGHT_HEADER_FILE);
-            OutputStream out = new FileOutputStream(temp);
-
-            int index;
+    /**
+     * Reads the copyright header from resources.
+     *
+     * @return copyright header
+     * @throws IOException when fails to read the copyright header
+     */
+    private static String readCopyrightHeader() throws IOException {
+        try (InputStream stream = CopyrightHeader.class.getClassLoader()
+                .getResourceAsStream(COPYRIGHT_HEADER_FILE)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
             out.write(COPYRIGHTS_FIRST_LINE.getBytes());
-            while ((index = stream.read()) != EOF) {
-                out.write(index);
+            byte[] buf = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = stream.read(buf)) != EOF) {
+                out.write(buf, 0, count);
             }
-            out.close();
-            stream.close();
-            return getStringFileContent(temp);
+            return getStringContent(new String(out.toByteArray()));
         } catch (IOException e) {
             throw new IOException("failed to parse the Copyright header");
-        } finally {
-            temp.delete();
         }
     }
 
     /**
-     * Converts it to string.
+     * Converts the line separators of the given content.
      *
-     * @param toAppend file to be converted.
-     * @return string of file.
+     * @param content content to be converted.
+     * @return string of content.
      * @throws IOException when fails to convert to string
      */
-    private static String getStringFileContent(File toAppend) throws IOException {
+    private static String getStringContent(String content) throws IOException {
 
-        FileReader fileReader = new FileReader(toAppend);
-        BufferedReader bufferReader = new BufferedReader(fileReader);
+        BufferedReader bufferReader = new BufferedReader(new StringReader(content));
         try {
             StringBuilder stringBuilder = new StringBuilder();
             String line = bufferReader.readLine();
@@ -98,7 +105,6 @@ public final class CopyrightHeader {
             }
             return stringBuilder.toString();
         } finally {
-            fileReader.close();
             bufferReader.close();
         }
     }
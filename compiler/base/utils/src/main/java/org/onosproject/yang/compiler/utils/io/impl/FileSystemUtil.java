@@ -17,13 +17,16 @@
 package org.onosproject.yang.compiler.utils.io.impl;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.onosproject.yang.compiler.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
 import static org.onosproject.yang.compiler.utils.UtilConstants.EMPTY_STRING;
@@ -34,15 +37,129 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.SPACE;
 
 /**
  * Represents utility to handle file system operations.
+ * <p>
+ * While a translation keeps file contents in memory, see
+ * {@link #startBuffering}, contents appended to a file created with
+ * {@link #createBufferedFile} are kept in memory until the file is closed,
+ * and then written in one go. A temporary code fragment file thus need not
+ * exist on disk at all, and a generated java file is written once. The
+ * contents of such a file are spilled to disk once they grow beyond the
+ * spill threshold of the translation. Contents of other files, and of all
+ * files when no translation keeps contents in memory, are written to disk
+ * right away.
+ * <p>
+ * The contents are owned by the thread running the translation, so
+ * translations on different threads do not share them, and they are all
+ * dropped when the translation ends, whether it succeeded or not.
  */
 public final class FileSystemUtil {
 
+    /**
+     * Default spill threshold, in characters, which keeps all the contents
+     * in memory.
+     */
+    public static final int DEFAULT_SPILL_THRESHOLD = Integer.MAX_VALUE;
+
+    // Contents not written to disk yet of the translation run by a thread.
+    private static final ThreadLocal<FileBuffers> BUFFERS = new ThreadLocal<>();
+
     /**
      * Creates an instance of file system util.
      */
     private FileSystemUtil() {
     }
 
+    /**
+     * Starts keeping the contents of buffered files in memory for the
+     * translation run by the current thread. A translation which starts
+     * buffering has to stop it when it ends.
+     *
+     * @param spillThreshold size, in characters, beyond which the contents
+     *                       of a file are written to disk
+     * @return true if buffering is started, false if the current thread is
+     * already buffering for an enclosing translation
+     */
+    public static boolean startBuffering(int spillThreshold) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "spill threshold must not be negative: " + spillThreshold);
+        }
+        if (BUFFERS.get() != null) {
+            return false;
+        }
+        BUFFERS.set(new FileBuffers(spillThreshold));
+        return true;
+    }
+
+    /**
+     * Stops keeping the contents of buffered files in memory for the
+     * current thread, dropping the contents of the files which are not
+     * closed.
+     */
+    public static void stopBuffering() {
+        BUFFERS.remove();
+    }
+
+    /**
+     * Creates an empty file in memory, if the current thread keeps contents
+     * in memory, or else on disk. A file in memory is written to disk only
+     * if its contents are spilled or it is closed without deletion.
+     *
+     * @param file file to be created
+     * @throws IOException when fails to create the file on disk
+     */
+    public static void createBufferedFile(File file) throws IOException {
+        FileBuffers buffers = BUFFERS.get();
+        if (buffers == null) {
+            writeFile(file, EMPTY_STRING);
+            return;
+        }
+        buffers.files.put(getKey(file), new FileBuffer());
+    }
+
+    /**
+     * Returns true if the file exists either in memory or on disk.
+     *
+     * @param file file to be checked
+     * @return true if the file exists
+     */
+    public static boolean isFilePresent(File file) {
+        return getBuffer(file) != null || file.exists();
+    }
+
+    /**
+     * Drops the in memory contents of the files under the given directory.
+     * To be called when the directory is deleted.
+     *
+     * @param dir directory
+     */
+    public static void discardFiles(File dir) {
+        FileBuffers buffers = BUFFERS.get();
+        if (buffers != null) {
+            String prefix = getKey(dir) + File.separator;
+            buffers.files.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Drops the in memory contents of the files under the given directory
+     * which reside in a directory with the given name suffix. To be called
+     * when such directories are deleted.
+     *
+     * @param dir    directory
+     * @param suffix name suffix of directories holding the files
+     */
+    public static void discardFiles(File dir, String suffix) {
+        FileBuffers buffers = BUFFERS.get();
+        if (buffers != null) {
+            String prefix = getKey(dir) + File.separator;
+            buffers.files.keySet().removeIf(
+                    key -> key.startsWith(prefix) &&
+                            new File(key).getParentFile().getName()
+                                    .endsWith(suffix));
+        }
+    }
+
     /**
      * Reads the contents from source file and append its contents to append file.
      *
@@ -67,8 +184,8 @@ public final class FileSystemUtil {
     public static String readAppendFile(String toAppend, String spaces)
             throws IOException {
 
-        FileReader fileReader = new FileReader(toAppend);
-        BufferedReader bufferReader = new BufferedReader(fileReader);
+        BufferedReader bufferReader = new BufferedReader(
+                getReader(new File(toAppend)));
         try {
             StringBuilder stringBuilder = new StringBuilder();
             String line = bufferReader.readLine();
@@ -94,7 +211,6 @@ public final class FileSystemUtil {
             }
             return stringBuilder.toString();
         } finally {
-            fileReader.close();
             bufferReader.close();
         }
     }
@@ -112,20 +228,21 @@ public final class FileSystemUtil {
                                         boolean isClose)
             throws IOException {
 
-        List<FileWriter> fileWriterStore = new ArrayList<>();
-
-        FileWriter fileWriter = new FileWriter(inputFile, true);
-        fileWriterStore.add(fileWriter);
-        PrintWriter outputPrintWriter = new PrintWriter(fileWriter, true);
-        if (!isClose) {
-            outputPrintWriter.write(contentTobeAdded);
-            outputPrintWriter.flush();
-            outputPrintWriter.close();
-        } else {
-            for (FileWriter curWriter : fileWriterStore) {
-                curWriter.flush();
-                curWriter.close();
-            }
+        FileBuffers buffers = BUFFERS.get();
+        if (isClose) {
+            FileBuffer buffer = buffers == null ? null :
+                    buffers.files.remove(getKey(inputFile));
+            writeFile(inputFile, buffer == null ? EMPTY_STRING : buffer.content);
+            return;
+        }
+        FileBuffer buffer = getBuffer(inputFile);
+        if (buffer == null) {
+            writeFile(inputFile, contentTobeAdded);
+            return;
+        }
+        buffer.content.append(contentTobeAdded);
+        if (buffer.content.length() > buffers.spillThreshold) {
+            spill(inputFile, buffer);
         }
     }
 
@@ -140,12 +257,10 @@ public final class FileSystemUtil {
             throws IOException {
 
         if (file != null) {
-            updateFileHandle(file, null, true);
             if (toBeDeleted) {
-                boolean deleted = file.delete();
-                if (!deleted) {
-                    throw new IOException("Failed to delete temporary file " + file.getName());
-                }
+                deleteFile(file);
+            } else {
+                updateFileHandle(file, null, true);
             }
         }
     }
@@ -157,15 +272,117 @@ public final class FileSystemUtil {
      * @throws IOException when failed to close the file handle
      */
     public static void closeFile(File file) throws IOException {
+        closeFile(file, true);
+    }
 
-        if (file != null) {
-            updateFileHandle(file, null, true);
-            boolean deleted = file.delete();
-            if (!deleted) {
-                throw new IOException("Failed to delete temporary file " +
-                                              file.getName());
+    /**
+     * Deletes the file, dropping its contents kept in memory. A file may be
+     * closed more than once, so a file which is already deleted is fine.
+     *
+     * @param file file to be deleted
+     * @throws IOException when failed to delete the file
+     */
+    private static void deleteFile(File file) throws IOException {
+        FileBuffers buffers = BUFFERS.get();
+        if (buffers != null) {
+            buffers.files.remove(getKey(file));
+        }
+        if (file.exists() && !file.delete()) {
+            throw new IOException("Failed to delete temporary file " +
+                                          file.getName());
+        }
+    }
+
+    /**
+     * Returns a reader of the contents of the file, either in memory or on
+     * disk.
+     *
+     * @param file file to be read
+     * @return reader of file contents
+     * @throws IOException when fails to read the file
+     */
+    private static Reader getReader(File file) throws IOException {
+        FileBuffer buffer = getBuffer(file);
+        if (buffer != null) {
+            if (!buffer.spilled) {
+                return new StringReader(buffer.content.toString());
             }
+            spill(file, buffer);
+        }
+        return new FileReader(file);
+    }
+
+    /**
+     * Writes the contents kept in memory to disk.
+     *
+     * @param file   file to be written
+     * @param buffer contents of the file
+     * @throws IOException when fails to write the file
+     */
+    private static void spill(File file, FileBuffer buffer)
+            throws IOException {
+        writeFile(file, buffer.content);
+        buffer.content.setLength(0);
+        buffer.spilled = true;
+    }
+
+    /**
+     * Appends the contents to the file on disk in one write, creating the
+     * file and its directory when absent.
+     *
+     * @param file    file to be written
+     * @param content contents to be appended
+     * @throws IOException when fails to write the file
+     */
+    private static void writeFile(File file, CharSequence content)
+            throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Failed to create directory " + dir);
+        }
+        try (Writer writer = new BufferedWriter(new FileWriter(file, true))) {
+            writer.append(content);
+        }
+    }
+
+    /**
+     * Returns the in memory contents of the file.
+     *
+     * @param file file
+     * @return contents of file, null if not kept in memory
+     */
+    private static FileBuffer getBuffer(File file) {
+        FileBuffers buffers = BUFFERS.get();
+        return buffers == null ? null : buffers.files.get(getKey(file));
+    }
+
+    /**
+     * Returns the key of the file in the in memory contents.
+     *
+     * @param file file
+     * @return key of file
+     */
+    private static String getKey(File file) {
+        return file.getAbsolutePath();
+    }
+
+    /**
+     * Represents contents of the files kept in memory by a translation.
+     */
+    private static final class FileBuffers {
+        private final Map<String, FileBuffer> files = new HashMap<>();
+        private final int spillThreshold;
+
+        private FileBuffers(int spillThreshold) {
+            this.spillThreshold = spillThreshold;
         }
     }
-    // TODO follow coding guidelines in remaining of this file.
+
+    /**
+     * Represents contents of a file kept in memory.
+     */
+    private static final class FileBuffer {
+        private final StringBuilder content = new StringBuilder();
+        private boolean spilled;
+    }
 }
@@ -17,6 +17,7 @@
 package org.onosproject.yang.compiler.utils.io.impl;
 
 import static org.onosproject.yang.compiler.utils.UtilConstants.ADD_STRING;
+import static org.onosproject.yang.compiler.utils.UtilConstants.CODEC_CLASS_JAVA_DOC;
 import static org.onosproject.yang.compiler.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
 import static org.onosproject.yang.compiler.utils.UtilConstants.EMPTY_STRING;
 import static org.onosproject.yang.compiler.utils.UtilConstants.ENUM_ATTRIBUTE_JAVADOC;
@@ -105,6 +106,9 @@ public final class JavaDocGen {
             case OPERATION_CLASS: {
                 return generateForOpParamClass(name);
             }
+            case CODEC_CLASS: {
+                return generateForCodecClass(name);
+            }
             case INTERFACE: {
                 return generateForInterface(name);
             }
@@ -255,6 +259,17 @@ public final class JavaDocGen {
         }
     }
 
+    /**
+     * Generates javaDocs for the codec class.
+     *
+     * @param className class name
+     * @return javaDocs
+     */
+    private static String generateForCodecClass(String className) {
+        return getJavaDocForClass(className, CODEC_CLASS_JAVA_DOC,
+                                  EMPTY_STRING);
+    }
+
     /**
      * Generates javaDoc for the interface.
      *
@@ -903,6 +918,11 @@ public final class JavaDocGen {
          */
         OPERATION_CLASS,
 
+        /**
+         * For codec class.
+         */
+        CODEC_CLASS,
+
         /**
          * For add to list.
          */
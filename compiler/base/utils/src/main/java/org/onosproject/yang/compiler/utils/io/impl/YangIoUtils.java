@@ -178,6 +178,7 @@ public final class YangIoUtils {
     public static void deleteDirectory(String dir)
             throws IOException {
         File generatedDirectory = new File(dir);
+        FileSystemUtil.discardFiles(generatedDirectory);
         if (generatedDirectory.exists()) {
             try {
                 FileUtils.deleteDirectory(generatedDirectory);
@@ -197,6 +198,7 @@ public final class YangIoUtils {
      */
     public static void searchAndDeleteTempDir(String root)
             throws IOException {
+        FileSystemUtil.discardFiles(new File(root), HYPHEN + TEMP);
         List<File> store = new LinkedList<>();
         Stack<String> stack = new Stack<>();
         stack.push(root);
@@ -26,6 +26,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertThat;
 
@@ -40,6 +41,7 @@ public final class FileSystemUtilTest {
     private static final String TEST_DATA_3 = "This is next third line in the file";
     private static final String TEST_FILE = "testFile";
     private static final String SOURCE_TEST_FILE = "sourceTestFile";
+    private static final String BUFFERED_DIR = "buffered";
 
     /**
      * A private constructor is tested.
@@ -86,4 +88,124 @@ public final class FileSystemUtilTest {
         deleteDirectory(dir);
         FileUtils.deleteDirectory(new File(BASE_PKG));
     }
+
+    /**
+     * This test case checks the contents are kept in memory till the file
+     * is closed, and then written to disk.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void bufferedFileTest() throws IOException {
+
+        File dir = new File(BASE_PKG + UtilConstants.SLASH + BUFFERED_DIR);
+        File file = new File(dir, TEST_FILE);
+        assertThat(FileSystemUtil.startBuffering(
+                FileSystemUtil.DEFAULT_SPILL_THRESHOLD), is(true));
+        try {
+            assertThat(FileSystemUtil.startBuffering(
+                    FileSystemUtil.DEFAULT_SPILL_THRESHOLD), is(false));
+            FileSystemUtil.createBufferedFile(file);
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_1, false);
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_2, false);
+            assertThat(file.exists(), is(false));
+            assertThat(FileSystemUtil.isFilePresent(file), is(true));
+            assertThat(FileSystemUtil.readAppendFile(file.getPath(), ""),
+                       is(TEST_DATA_1 + TEST_DATA_2));
+
+            FileSystemUtil.closeFile(file, false);
+            assertThat(FileUtils.readFileToString(file), is(TEST_DATA_1 + TEST_DATA_2));
+
+            File temp = new File(dir, SOURCE_TEST_FILE);
+            FileSystemUtil.createBufferedFile(temp);
+            FileSystemUtil.updateFileHandle(temp, TEST_DATA_3, false);
+            FileSystemUtil.closeFile(temp);
+            assertThat(FileSystemUtil.isFilePresent(temp), is(false));
+        } finally {
+            FileSystemUtil.stopBuffering();
+            deleteDirectory(new File(BASE_PKG));
+        }
+    }
+
+    /**
+     * This test case checks the contents are written to disk once they grow
+     * beyond the spill threshold.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void spillTest() throws IOException {
+
+        File dir = new File(BASE_PKG + UtilConstants.SLASH + BUFFERED_DIR);
+        File file = new File(dir, TEST_FILE);
+        FileSystemUtil.startBuffering(TEST_DATA_1.length());
+        try {
+            FileSystemUtil.createBufferedFile(file);
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_1, false);
+            assertThat(file.exists(), is(false));
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_2, false);
+            assertThat(FileUtils.readFileToString(file), is(TEST_DATA_1 + TEST_DATA_2));
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_3, false);
+            assertThat(FileSystemUtil.readAppendFile(file.getPath(), ""),
+                       is(TEST_DATA_1 + TEST_DATA_2 + TEST_DATA_3 + "\n"));
+            FileSystemUtil.closeFile(file);
+            assertThat(file.exists(), is(false));
+        } finally {
+            FileSystemUtil.stopBuffering();
+            deleteDirectory(new File(BASE_PKG));
+        }
+    }
+
+    /**
+     * This test case checks the contents kept in memory are dropped along
+     * with their directory.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void discardFilesTest() throws IOException {
+
+        File dir = new File(BASE_PKG + UtilConstants.SLASH + BUFFERED_DIR);
+        File file = new File(dir, TEST_FILE);
+        FileSystemUtil.startBuffering(FileSystemUtil.DEFAULT_SPILL_THRESHOLD);
+        try {
+            FileSystemUtil.createBufferedFile(file);
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_1, false);
+            YangIoUtils.deleteDirectory(dir.getPath());
+            assertThat(FileSystemUtil.isFilePresent(file), is(false));
+        } finally {
+            FileSystemUtil.stopBuffering();
+        }
+    }
+
+    /**
+     * This test case checks the contents of files not closed are dropped
+     * when buffering stops, and files are created on disk when not
+     * buffering.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void stopBufferingTest() throws IOException {
+
+        File dir = new File(BASE_PKG + UtilConstants.SLASH + BUFFERED_DIR);
+        File file = new File(dir, TEST_FILE);
+        FileSystemUtil.startBuffering(FileSystemUtil.DEFAULT_SPILL_THRESHOLD);
+        try {
+            FileSystemUtil.createBufferedFile(file);
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_1, false);
+        } finally {
+            FileSystemUtil.stopBuffering();
+        }
+        assertThat(FileSystemUtil.isFilePresent(file), is(false));
+
+        try {
+            FileSystemUtil.createBufferedFile(file);
+            assertThat(file.exists(), is(true));
+            FileSystemUtil.updateFileHandle(file, TEST_DATA_1, false);
+            assertThat(FileUtils.readFileToString(file), is(TEST_DATA_1));
+        } finally {
+            deleteDirectory(new File(BASE_PKG));
+        }
+    }
 }
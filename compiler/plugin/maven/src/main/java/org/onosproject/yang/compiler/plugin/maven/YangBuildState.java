@@ -0,0 +1,226 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Represents the inputs of a YANG compilation, recorded to find out what
+ * changed since the previous build. Inputs are told apart by their content
+ * hash, so touching a file does not make it changed.
+ */
+final class YangBuildState {
+
+    private static final String STATE_VERSION = "1";
+    private static final String VERSION_KEY = "version";
+    private static final String CONFIG_KEY = "config";
+    private static final String FILE_PREFIX = "file:";
+    private static final String SCHEMA_PREFIX = "schema:";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String config;
+    private final Map<String, String> yangFiles;
+    private final Map<String, String> schemas;
+
+    private YangBuildState(String config, Map<String, String> yangFiles,
+                           Map<String, String> schemas) {
+        this.config = config;
+        this.yangFiles = yangFiles;
+        this.schemas = schemas;
+    }
+
+    /**
+     * Returns the build state of the given inputs.
+     *
+     * @param config    compilation configuration, for example the plugin
+     *                  version and output directories
+     * @param yangFiles YANG files
+     * @param schemas   dependent schema jars
+     * @return build state
+     * @throws IOException when fails to read an input
+     */
+    static YangBuildState of(String config, Collection<String> yangFiles,
+                             Collection<String> schemas)
+            throws IOException {
+        return new YangBuildState(config, hash(yangFiles), hash(schemas));
+    }
+
+    /**
+     * Returns the build state recorded in the given file.
+     *
+     * @param file state file
+     * @return build state, or null when the file does not exist or was
+     * written by a different version
+     * @throws IOException when fails to read the file
+     */
+    static YangBuildState read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        }
+        if (!STATE_VERSION.equals(props.getProperty(VERSION_KEY))) {
+            return null;
+        }
+        Map<String, String> yangFiles = new TreeMap<>();
+        Map<String, String> schemas = new TreeMap<>();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(FILE_PREFIX)) {
+                yangFiles.put(key.substring(FILE_PREFIX.length()),
+                              props.getProperty(key));
+            } else if (key.startsWith(SCHEMA_PREFIX)) {
+                schemas.put(key.substring(SCHEMA_PREFIX.length()),
+                            props.getProperty(key));
+            }
+        }
+        return new YangBuildState(props.getProperty(CONFIG_KEY), yangFiles,
+                                  schemas);
+    }
+
+    /**
+     * Writes the build state to the given file.
+     *
+     * @param file state file
+     * @throws IOException when fails to write the file
+     */
+    void write(Path file) throws IOException {
+        Properties props = new Properties();
+        props.setProperty(VERSION_KEY, STATE_VERSION);
+        props.setProperty(CONFIG_KEY, config);
+        for (Map.Entry<String, String> entry : yangFiles.entrySet()) {
+            props.setProperty(FILE_PREFIX + entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : schemas.entrySet()) {
+            props.setProperty(SCHEMA_PREFIX + entry.getKey(),
+                              entry.getValue());
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            props.store(out, "YANG compilation state");
+        }
+    }
+
+    /**
+     * Returns true if the YANG files can be compiled incrementally on top
+     * of the given previous build, that is when the configuration and the
+     * dependent schemas are unchanged and no YANG file was removed.
+     *
+     * @param previous previous build state
+     * @return true if an incremental compilation is possible
+     */
+    boolean isIncremental(YangBuildState previous) {
+        return previous != null && config.equals(previous.config) &&
+                schemas.equals(previous.schemas) &&
+                yangFiles.keySet().containsAll(previous.yangFiles.keySet());
+    }
+
+    /**
+     * Returns the YANG files added or changed since the given previous
+     * build.
+     *
+     * @param previous previous build state
+     * @return changed YANG files
+     */
+    Set<Path> getChangedFiles(YangBuildState previous) {
+        Set<Path> changed = new HashSet<>();
+        for (Map.Entry<String, String> entry : yangFiles.entrySet()) {
+            if (!entry.getValue().equals(
+                    previous.yangFiles.get(entry.getKey()))) {
+                changed.add(Paths.get(entry.getKey()));
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof YangBuildState)) {
+            return false;
+        }
+        YangBuildState that = (YangBuildState) obj;
+        return Objects.equals(config, that.config) &&
+                yangFiles.equals(that.yangFiles) &&
+                schemas.equals(that.schemas);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(config, yangFiles, schemas);
+    }
+
+    /**
+     * Returns the content hashes of the given files.
+     *
+     * @param files file paths
+     * @return map of file path to content hash
+     * @throws IOException when fails to read a file
+     */
+    private static Map<String, String> hash(Collection<String> files)
+            throws IOException {
+        Map<String, String> hashes = new TreeMap<>();
+        for (String file : files) {
+            hashes.put(file, hash(Paths.get(file)));
+        }
+        return hashes;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the content of the given file.
+     *
+     * @param file file path
+     * @return hex encoded content hash
+     * @throws IOException when fails to read the file
+     */
+    private static String hash(Path file) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to hash " + file, e);
+        }
+        byte[] buf = new byte[BUFFER_SIZE];
+        try (InputStream in = new DigestInputStream(
+                Files.newInputStream(file), md)) {
+            while (in.read(buf) != -1) {
+                // Reading updates the digest.
+                continue;
+            }
+        }
+        return String.format("%064x", new BigInteger(1, md.digest()));
+    }
+}
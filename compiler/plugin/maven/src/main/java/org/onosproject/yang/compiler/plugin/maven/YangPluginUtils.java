@@ -69,7 +69,7 @@ final class YangPluginUtils {
      * @param remoteRepos     remote repository
      * @return list of jar paths
      */
-    private static List<String> resolveDependencyJarPath(
+    static List<String> resolveDependencyJarPath(
             MavenProject project, ArtifactRepository localRepository,
             List<ArtifactRepository> remoteRepos) {
 
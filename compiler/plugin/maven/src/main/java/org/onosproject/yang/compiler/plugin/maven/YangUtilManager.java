@@ -28,20 +28,22 @@ import org.apache.maven.rtinfo.RuntimeInformation;
 import org.onosproject.yang.compiler.api.YangCompilationParam;
 import org.onosproject.yang.compiler.api.YangCompiledOutput;
 import org.onosproject.yang.compiler.api.YangCompilerException;
-import org.onosproject.yang.compiler.api.YangCompilerService;
 import org.onosproject.yang.compiler.tool.DefaultYangCompilationParam;
 import org.onosproject.yang.compiler.tool.YangCompilerManager;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Set;
 
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_SOURCES;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 import static org.onosproject.yang.compiler.plugin.maven.YangPluginUtils.addToCompilationRoot;
 import static org.onosproject.yang.compiler.plugin.maven.YangPluginUtils.addToProjectResource;
+import static org.onosproject.yang.compiler.plugin.maven.YangPluginUtils.resolveDependencyJarPath;
 import static org.onosproject.yang.compiler.plugin.maven.YangPluginUtils.resolveInterJarDependencies;
 import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT_BASE_PKG;
 import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT_JAR_RES_PATH;
@@ -50,6 +52,7 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.IN;
 import static org.onosproject.yang.compiler.utils.UtilConstants.SLASH;
 import static org.onosproject.yang.compiler.utils.UtilConstants.TEMP;
 import static org.onosproject.yang.compiler.utils.UtilConstants.VERSION_ERROR;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
 import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getYangFiles;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
@@ -134,6 +137,27 @@ public class YangUtilManager extends AbstractMojo {
     @Parameter(defaultValue = "maven.version")
     private String versionProperty;
 
+    /**
+     * Whether to compile only the YANG files changed since the previous
+     * build, along with the YANG files depending on them.
+     */
+    @Parameter(property = "yangIncremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * File recording the state of the previous build, used in incremental
+     * mode.
+     */
+    @Parameter(property = "yangBuildStateFile",
+            defaultValue = "target/yang-build-state.properties")
+    private String buildStateFile;
+
+    /**
+     * Version of this plugin.
+     */
+    @Parameter(readonly = true, defaultValue = "${plugin.version}")
+    private String pluginVersion;
+
     @Override
     public void execute()
             throws MojoExecutionException, MojoFailureException {
@@ -143,10 +167,9 @@ public class YangUtilManager extends AbstractMojo {
         try {
             validateMavenVersion();
             /*
-             * For deleting the generated code in previous build.
+             * For deleting the dependent schemas extracted in previous build.
              */
             outputDir = getDirectory(baseDir, outputDirectory);
-            deleteDirectory(outputDir + SLASH + TEMP);
             deleteDirectory(outputDir + SLASH + YANG_RESOURCES);
             String searchDir = getDirectory(baseDir, yangFilesDir);
 
@@ -156,11 +179,49 @@ public class YangUtilManager extends AbstractMojo {
             metaDataGenDir = outputDir + SLASH + DEFAULT_JAR_RES_PATH;
 
             //Yang compiler service.
-            YangCompilerService compiler = new YangCompilerManager();
+            YangCompilerManager compiler = new YangCompilerManager();
 
             //Need to get dependent schema paths to give inter jar dependencies.
             List<Path> depSchemas = resolveInterJarDependencies(
                     project, localRepository, remoteRepository, outputDir);
+            List<String> yangFiles = getYangFiles(searchDir);
+
+            YangBuildState state = null;
+            Set<Path> changedFiles = null;
+            Path statePath = Paths.get(getDirectory(baseDir, buildStateFile));
+            if (incremental) {
+                state = YangBuildState.of(
+                        pluginVersion + SLASH + codeGenDir + SLASH +
+                                metaDataGenDir, yangFiles,
+                        resolveDependencyJarPath(project, localRepository,
+                                                 remoteRepository));
+                // Outputs of previous build may have been deleted since.
+                YangBuildState previous = null;
+                if (Files.isDirectory(Paths.get(codeGenDir)) &&
+                        Files.exists(Paths.get(metaDataGenDir, YANG_META_DATA))) {
+                    previous = YangBuildState.read(statePath);
+                }
+                if (state.equals(previous)) {
+                    getLog().info("YANG files are up to date.");
+                    addToCompilationRoot(codeGenDir, project, context);
+                    addToProjectResource(outputDir + SLASH + TEMP + SLASH,
+                                         project);
+                    return;
+                }
+                if (state.isIncremental(previous)) {
+                    changedFiles = state.getChangedFiles(previous);
+                } else {
+                    deleteDirectory(codeGenDir + getPackageDirPathFromJavaJPackage(
+                            DEFAULT_BASE_PKG));
+                }
+            }
+            // The state is written back only once compiled successfully.
+            Files.deleteIfExists(statePath);
+
+            /*
+             * For deleting the generated meta data in previous build.
+             */
+            deleteDirectory(outputDir + SLASH + TEMP);
 
             //Create compiler param.
             YangCompilationParam param = new DefaultYangCompilationParam();
@@ -171,12 +232,19 @@ public class YangUtilManager extends AbstractMojo {
                 param.addDependentSchema(path);
             }
 
-            for (String file : getYangFiles(searchDir)) {
+            for (String file : yangFiles) {
                 param.addYangFile(Paths.get(file));
             }
 
             //Compile yang files and generate java code.
-            output = compiler.compileYangFiles(param);
+            if (changedFiles == null) {
+                output = compiler.compileYangFiles(param);
+            } else {
+                output = compiler.compileYangFiles(param, changedFiles);
+            }
+            if (state != null) {
+                state.write(statePath);
+            }
 
             addToCompilationRoot(codeGenDir, project, context);
             addToProjectResource(outputDir + SLASH + TEMP + SLASH, project);
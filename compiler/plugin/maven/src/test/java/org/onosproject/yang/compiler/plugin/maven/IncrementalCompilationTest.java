@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yang.compiler.tool.DefaultYangCompilationParam;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getJavaFiles;
+import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getYangFiles;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for compiling only the changed YANG files and the YANG
+ * files depending on them.
+ */
+public class IncrementalCompilationTest {
+
+    private static final String DIR = "target/incrementalCompilation/";
+    private static final String CODE_GEN_DIR = DIR + "gen/";
+    private static final String META_DATA_DIR = DIR + "meta/";
+    private static final String GEN_PKG_DIR =
+            CODE_GEN_DIR + "org/onosproject/yang/gen/v1/";
+    private static final String MARKER = "Marker.txt";
+
+    @Before
+    public void setUp() throws IOException {
+        deleteDirectory(DIR);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteDirectory(DIR);
+    }
+
+    private static DefaultYangCompilationParam param(String dir)
+            throws IOException {
+        DefaultYangCompilationParam param = new DefaultYangCompilationParam();
+        for (String file : getYangFiles(dir)) {
+            param.addYangFile(Paths.get(file));
+        }
+        param.setCodeGenDir(Paths.get(CODE_GEN_DIR));
+        param.setMetadataGenDir(Paths.get(META_DATA_DIR));
+        return param;
+    }
+
+    private static void mark(String... modules) throws IOException {
+        for (String module : modules) {
+            Files.write(Paths.get(GEN_PKG_DIR, module, MARKER), new byte[0]);
+        }
+    }
+
+    private static boolean isMarked(String module) {
+        return Files.exists(Paths.get(GEN_PKG_DIR, module, MARKER));
+    }
+
+    private static boolean isGenerated(String module) throws IOException {
+        return !getJavaFiles(GEN_PKG_DIR + module).isEmpty();
+    }
+
+    /**
+     * Checks only the changed YANG file and the YANG files importing it,
+     * directly or not, are translated again.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedFile() throws IOException {
+        String dir = "src/test/resources/interfilepriority";
+        new YangCompilerManager().compileYangFiles(param(dir));
+        mark("module1", "module2");
+
+        // module3 imports module1, which imports module2.
+        Set<Path> changed = singleton(Paths.get(dir, "module1.yang"));
+        new YangCompilerManager().compileYangFiles(param(dir), changed);
+
+        assertThat(isMarked("module1"), is(false));
+        assertThat(isMarked("module2"), is(true));
+        assertThat(isGenerated("module1"), is(true));
+        assertThat(new File(META_DATA_DIR + "YangMetaData.ser").exists(),
+                   is(true));
+    }
+
+    /**
+     * Checks the YANG files imported by a changed YANG file are not
+     * translated again.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedImportingFile() throws IOException {
+        String dir = "src/test/resources/interfilepriority";
+        new YangCompilerManager().compileYangFiles(param(dir));
+        mark("module1", "module2");
+
+        // module4 imports module3, and nothing imports module4.
+        Set<Path> changed = singleton(Paths.get(dir, "module4.yang"));
+        new YangCompilerManager().compileYangFiles(param(dir), changed);
+
+        assertThat(isMarked("module1"), is(true));
+        assertThat(isMarked("module2"), is(true));
+    }
+
+    /**
+     * Checks all the YANG files depending on a changed YANG file are
+     * translated again.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedImportedFile() throws IOException {
+        String dir = "src/test/resources/interfilepriority";
+        new YangCompilerManager().compileYangFiles(param(dir));
+        mark("module1", "module2");
+
+        Set<Path> changed = singleton(Paths.get(dir, "module2.yang"));
+        new YangCompilerManager().compileYangFiles(param(dir), changed);
+
+        assertThat(isMarked("module1"), is(false));
+        assertThat(isMarked("module2"), is(false));
+        assertThat(isGenerated("module1"), is(true));
+        assertThat(isGenerated("module2"), is(true));
+    }
+
+    /**
+     * Checks the module deviated by a changed deviation module is
+     * translated again.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedDeviation() throws IOException {
+        String dir = "src/test/resources/deviationLinking";
+        new YangCompilerManager().compileYangFiles(param(dir));
+        mark("test2");
+
+        Set<Path> changed =
+                singleton(Paths.get(dir, "DeviationAddStatement.yang"));
+        new YangCompilerManager().compileYangFiles(param(dir), changed);
+
+        assertThat(isMarked("test2"), is(false));
+        assertThat(isGenerated("test2"), is(true));
+    }
+}
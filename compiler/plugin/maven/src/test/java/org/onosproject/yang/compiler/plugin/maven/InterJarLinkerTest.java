@@ -345,7 +345,7 @@ public class InterJarLinkerTest {
      */
     private void addInterJarRootNodes(String jarFile) throws IOException {
         try {
-            List<YangNode> interJarResolvedNodes = parseJarFile(jarFile, TARGET);
+            List<YangNode> interJarResolvedNodes = parseJarFile(jarFile);
 
             for (YangNode node : interJarResolvedNodes) {
                 YangFileInfo dependentFileInfo = new YangFileInfo();
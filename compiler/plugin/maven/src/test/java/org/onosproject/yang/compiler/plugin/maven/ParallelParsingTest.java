@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.Test;
+import org.onosproject.yang.compiler.parser.exceptions.ParserException;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+import org.onosproject.yang.compiler.tool.YangFileInfo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getYangFiles;
+
+/**
+ * Unit test cases for parsing YANG files concurrently.
+ */
+public class ParallelParsingTest {
+
+    private static final String VALID_DIR =
+            "src/test/resources/ietfyang/l3vpnservice";
+    private static final String INVALID_DIR =
+            "src/test/resources/parallelParsing";
+
+    private static Set<Path> paths(String dir) throws IOException {
+        Set<Path> paths = new HashSet<>();
+        for (String file : getYangFiles(dir)) {
+            paths.add(Paths.get(file));
+        }
+        return paths;
+    }
+
+    /**
+     * Checks all the YANG files are parsed and linked when parsed
+     * concurrently.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processParallelParsing() throws IOException {
+        YangCompilerManager manager = new YangCompilerManager(4);
+        manager.createYangFileInfoSet(paths(VALID_DIR));
+        manager.parseYangFileInfoSet();
+        for (YangFileInfo info : manager.getYangFileInfoSet()) {
+            assertThat(info.getRootNode() != null, is(true));
+        }
+        manager.resolveDependenciesUsingLinker();
+        assertThat(manager.getYangNodeSet().size(), is(4));
+    }
+
+    /**
+     * Checks errors of all the YANG files are collected while the valid
+     * files are still parsed.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processParallelParsingErrors() throws IOException {
+        YangCompilerManager manager = new YangCompilerManager(3);
+        manager.createYangFileInfoSet(paths(INVALID_DIR));
+        ParserException error = null;
+        try {
+            manager.parseYangFileInfoSet();
+        } catch (ParserException e) {
+            error = e;
+        }
+        assertThat(error != null, is(true));
+        assertThat(error.getSuppressed().length, is(1));
+        for (YangFileInfo info : manager.getYangFileInfoSet()) {
+            boolean valid = info.getYangFileName()
+                    .endsWith("ParallelValid.yang");
+            assertThat(info.getRootNode() != null, is(valid));
+        }
+    }
+
+    /**
+     * Checks parallelism has to be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void processInvalidParallelism() {
+        new YangCompilerManager(0);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for YANG build state.
+ */
+public class YangBuildStateTest {
+
+    private static final String DIR = "target/yangBuildState/";
+    private static final String CONFIG = "config";
+
+    private final Path file1 = Paths.get(DIR, "file1.yang");
+    private final Path file2 = Paths.get(DIR, "file2.yang");
+    private final Path schema = Paths.get(DIR, "schema.jar");
+    private final Path stateFile = Paths.get(DIR, "state.properties");
+
+    @Before
+    public void setUp() throws IOException {
+        deleteDirectory(DIR);
+        Files.createDirectories(Paths.get(DIR));
+        Files.write(file1, "module file1 {}".getBytes(UTF_8));
+        Files.write(file2, "module file2 {}".getBytes(UTF_8));
+        Files.write(schema, "schema".getBytes(UTF_8));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteDirectory(DIR);
+    }
+
+    private YangBuildState state(String config, Path... files)
+            throws IOException {
+        List<String> yangFiles = new ArrayList<>();
+        for (Path file : files) {
+            yangFiles.add(file.toString());
+        }
+        return YangBuildState.of(config, yangFiles,
+                                 Collections.singletonList(schema.toString()));
+    }
+
+    /**
+     * Checks the build state is read back the same as written.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processWriteAndRead() throws IOException {
+        assertThat(YangBuildState.read(stateFile) == null, is(true));
+
+        YangBuildState state = state(CONFIG, file1, file2);
+        state.write(stateFile);
+        YangBuildState read = YangBuildState.read(stateFile);
+        assertThat(read.equals(state), is(true));
+        assertThat(state(CONFIG, file1, file2).equals(read), is(true));
+    }
+
+    /**
+     * Checks the changed and added YANG files are found by their content.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedFiles() throws IOException {
+        YangBuildState previous = state(CONFIG, file1);
+
+        // Rewriting the same content does not change a file.
+        Files.write(file1, "module file1 {}".getBytes(UTF_8));
+        assertThat(state(CONFIG, file1).equals(previous), is(true));
+
+        Files.write(file1, "module file1 { }".getBytes(UTF_8));
+        YangBuildState state = state(CONFIG, file1, file2);
+        assertThat(state.equals(previous), is(false));
+        assertThat(state.isIncremental(previous), is(true));
+        assertThat(state.getChangedFiles(previous),
+                   is(new HashSet<>(Arrays.asList(file1, file2))));
+    }
+
+    /**
+     * Checks a removed YANG file, a changed configuration or a changed
+     * dependent schema needs a full compilation.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processFullCompilation() throws IOException {
+        YangBuildState previous = state(CONFIG, file1, file2);
+
+        assertThat(state(CONFIG, file1).isIncremental(previous), is(false));
+        assertThat(state("other", file1, file2).isIncremental(previous),
+                   is(false));
+        assertThat(state(CONFIG, file1, file2).isIncremental(null),
+                   is(false));
+
+        Files.write(schema, "changed".getBytes(UTF_8));
+        assertThat(state(CONFIG, file1, file2).isIncremental(previous),
+                   is(false));
+    }
+}
@@ -16,13 +16,16 @@
 
 package org.onosproject.yang.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
 
 /**
  * Abstraction of an entity which represents an inner node in data store.
+ * <p>
+ * Child nodes are held in a persistent map, so an inner node is not changed
+ * by the builders created from it; a copy builder shares the child nodes of
+ * the inner node and copies only the parts of the map it changes.
  */
 public final class InnerNode extends DataNode {
 
@@ -30,7 +33,7 @@ public final class InnerNode extends DataNode {
      * Map containing info of all child data nodes with respect to their node
      * keys.
      */
-    private Map<NodeKey, DataNode> childNodes = new LinkedHashMap<>();
+    private final PersistentLinkedMap<NodeKey, DataNode> childNodes;
 
     /**
      * Returns the children nodes to the current node.
@@ -49,7 +52,7 @@ public final class InnerNode extends DataNode {
      */
     public InnerNode(Builder builder) {
         super(builder);
-        childNodes = builder.childNodes;
+        childNodes = builder.childNodes.toMap();
     }
 
     /**
@@ -63,6 +66,17 @@ public final class InnerNode extends DataNode {
         return new Builder(name, nameSpace);
     }
 
+    /**
+     * Returns inner node builder instance with the given schema identifier. A
+     * schema identifier pooled by a key interner gives the pooled node key.
+     *
+     * @param schemaId schema identifier of node
+     * @return inner node builder instance
+     */
+    public static Builder builder(SchemaId schemaId) {
+        return new Builder(schemaId);
+    }
+
     /**
      * Returns inner node copy builder.
      *
@@ -81,10 +95,10 @@ public final class InnerNode extends DataNode {
     public static class Builder extends DataNode.Builder<Builder> {
 
         /**
-         * Map containing info of all child data nodes with respect to their
-         * node keys.
+         * Editor of the map containing info of all child data nodes with
+         * respect to their node keys.
          */
-        private Map<NodeKey, DataNode> childNodes = new LinkedHashMap<>();
+        private PersistentLinkedMap.Editor<NodeKey, DataNode> childNodes;
 
         /**
          * Creates an instance of data node builder.
@@ -94,6 +108,19 @@ public final class InnerNode extends DataNode {
          */
         protected Builder(String name, String namespace) {
             keyBuilder = NodeKey.builder().schemaId(name, namespace);
+            childNodes = PersistentLinkedMap.<NodeKey, DataNode>empty()
+                    .editor();
+        }
+
+        /**
+         * Creates an instance of data node builder.
+         *
+         * @param schemaId schema identifier of node
+         */
+        protected Builder(SchemaId schemaId) {
+            keyBuilder = NodeKey.builder().schemaId(schemaId);
+            childNodes = PersistentLinkedMap.<NodeKey, DataNode>empty()
+                    .editor();
         }
 
         /**
@@ -103,7 +130,7 @@ public final class InnerNode extends DataNode {
          */
         public Builder(InnerNode node) {
             super(node);
-            childNodes = node.childNodes;
+            childNodes = node.childNodes.editor();
         }
 
         /**
@@ -124,7 +151,7 @@ public final class InnerNode extends DataNode {
          * @return read only linked map of children nodes
          */
         public Map<NodeKey, DataNode> childNodes() {
-            return childNodes;
+            return childNodes.toMap();
         }
 
         /**
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.onosproject.yang.model.ModelConstants.INCOMPLETE_SCHEMA_INFO;
+
+/**
+ * Represents a pool of canonical schema identifiers and node keys. A schema
+ * identifier equal to one seen before is given the same schema identifier
+ * and node key instances, so equal identifiers are mostly found equal by
+ * identity and the same strings are not held many times.
+ * <p>
+ * The pool is owned by a model registry, which adds the schema identifiers
+ * of its schema nodes only, and drops the pool when its models change.
+ * Once a schema identifier is pooled, node key builders given that schema
+ * identifier build the pooled node key.
+ * <p>
+ * The pool is safe to use concurrently. It holds at most the given number
+ * of entries, give or take the number of threads adding at the same time;
+ * once full, schema identifiers are handed back without being pooled.
+ */
+public final class KeyInterner {
+
+    /**
+     * Default maximum number of entries held by a pool.
+     */
+    public static final int MAX_ENTRIES = 1 << 16;
+
+    /**
+     * Pooled entries with namespace and then name as key.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>>
+            namespaceStore = new ConcurrentHashMap<>();
+
+    /**
+     * Pooled entries of schema identifiers without namespace, with name as
+     * key.
+     */
+    private final ConcurrentMap<String, Entry> noNamespaceStore =
+            new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxEntries;
+
+    /**
+     * Creates a pool holding at most {@value #MAX_ENTRIES} entries.
+     */
+    public KeyInterner() {
+        this(MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a pool holding at most the given number of entries.
+     *
+     * @param maxEntries maximum number of entries
+     */
+    public KeyInterner(int maxEntries) {
+        checkArgument(maxEntries >= 0, "maximum entries must not be negative");
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the canonical schema identifier equal to the given schema
+     * identifier. If there is none, the given schema identifier becomes the
+     * canonical one.
+     *
+     * @param schemaId schema identifier
+     * @return schema identifier
+     */
+    public SchemaId intern(SchemaId schemaId) {
+        Entry entry = entry(schemaId);
+        if (entry == null) {
+            return schemaId;
+        }
+        return entry.schemaId;
+    }
+
+    /**
+     * Returns the canonical node key, without key leaves or value, for the
+     * given schema identifier.
+     *
+     * @param schemaId schema identifier
+     * @return node key
+     */
+    public NodeKey nodeKey(SchemaId schemaId) {
+        Entry entry = entry(schemaId);
+        if (entry == null) {
+            return newNodeKey(schemaId);
+        }
+        return entry.schemaId.nodeKey();
+    }
+
+    /**
+     * Returns the number of entries held by the pool.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the pooled entry for the given schema identifier, adding it
+     * if the pool is not full.
+     *
+     * @param schemaId schema identifier
+     * @return pooled entry, null if the pool is full
+     */
+    private Entry entry(SchemaId schemaId) {
+        String name = schemaId.name();
+        String namespace = schemaId.namespace();
+        checkNotNull(name, INCOMPLETE_SCHEMA_INFO);
+        ConcurrentMap<String, Entry> names = namespace == null ?
+                noNamespaceStore : namespaceStore.get(namespace);
+        if (names != null) {
+            Entry entry = names.get(name);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        if (size.get() >= maxEntries) {
+            return null;
+        }
+        if (names == null) {
+            names = namespaceStore.computeIfAbsent(
+                    namespace, k -> new ConcurrentHashMap<>());
+        }
+        Entry entry = new Entry(schemaId);
+        Entry prev = names.putIfAbsent(name, entry);
+        if (prev != null) {
+            return prev;
+        }
+        size.incrementAndGet();
+        return entry;
+    }
+
+    private static NodeKey newNodeKey(SchemaId schemaId) {
+        NodeKey.NodeKeyBuilder builder = new NodeKey.NodeKeyBuilder();
+        builder.schemaId(schemaId);
+        return new NodeKey(builder);
+    }
+
+    /**
+     * Pooled schema identifier, which holds its node key.
+     */
+    private static final class Entry {
+        private final SchemaId schemaId;
+
+        private Entry(SchemaId schemaId) {
+            this.schemaId = schemaId;
+            if (schemaId.nodeKey() == null) {
+                schemaId.nodeKey(newNodeKey(schemaId));
+            }
+        }
+    }
+}
@@ -21,21 +21,53 @@ import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
 
 /**
  * Abstraction of an entity which represents leaf data tree node.
+ * <p>
+ * Short, int and long values set through the typed builder setters are
+ * held unboxed, and can be read without boxing using {@link #longValue()},
+ * {@link #intValue()} and {@link #asString()}. {@link #value()} boxes such
+ * a value on first use only, in the same type it was set with.
  */
 public final class LeafNode extends DataNode {
 
+    private static final String E_NOT_NUMBER = "leaf value is not a number: ";
+    private static final String E_NOT_BOOLEAN = "leaf value is not a " +
+            "boolean: ";
+
+    /**
+     * Kinds of value held by a leaf node.
+     */
+    private enum Kind {
+        OBJECT, SHORT, INT, LONG
+    }
+
     /**
-     * Leaf node value.
+     * Leaf node value. When the value is held unboxed, it is boxed on first
+     * use; boxes are immutable, so a racing first use at most boxes twice.
      */
     private Object value;
 
+    /**
+     * Leaf node value, when it is held unboxed.
+     */
+    private final long bits;
+
+    /**
+     * Kind of the leaf node value.
+     */
+    private final Kind kind;
+
     /**
      * Returns value contained in leaf node.
      *
      * @return value contained in leaf node
      */
     public Object value() {
-        return value;
+        Object v = value;
+        if (v == null && kind != Kind.OBJECT) {
+            v = box();
+            value = v;
+        }
+        return v;
     }
 
     /**
@@ -44,7 +76,50 @@ public final class LeafNode extends DataNode {
      * @return string representation of value
      */
     public String asString() {
-        return String.valueOf(value);
+        if (kind == Kind.OBJECT) {
+            return String.valueOf(value);
+        }
+        return Long.toString(bits);
+    }
+
+    /**
+     * Returns the numeric value contained in leaf node as long.
+     *
+     * @return value contained in leaf node
+     * @throws IllegalStateException when value is not a number
+     */
+    public long longValue() {
+        if (kind != Kind.OBJECT) {
+            return bits;
+        }
+        if (!(value instanceof Number)) {
+            throw new IllegalStateException(E_NOT_NUMBER + value);
+        }
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * Returns the numeric value contained in leaf node as int.
+     *
+     * @return value contained in leaf node
+     * @throws IllegalStateException when value is not a number
+     * @throws ArithmeticException   when value does not fit in an int
+     */
+    public int intValue() {
+        return Math.toIntExact(longValue());
+    }
+
+    /**
+     * Returns the boolean value contained in leaf node.
+     *
+     * @return value contained in leaf node
+     * @throws IllegalStateException when value is not a boolean
+     */
+    public boolean booleanValue() {
+        if (!(value instanceof Boolean)) {
+            throw new IllegalStateException(E_NOT_BOOLEAN + value);
+        }
+        return (Boolean) value;
     }
 
     /**
@@ -55,6 +130,20 @@ public final class LeafNode extends DataNode {
     public LeafNode(Builder builder) {
         super(builder);
         value = builder.value;
+        bits = builder.bits;
+        kind = builder.kind;
+    }
+
+    /* Boxes the value held unboxed, in the type it was set with.*/
+    private Object box() {
+        switch (kind) {
+            case LONG:
+                return bits;
+            case INT:
+                return (int) bits;
+            default:
+                return (short) bits;
+        }
     }
 
     /**
@@ -68,6 +157,17 @@ public final class LeafNode extends DataNode {
         return new Builder(name, nameSpace);
     }
 
+    /**
+     * Returns data node builder instance with the given schema identifier. A
+     * schema identifier pooled by a key interner gives the pooled node key.
+     *
+     * @param schemaId schema identifier of node
+     * @return data node builder instance
+     */
+    public static Builder builder(SchemaId schemaId) {
+        return new Builder(schemaId);
+    }
+
     /**
      * Returns data node copy builder.
      *
@@ -86,10 +186,20 @@ public final class LeafNode extends DataNode {
     public static final class Builder extends DataNode.Builder<Builder> {
 
         /**
-         * Leaf node value.
+         * Leaf node value, when it is not held unboxed.
          */
         private Object value;
 
+        /**
+         * Leaf node value, when it is held unboxed.
+         */
+        private long bits;
+
+        /**
+         * Kind of the leaf node value.
+         */
+        private Kind kind = Kind.OBJECT;
+
         /**
          * Creates an instance of data node builder.
          *
@@ -100,6 +210,15 @@ public final class LeafNode extends DataNode {
             keyBuilder = NodeKey.builder().schemaId(name, namespace);
         }
 
+        /**
+         * Creates an instance of data node builder.
+         *
+         * @param schemaId schema identifier of node
+         */
+        protected Builder(SchemaId schemaId) {
+            keyBuilder = NodeKey.builder().schemaId(schemaId);
+        }
+
         /**
          * Creates an instance of leaf node copy builder.
          *
@@ -108,16 +227,57 @@ public final class LeafNode extends DataNode {
         public Builder(LeafNode node) {
             super(node);
             value = node.value;
+            bits = node.bits;
+            kind = node.kind;
         }
 
         /**
-         * Sets value of leaf node builder.
+         * Sets value of leaf node builder. A boxed value is kept as given,
+         * so that it is not boxed again when read.
          *
          * @param value value
          * @return leaf node builder
          */
         public Builder value(Object value) {
             this.value = value;
+            kind = Kind.OBJECT;
+            return this;
+        }
+
+        /**
+         * Sets long value of leaf node builder, without boxing.
+         *
+         * @param value value
+         * @return leaf node builder
+         */
+        public Builder longValue(long value) {
+            return set(Kind.LONG, value);
+        }
+
+        /**
+         * Sets int value of leaf node builder, without boxing.
+         *
+         * @param value value
+         * @return leaf node builder
+         */
+        public Builder intValue(int value) {
+            return set(Kind.INT, value);
+        }
+
+        /**
+         * Sets short value of leaf node builder, without boxing.
+         *
+         * @param value value
+         * @return leaf node builder
+         */
+        public Builder shortValue(short value) {
+            return set(Kind.SHORT, value);
+        }
+
+        private Builder set(Kind kind, long bits) {
+            this.kind = kind;
+            this.bits = bits;
+            value = null;
             return this;
         }
 
@@ -190,3 +350,4 @@ public final class LeafNode extends DataNode {
         }
     }
 }
+
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.model;
+
+/**
+ * Abstraction of a codec generated along with the default class of a YANG
+ * container, list or module. It creates the model objects of the class and
+ * reads and writes their attributes without reflection. Attributes are
+ * named by their java attribute name.
+ */
+public interface ModelObjectCodec {
+
+    /**
+     * Value returned by {@link #get(Object, String)} for an attribute the
+     * codec does not know.
+     */
+    Object UNKNOWN = new Object();
+
+    /**
+     * Returns a new model object of the default class.
+     *
+     * @return new model object
+     */
+    Object newObject();
+
+    /**
+     * Sets the value of a leaf attribute of the model object, or adds it
+     * when the attribute is a leaf-list. The value is as held by the leaf
+     * node. Returns false, without changing the model object, when the
+     * attribute is not known or its value needs a conversion the codec
+     * does not perform.
+     *
+     * @param obj       model object
+     * @param attribute java attribute name
+     * @param value     leaf value
+     * @return true if the value was set
+     */
+    boolean setLeaf(Object obj, String attribute, Object value);
+
+    /**
+     * Sets the child model object of the model object, or adds it when the
+     * attribute is a list. Returns false, without changing the model
+     * object, when the attribute is not known.
+     *
+     * @param obj       model object
+     * @param attribute java attribute name
+     * @param child     child model object
+     * @return true if the child was set
+     */
+    boolean setChild(Object obj, String attribute, Object child);
+
+    /**
+     * Returns the value of the attribute of the model object, or
+     * {@link #UNKNOWN} when the attribute is not known.
+     *
+     * @param obj       model object
+     * @param attribute java attribute name
+     * @return value of the attribute
+     */
+    Object get(Object obj, String attribute);
+
+    /**
+     * Returns whether the value of the leaf attribute of the model object is
+     * set, or null when the attribute is not a known leaf.
+     *
+     * @param obj       model object
+     * @param attribute java attribute name
+     * @return true if the leaf value is set, null if the leaf is not known
+     */
+    Boolean isLeafValueSet(Object obj, String attribute);
+}
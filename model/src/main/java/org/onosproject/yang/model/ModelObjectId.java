@@ -16,16 +16,19 @@
 
 package org.onosproject.yang.model;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
-import static java.util.Objects.hash;
+import static java.util.Collections.unmodifiableList;
 
 /**
  * Representation of an entity which identifies a resource in the generated
  * java code. It is a list of atomic path to identify the node
  * hierarchy to reach a resource in the instance tree.
+ * <p>
+ * The atomic paths are compared in order, and their hash is computed when
+ * the identifier is built, so they must not be modified afterwards.
  */
 public final class ModelObjectId {
 
@@ -34,13 +37,19 @@ public final class ModelObjectId {
      */
     private final List<AtomicPath> atomicPaths;
 
+    /**
+     * Hash of the atomic paths in order, computed once at build time.
+     */
+    private final int hash;
+
     /**
      * Create object from builder.
      *
      * @param builder initialized builder
      */
     private ModelObjectId(Builder builder) {
-        atomicPaths = builder.atomicPathList;
+        atomicPaths = unmodifiableList(new ArrayList<>(builder.atomicPathList));
+        hash = atomicPaths.hashCode();
     }
 
     /**
@@ -63,18 +72,19 @@ public final class ModelObjectId {
 
     @Override
     public int hashCode() {
-        return hash(atomicPaths);
+        return hash;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ModelObjectId)) {
             return false;
         }
         ModelObjectId that = (ModelObjectId) obj;
-        List<AtomicPath> thatList = that.atomicPaths;
-        return atomicPaths.size() == thatList.size() &&
-                atomicPaths.containsAll(thatList);
+        return hash == that.hash && atomicPaths.equals(that.atomicPaths);
     }
 
     @Override
@@ -89,7 +99,7 @@ public final class ModelObjectId {
      */
     public static class Builder {
 
-        private final List<AtomicPath> atomicPathList = new LinkedList<>();
+        private final List<AtomicPath> atomicPathList = new ArrayList<>();
 
         /**
          * Adds the node's identity for container.
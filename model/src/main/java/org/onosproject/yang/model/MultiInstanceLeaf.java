@@ -16,6 +16,9 @@
 
 package org.onosproject.yang.model;
 
+import java.util.Objects;
+
+import static java.util.Objects.hash;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
 
 /**
@@ -74,4 +77,22 @@ public class MultiInstanceLeaf<E extends LeafIdentifier>
     public void value(Object v) {
         value = v;
     }
+
+    @Override
+    public int hashCode() {
+        return hash(type(), leafIdentifier, value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        MultiInstanceLeaf<?> that = (MultiInstanceLeaf<?>) obj;
+        return Objects.equals(leafIdentifier, that.leafIdentifier) &&
+                Objects.equals(value, that.value);
+    }
 }
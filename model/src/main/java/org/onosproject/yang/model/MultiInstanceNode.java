@@ -16,6 +16,9 @@
 
 package org.onosproject.yang.model;
 
+import java.util.Objects;
+
+import static java.util.Objects.hash;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
 
 /**
@@ -74,4 +77,22 @@ public class MultiInstanceNode<T extends InnerModelObject, K extends KeyInfo>
     public void key(K k) {
         key = k;
     }
+
+    @Override
+    public int hashCode() {
+        return hash(type(), listClass, key);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        MultiInstanceNode<?, ?> that = (MultiInstanceNode<?, ?>) obj;
+        return Objects.equals(listClass, that.listClass) &&
+                Objects.equals(key, that.key);
+    }
 }
@@ -20,7 +20,6 @@ import java.util.Objects;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Objects.hash;
 import static org.onosproject.yang.model.ModelConstants.INCOMPLETE_SCHEMA_INFO;
 
 /**
@@ -67,11 +66,14 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
 
     @Override
     public int hashCode() {
-        return hash(schemaId);
+        return Objects.hashCode(schemaId);
     }
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj == null) {
             return false;
         }
@@ -152,12 +154,19 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
         }
 
         /**
-         * construct the node key.
+         * construct the node key. Node key without key leaves or value, of
+         * a schema identifier pooled by a key interner, is the pooled one.
          *
          * @return node key
          */
         public NodeKey build() {
             checkNotNull(schemaId.name(), INCOMPLETE_SCHEMA_INFO);
+            if (getClass() == NodeKeyBuilder.class) {
+                NodeKey key = schemaId.nodeKey();
+                if (key != null) {
+                    return key;
+                }
+            }
             return new NodeKey(this);
         }
     }
@@ -0,0 +1,609 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents a persistent map which keeps its entries in insertion order.
+ * A map is never changed once created; edits are made through an
+ * {@link Editor}, which shares all the unchanged parts of the map with the
+ * map it was created from, so an edit costs O(log n) and the older map
+ * stays as it was.
+ * <p>
+ * Entries are held in two hash array mapped tries. The key trie finds an
+ * entry by the hash of its key. The order trie finds an entry by the
+ * sequence number given to it when its key was first added, and is walked
+ * in sequence order for iteration. Replacing the value of a key keeps its
+ * position, as in a linked hash map.
+ *
+ * @param <K> type of key
+ * @param <V> type of value
+ */
+final class PersistentLinkedMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+    private static final Object[] NO_SLOTS = new Object[0];
+
+    private static final PersistentLinkedMap<?, ?> EMPTY =
+            new PersistentLinkedMap<>(null, null, 0, 0, 0L);
+
+    private final TrieNode keyRoot;
+    private final TrieNode orderRoot;
+    private final int orderShift;
+    private final int size;
+    private final long nextSeq;
+
+    private Set<Map.Entry<K, V>> entrySet;
+
+    private PersistentLinkedMap(TrieNode keyRoot, TrieNode orderRoot,
+                                int orderShift, int size, long nextSeq) {
+        this.keyRoot = keyRoot;
+        this.orderRoot = orderRoot;
+        this.orderShift = orderShift;
+        this.size = size;
+        this.nextSeq = nextSeq;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @return empty map
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentLinkedMap<K, V> empty() {
+        return (PersistentLinkedMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns an editor which starts from the entries of this map.
+     *
+     * @return map editor
+     */
+    Editor<K, V> editor() {
+        return new Editor<>(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        Leaf<K, V> leaf = find(keyRoot, key);
+        return leaf == null ? null : leaf.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(keyRoot, key) != null;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> set = entrySet;
+        if (set == null) {
+            set = new AbstractSet<Map.Entry<K, V>>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new OrderIterator<>(orderRoot);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+            entrySet = set;
+        }
+        return set;
+    }
+
+    /**
+     * Returns the hash of the key with the high bits spread to the low
+     * bits, which are used first.
+     *
+     * @param key key
+     * @return hash of the key
+     */
+    private static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the entry of the key in the key trie.
+     *
+     * @param root root of the key trie
+     * @param key  key
+     * @param <K>  type of key
+     * @param <V>  type of value
+     * @return entry of the key, null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Leaf<K, V> find(TrieNode root, Object key) {
+        int hash = hash(key);
+        TrieNode node = root;
+        int shift = 0;
+        while (node != null) {
+            if (shift >= HASH_BITS) {
+                for (Object slot : node.slots) {
+                    Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                    if (leaf.matches(hash, key)) {
+                        return leaf;
+                    }
+                }
+                return null;
+            }
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[node.index(bit)];
+            if (slot instanceof Leaf) {
+                Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                return leaf.matches(hash, key) ? leaf : null;
+            }
+            node = (TrieNode) slot;
+            shift += BITS;
+        }
+        return null;
+    }
+
+    /**
+     * Editor of a persistent linked map. Trie nodes created by an editor
+     * are changed in place until the map is taken from it, after which
+     * they are copied on the next change, so a map is never changed once
+     * taken.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     */
+    static final class Editor<K, V> {
+
+        private Object edit = new Object();
+        private TrieNode keyRoot;
+        private TrieNode orderRoot;
+        private int orderShift;
+        private int size;
+        private long nextSeq;
+
+        private Editor(PersistentLinkedMap<K, V> map) {
+            keyRoot = map.keyRoot;
+            orderRoot = map.orderRoot;
+            orderShift = map.orderShift;
+            size = map.size;
+            nextSeq = map.nextSeq;
+        }
+
+        /**
+         * Returns the value of the key.
+         *
+         * @param key key
+         * @return value of the key, null if there is none
+         */
+        V get(Object key) {
+            Leaf<K, V> leaf = find(keyRoot, key);
+            return leaf == null ? null : leaf.getValue();
+        }
+
+        /**
+         * Returns the number of entries.
+         *
+         * @return number of entries
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Adds the key with the value, or replaces the value of the key
+         * keeping its position.
+         *
+         * @param key   key
+         * @param value value
+         * @return editor
+         */
+        Editor<K, V> put(K key, V value) {
+            int hash = hash(key);
+            Leaf<K, V> old = find(keyRoot, key);
+            if (old != null && old.getValue() == value) {
+                return this;
+            }
+            long seq;
+            if (old == null) {
+                seq = nextSeq++;
+                size++;
+            } else {
+                seq = old.seq;
+            }
+            Leaf<K, V> leaf = new Leaf<>(key, value, hash, seq);
+            keyRoot = putKey(keyRoot, 0, leaf);
+            while (orderRoot != null &&
+                    (seq >>> orderShift) > MASK) {
+                // grow the order trie by one level on top
+                TrieNode root = new TrieNode(edit, 1, new Object[]{orderRoot});
+                orderRoot = root;
+                orderShift += BITS;
+            }
+            orderRoot = putOrder(orderRoot, orderShift, leaf);
+            return this;
+        }
+
+        /**
+         * Removes the key.
+         *
+         * @param key key
+         * @return editor
+         */
+        Editor<K, V> remove(Object key) {
+            Leaf<K, V> old = find(keyRoot, key);
+            if (old == null) {
+                return this;
+            }
+            keyRoot = removeKey(keyRoot, 0, old);
+            orderRoot = removeOrder(orderRoot, orderShift, old.seq);
+            size--;
+            if (size == 0) {
+                orderShift = 0;
+                nextSeq = 0;
+            }
+            return this;
+        }
+
+        /**
+         * Returns the map of the entries edited so far. Further edits do
+         * not change the returned map.
+         *
+         * @return persistent linked map
+         */
+        PersistentLinkedMap<K, V> toMap() {
+            edit = new Object();
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentLinkedMap<>(keyRoot, orderRoot, orderShift,
+                                             size, nextSeq);
+        }
+
+        private TrieNode editable(TrieNode node) {
+            if (node.edit == edit) {
+                return node;
+            }
+            return new TrieNode(edit, node.bitmap, node.slots.clone());
+        }
+
+        private TrieNode putKey(TrieNode node, int shift, Leaf<K, V> leaf) {
+            if (node == null) {
+                return new TrieNode(edit, bit(leaf.hash, shift),
+                                    new Object[]{leaf});
+            }
+            if (shift >= HASH_BITS) {
+                Object[] slots = node.slots;
+                for (int i = 0; i < slots.length; i++) {
+                    if (((Leaf) slots[i]).matches(leaf.hash, leaf.getKey())) {
+                        TrieNode n = editable(node);
+                        n.slots[i] = leaf;
+                        return n;
+                    }
+                }
+                TrieNode n = editable(node);
+                n.slots = insert(n.slots, slots.length, leaf);
+                return n;
+            }
+            int bit = bit(leaf.hash, shift);
+            int idx = node.index(bit);
+            if ((node.bitmap & bit) == 0) {
+                TrieNode n = editable(node);
+                n.slots = insert(n.slots, idx, leaf);
+                n.bitmap |= bit;
+                return n;
+            }
+            Object slot = node.slots[idx];
+            Object sub;
+            if (slot instanceof Leaf) {
+                Leaf<?, ?> other = (Leaf<?, ?>) slot;
+                if (other.matches(leaf.hash, leaf.getKey())) {
+                    sub = leaf;
+                } else {
+                    sub = pair(other, leaf, shift + BITS);
+                }
+            } else {
+                sub = putKey((TrieNode) slot, shift + BITS, leaf);
+                if (sub == slot) {
+                    return node;
+                }
+            }
+            TrieNode n = editable(node);
+            n.slots[idx] = sub;
+            return n;
+        }
+
+        private TrieNode pair(Leaf<?, ?> a, Leaf<?, ?> b, int shift) {
+            if (shift >= HASH_BITS) {
+                return new TrieNode(edit, 0, new Object[]{a, b});
+            }
+            int bitA = bit(a.hash, shift);
+            int bitB = bit(b.hash, shift);
+            if (bitA == bitB) {
+                return new TrieNode(edit, bitA,
+                                    new Object[]{pair(a, b, shift + BITS)});
+            }
+            Object[] slots = bitA < bitB ?
+                    new Object[]{a, b} : new Object[]{b, a};
+            return new TrieNode(edit, bitA | bitB, slots);
+        }
+
+        private TrieNode removeKey(TrieNode node, int shift, Leaf<K, V> leaf) {
+            if (shift >= HASH_BITS) {
+                Object[] slots = node.slots;
+                for (int i = 0; i < slots.length; i++) {
+                    if (slots[i] == leaf) {
+                        if (slots.length == 1) {
+                            return null;
+                        }
+                        TrieNode n = editable(node);
+                        n.slots = delete(n.slots, i);
+                        return n;
+                    }
+                }
+                return node;
+            }
+            int bit = bit(leaf.hash, shift);
+            int idx = node.index(bit);
+            Object slot = node.slots[idx];
+            Object sub = null;
+            if (slot instanceof TrieNode) {
+                TrieNode child = removeKey((TrieNode) slot, shift + BITS,
+                                           leaf);
+                if (child == slot) {
+                    return node;
+                }
+                sub = collapse(child);
+            }
+            if (sub == null) {
+                if (node.bitmap == bit) {
+                    return null;
+                }
+                TrieNode n = editable(node);
+                n.slots = delete(n.slots, idx);
+                n.bitmap ^= bit;
+                return n;
+            }
+            TrieNode n = editable(node);
+            n.slots[idx] = sub;
+            return n;
+        }
+
+        private TrieNode putOrder(TrieNode node, int shift, Leaf<K, V> leaf) {
+            int bit = bit(leaf.seq, shift);
+            if (node == null) {
+                Object sub = shift == 0 ?
+                        leaf : putOrder(null, shift - BITS, leaf);
+                return new TrieNode(edit, bit, new Object[]{sub});
+            }
+            int idx = node.index(bit);
+            boolean present = (node.bitmap & bit) != 0;
+            Object sub;
+            if (shift == 0) {
+                sub = leaf;
+            } else {
+                TrieNode child = present ? (TrieNode) node.slots[idx] : null;
+                sub = putOrder(child, shift - BITS, leaf);
+                if (sub == child) {
+                    return node;
+                }
+            }
+            TrieNode n = editable(node);
+            if (present) {
+                n.slots[idx] = sub;
+            } else {
+                n.slots = insert(n.slots, idx, sub);
+                n.bitmap |= bit;
+            }
+            return n;
+        }
+
+        private TrieNode removeOrder(TrieNode node, int shift, long seq) {
+            int bit = bit(seq, shift);
+            int idx = node.index(bit);
+            if (shift > 0) {
+                TrieNode child = removeOrder((TrieNode) node.slots[idx],
+                                             shift - BITS, seq);
+                if (child != null) {
+                    TrieNode n = editable(node);
+                    n.slots[idx] = child;
+                    return n;
+                }
+            }
+            if (node.bitmap == bit) {
+                return null;
+            }
+            TrieNode n = editable(node);
+            n.slots = delete(n.slots, idx);
+            n.bitmap ^= bit;
+            return n;
+        }
+    }
+
+    /**
+     * Returns the trie node itself, or its only entry if that is all it
+     * holds, so that an entry does not stay deeper than it needs to.
+     *
+     * @param node trie node
+     * @return trie node or entry
+     */
+    private static Object collapse(TrieNode node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.slots.length == 1 && node.slots[0] instanceof Leaf) {
+            return node.slots[0];
+        }
+        return node;
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int bit(long seq, int shift) {
+        return 1 << ((int) (seq >>> shift) & MASK);
+    }
+
+    private static Object[] insert(Object[] slots, int idx, Object slot) {
+        Object[] copy = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, copy, 0, idx);
+        copy[idx] = slot;
+        System.arraycopy(slots, idx, copy, idx + 1, slots.length - idx);
+        return copy;
+    }
+
+    private static Object[] delete(Object[] slots, int idx) {
+        if (slots.length == 1) {
+            return NO_SLOTS;
+        }
+        Object[] copy = new Object[slots.length - 1];
+        System.arraycopy(slots, 0, copy, 0, idx);
+        System.arraycopy(slots, idx + 1, copy, idx, copy.length - idx);
+        return copy;
+    }
+
+    /**
+     * Representation of a bitmap indexed trie node, holding entries and
+     * child trie nodes. At the bottom of the key trie, where the hash bits
+     * run out, it holds entries with the same hash and no bitmap.
+     */
+    private static final class TrieNode {
+        private final Object edit;
+        private int bitmap;
+        private Object[] slots;
+
+        private TrieNode(Object edit, int bitmap, Object[] slots) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * Representation of an entry, with the hash of its key and its
+     * sequence number in insertion order.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     */
+    private static final class Leaf<K, V>
+            extends AbstractMap.SimpleImmutableEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int hash;
+        private final long seq;
+
+        private Leaf(K key, V value, int hash, long seq) {
+            super(key, value);
+            this.hash = hash;
+            this.seq = seq;
+        }
+
+        private boolean matches(int hash, Object key) {
+            return this.hash == hash && Objects.equals(getKey(), key);
+        }
+    }
+
+    /**
+     * Iterator which walks the order trie depth first, giving the entries
+     * in insertion order.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     */
+    private static final class OrderIterator<K, V>
+            implements Iterator<Map.Entry<K, V>> {
+
+        private final Deque<TrieNode> nodes = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private Leaf<K, V> next;
+
+        private OrderIterator(TrieNode root) {
+            if (root != null) {
+                nodes.push(root);
+                positions.push(0);
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (!nodes.isEmpty()) {
+                TrieNode node = nodes.peek();
+                int pos = positions.pop();
+                if (pos >= node.slots.length) {
+                    nodes.pop();
+                    continue;
+                }
+                positions.push(pos + 1);
+                Object slot = node.slots[pos];
+                if (slot instanceof Leaf) {
+                    next = (Leaf<K, V>) slot;
+                    return;
+                }
+                nodes.push((TrieNode) slot);
+                positions.push(0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf<K, V> leaf = next;
+            advance();
+            return leaf;
+        }
+    }
+}
@@ -16,11 +16,13 @@
 
 package org.onosproject.yang.model;
 
-import java.util.LinkedList;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
-import static java.util.Objects.hash;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
 import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
 
@@ -28,12 +30,41 @@ import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
  * Representation of an entity which identifies a resource in the logical tree
  * data store. It is a list of node keys to identify the branch point
  * hierarchy to reach a resource in the instance tree.
+ * <p>
+ * Resource identifier is immutable. Each identifier holds its last node key
+ * and a link to the identifier of its parent, so a child identifier shares
+ * the whole prefix with its parent and is derived in constant time.
  */
 
 public class ResourceId {
 
     /**
-     * List of node keys.
+     * Shared identifier of the root, with no node key.
+     */
+    private static final ResourceId ROOT = new ResourceId(null, null);
+
+    /**
+     * Resource identifier of the parent, null for the root.
+     */
+    private final ResourceId parent;
+
+    /**
+     * Last node key, null for the root.
+     */
+    private final NodeKey key;
+
+    /**
+     * Number of node keys from the root.
+     */
+    private final int size;
+
+    /**
+     * Hash of the node keys in order, computed once from the parent hash.
+     */
+    private final int hash;
+
+    /**
+     * List of node keys, created on first request.
      */
     private List<NodeKey> nodeKeyList;
 
@@ -43,7 +74,43 @@ public class ResourceId {
      * @param builder initialized builder
      */
     public ResourceId(Builder builder) {
-        nodeKeyList = builder.nodeKeyList;
+        ResourceId prefix = ROOT;
+        NodeKey last = null;
+        for (NodeKey nodeKey : builder.nodeKeyList) {
+            if (last != null) {
+                prefix = new ResourceId(prefix, last);
+            }
+            last = nodeKey;
+        }
+        if (last == null) {
+            parent = null;
+            key = null;
+            size = 0;
+            hash = 1;
+        } else {
+            parent = prefix;
+            key = last;
+            size = prefix.size + 1;
+            hash = 31 * prefix.hash + last.hashCode();
+        }
+    }
+
+    /**
+     * Creates resource identifier of the node key under the given parent.
+     *
+     * @param parent resource identifier of the parent
+     * @param key    last node key
+     */
+    private ResourceId(ResourceId parent, NodeKey key) {
+        this.parent = parent;
+        this.key = key;
+        if (parent == null) {
+            size = 0;
+            hash = 1;
+        } else {
+            size = parent.size + 1;
+            hash = 31 * parent.hash + key.hashCode();
+        }
     }
 
     /**
@@ -57,12 +124,71 @@ public class ResourceId {
 
     /**
      * Returns the list of node key used to uniquely identify the branch in the
-     * logical tree starting from root.
+     * logical tree starting from root. The returned list is immutable.
      *
      * @return node key uniquely identifying the branch
      */
     public List<NodeKey> nodeKeys() {
-        return nodeKeyList;
+        List<NodeKey> keys = nodeKeyList;
+        if (keys == null) {
+            NodeKey[] array = new NodeKey[size];
+            ResourceId id = this;
+            for (int i = size - 1; i >= 0; i--) {
+                array[i] = id.key;
+                id = id.parent;
+            }
+            keys = ImmutableList.copyOf(array);
+            nodeKeyList = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the number of node keys in the resource identifier.
+     *
+     * @return number of node keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the last node key of the resource identifier.
+     *
+     * @return last node key, null if there is no node key
+     */
+    public NodeKey lastKey() {
+        return key;
+    }
+
+    /**
+     * Returns the resource identifier of the parent, which shares all but
+     * the last node key with this resource identifier.
+     *
+     * @return resource identifier of the parent, null if there is no node
+     * key
+     */
+    public ResourceId parent() {
+        if (size == 0) {
+            return null;
+        }
+        return parent;
+    }
+
+    /**
+     * Returns the resource identifier of the given node key under this
+     * resource identifier. The node keys of this resource identifier are
+     * shared, not copied.
+     *
+     * @param nodeKey node key of the child
+     * @return resource identifier of the child
+     */
+    public ResourceId child(NodeKey nodeKey) {
+        checkNotNull(nodeKey);
+        if (key instanceof LeafListKey) {
+            throw new ModelException(LEAF_IS_TERMINAL);
+        }
+        return new ResourceId(size == 0 ? ROOT : this, nodeKey);
     }
 
     /**
@@ -79,24 +205,41 @@ public class ResourceId {
 
     @Override
     public int hashCode() {
-        return hash(nodeKeyList);
+        return hash;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ResourceId)) {
             return false;
         }
         ResourceId that = (ResourceId) obj;
-        List<NodeKey> thatList = that.nodeKeyList;
-        return nodeKeyList.size() == thatList.size() &&
-                nodeKeyList.containsAll(thatList);
+        if (size != that.size || hash != that.hash) {
+            return false;
+        }
+        /*
+         * Compare node keys in order from the last one, until a prefix
+         * shared by both resource identifiers is reached.
+         */
+        ResourceId a = this;
+        ResourceId b = that;
+        while (a != b && a.size > 0) {
+            if (!a.key.equals(b.key)) {
+                return false;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
+        return true;
     }
 
     @Override
     public String toString() {
         return toStringHelper(getClass())
-                .add("nodeKeyList", nodeKeyList)
+                .add("nodeKeyList", nodeKeys())
                 .toString();
     }
 
@@ -118,7 +261,7 @@ public class ResourceId {
          * Creates an instance of resource identifier builder.
          */
         public Builder() {
-            nodeKeyList = new LinkedList<>();
+            nodeKeyList = new ArrayList<>();
         }
 
         /**
@@ -130,10 +273,7 @@ public class ResourceId {
          * @throws CloneNotSupportedException when clone is not supported
          */
         public Builder(ResourceId id) throws CloneNotSupportedException {
-            nodeKeyList = new LinkedList<>();
-            for (NodeKey key : id.nodeKeyList) {
-                nodeKeyList.add(key.clone());
-            }
+            nodeKeyList = new ArrayList<>(id.nodeKeys());
         }
 
         /**
@@ -146,8 +286,7 @@ public class ResourceId {
         public Builder append(ResourceId id) throws CloneNotSupportedException {
             processCurKey();
             curKeyBuilder = null;
-            Builder ob = id.copyBuilder();
-            nodeKeyList.addAll(ob.nodeKeyList);
+            nodeKeyList.addAll(id.nodeKeys());
             return this;
         }
 
@@ -32,6 +32,17 @@ public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
     private String name;
     private String nameSpace;
 
+    /**
+     * Hash of name and namespace, computed on first use.
+     */
+    private transient int hash;
+
+    /**
+     * Node key without key leaves or value, set when the schema identifier
+     * is pooled by a key interner.
+     */
+    private transient volatile NodeKey nodeKey;
+
     private SchemaId() {
     }
 
@@ -69,21 +80,50 @@ public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
      *                                    support the {@code Cloneable} interface
      */
     public SchemaId clone() throws CloneNotSupportedException {
-        return (SchemaId) super.clone();
+        SchemaId clonedId = (SchemaId) super.clone();
+        clonedId.nodeKey = null;
+        return clonedId;
+    }
+
+    /**
+     * Returns the pooled node key of this schema identifier.
+     *
+     * @return node key, or null if this schema identifier is not pooled
+     */
+    NodeKey nodeKey() {
+        return nodeKey;
+    }
+
+    /**
+     * Sets the pooled node key of this schema identifier.
+     *
+     * @param nodeKey node key
+     */
+    void nodeKey(NodeKey nodeKey) {
+        this.nodeKey = nodeKey;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, nameSpace);
+        int h = hash;
+        if (h == 0) {
+            h = 31 * Objects.hashCode(name) + Objects.hashCode(nameSpace);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SchemaId)) {
             return false;
         }
         SchemaId that = (SchemaId) obj;
-        return Objects.equals(name, that.name) &&
+        return hashCode() == that.hashCode() &&
+                Objects.equals(name, that.name) &&
                 Objects.equals(nameSpace, that.nameSpace);
     }
 
@@ -16,6 +16,9 @@
 
 package org.onosproject.yang.model;
 
+import java.util.Objects;
+
+import static java.util.Objects.hash;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
 
 /**
@@ -52,4 +55,21 @@ public class SingleInstanceLeaf<E extends LeafIdentifier> extends AtomicPath {
     public void leafIdentifier(E leaf) {
         this.leafIdentifier = leaf;
     }
+
+    @Override
+    public int hashCode() {
+        return hash(type(), leafIdentifier);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        SingleInstanceLeaf<?> that = (SingleInstanceLeaf<?>) obj;
+        return Objects.equals(leafIdentifier, that.leafIdentifier);
+    }
 }
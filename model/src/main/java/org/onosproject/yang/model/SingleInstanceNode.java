@@ -16,6 +16,9 @@
 
 package org.onosproject.yang.model;
 
+import java.util.Objects;
+
+import static java.util.Objects.hash;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
 
 /**
@@ -52,4 +55,21 @@ public class SingleInstanceNode<T extends InnerModelObject> extends AtomicPath {
     public void container(Class<T> container) {
         containerClass = container;
     }
+
+    @Override
+    public int hashCode() {
+        return hash(type(), containerClass);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        SingleInstanceNode<?> that = (SingleInstanceNode<?>) obj;
+        return Objects.equals(containerClass, that.containerClass);
+    }
 }
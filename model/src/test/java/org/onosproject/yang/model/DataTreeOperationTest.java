@@ -198,7 +198,7 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        node = node.copyBuilder()
 
                 //Reach to c1 by fetching it from the map.
                 .getChildBuilder(keys.get(1))
@@ -210,6 +210,9 @@ public class DataTreeOperationTest {
                 //add c4 in c3.
                 .createChildBuilder(C4, C4_NAMESPACE).type(SINGLE_INSTANCE_NODE)
 
+                //build c4 and return to c3.
+                .exitNode()
+
                 //build c3 and return to c1.
                 .exitNode()
 
@@ -276,7 +279,7 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        node = node.copyBuilder()
 
                 //Reach to c2 by fetching it from the map.
                 .getChildBuilder(keys.get(1))
@@ -353,7 +356,7 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        node = node.copyBuilder()
 
                 //Reach to c1 by fetching it from the map.
                 .getChildBuilder(keys.get(1))
@@ -435,7 +438,7 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        node = node.copyBuilder()
 
                 // copy c1
                 .getChildBuilder(keys.get(1))
@@ -487,7 +490,7 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        node = node.copyBuilder()
 
                 //delete l1 from c1
                 .deleteChild(keys.get(1))
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Unit tests for key interner.
+ */
+public class KeyInternerTest {
+
+    /**
+     * Checks that equal schema identifiers and node keys are shared.
+     */
+    @Test
+    public void internTest() {
+        KeyInterner interner = new KeyInterner();
+        SchemaId id = new SchemaId("interface", "urn:test:intern");
+        assertThat(interner.intern(id), sameInstance(id));
+        assertThat(interner.intern(new SchemaId("interface", "urn:test:intern")),
+                   sameInstance(id));
+
+        NodeKey key = interner.nodeKey(id);
+        assertThat(key.schemaId(), sameInstance(id));
+        assertThat(NodeKey.builder().schemaId(id).build(), sameInstance(key));
+        assertThat(InnerNode.builder(id).type(DataNode.Type.SINGLE_INSTANCE_NODE)
+                           .build().key(), sameInstance(key));
+
+        SchemaId noNamespace = interner.intern(new SchemaId("interface", null));
+        assertThat(noNamespace.equals(id), is(false));
+        assertThat(interner.intern(new SchemaId("interface", null)),
+                   sameInstance(noNamespace));
+        assertThat(interner.size(), is(2));
+    }
+
+    /**
+     * Checks that schema identifiers are not pooled once the pool is full,
+     * and that pools do not share entries.
+     */
+    @Test
+    public void boundTest() {
+        KeyInterner interner = new KeyInterner(1);
+        SchemaId first = interner.intern(new SchemaId("a", "urn:test:bound"));
+        SchemaId second = new SchemaId("b", "urn:test:bound");
+        assertThat(interner.intern(second), sameInstance(second));
+        assertThat(interner.intern(new SchemaId("b", "urn:test:bound")),
+                   not(sameInstance(second)));
+        assertThat(interner.size(), is(1));
+
+        KeyInterner other = new KeyInterner();
+        assertThat(other.intern(new SchemaId("a", "urn:test:bound")),
+                   not(sameInstance(first)));
+        assertThat(NodeKey.builder().schemaId("a", "urn:test:bound").build()
+                           .schemaId(), not(sameInstance(first)));
+    }
+}
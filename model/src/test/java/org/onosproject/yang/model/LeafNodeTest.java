@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+
+/**
+ * Unit tests for leaf node values.
+ */
+public class LeafNodeTest {
+
+    /**
+     * Checks that unboxed values read back the same as boxed ones.
+     */
+    @Test
+    public void primitiveValueTest() {
+        LeafNode counter = leaf().value(1234567890123L).build();
+        assertThat(counter.value(), instanceOf(Long.class));
+        assertThat(counter.value(), is(1234567890123L));
+        assertThat(counter.longValue(), is(1234567890123L));
+        assertThat(counter.asString(), is("1234567890123"));
+
+        LeafNode mtu = leaf().intValue(9000).build();
+        assertThat(mtu.value(), instanceOf(Integer.class));
+        assertThat(mtu.intValue(), is(9000));
+        assertThat(mtu.longValue(), is(9000L));
+
+        LeafNode vlan = leaf().value((short) 100).build();
+        assertThat(vlan.value(), instanceOf(Short.class));
+        assertThat(vlan.intValue(), is(100));
+
+        LeafNode enabled = leaf().value(true).build();
+        assertThat(enabled.booleanValue(), is(true));
+
+        LeafNode name = leaf().value("eth0").build();
+        assertThat(name.value(), is("eth0"));
+    }
+
+    /**
+     * Checks that a value is boxed at most once.
+     */
+    @Test
+    public void boxOnceTest() {
+        Long boxed = 1234567890123L;
+        LeafNode counter = leaf().value(boxed).build();
+        assertThat(counter.value(), sameInstance(boxed));
+
+        LeafNode octets = leaf().longValue(1234567890123L).build();
+        assertThat(octets.value(), sameInstance(octets.value()));
+        assertThat(octets.copyBuilder().build().value(),
+                   sameInstance(octets.value()));
+    }
+
+    /**
+     * Checks that the value is kept by the copy builder.
+     */
+    @Test
+    public void copyBuilderTest() {
+        LeafNode counter = leaf().longValue(42L).build();
+        LeafNode copy = counter.copyBuilder().build();
+        assertThat(copy.value(), is(42L));
+        assertThat(copy.key(), is(counter.key()));
+
+        LeafNode changed = counter.copyBuilder().value("42").build();
+        assertThat(changed.value(), is("42"));
+        assertThat(counter.longValue(), is(42L));
+    }
+
+    /**
+     * Checks that a non numeric value is not read as a number.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void notNumberTest() {
+        leaf().value("eth0").build().longValue();
+    }
+
+    private static LeafNode.Builder leaf() {
+        return LeafNode.builder("leaf", "urn:test:leaf")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE);
+    }
+}
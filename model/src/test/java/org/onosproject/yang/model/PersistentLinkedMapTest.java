@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * Unit tests for persistent linked map.
+ */
+public class PersistentLinkedMapTest {
+
+    /**
+     * Checks the map against a linked hash map under the same edits.
+     */
+    @Test
+    public void linkedOrderTest() {
+        PersistentLinkedMap.Editor<Integer, String> editor =
+                PersistentLinkedMap.<Integer, String>empty().editor();
+        Map<Integer, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            int key = (i * 7919) % 5000;
+            editor.put(key, "v" + i);
+            expected.put(key, "v" + i);
+            if (i % 3 == 0) {
+                editor.remove((i * 31) % 5000);
+                expected.remove((i * 31) % 5000);
+            }
+        }
+        PersistentLinkedMap<Integer, String> map = editor.toMap();
+        assertThat(map.size(), is(expected.size()));
+        assertThat(new ArrayList<>(map.entrySet()),
+                   is(new ArrayList<>(expected.entrySet())));
+        assertThat(map, is(expected));
+    }
+
+    /**
+     * Checks that a map does not change when it is edited later.
+     */
+    @Test
+    public void versionTest() {
+        PersistentLinkedMap.Editor<String, String> editor =
+                PersistentLinkedMap.<String, String>empty().editor();
+        editor.put("a", "1").put("b", "2").put("c", "3");
+        PersistentLinkedMap<String, String> first = editor.toMap();
+
+        editor.put("b", "4").remove("a").put("d", "5");
+        PersistentLinkedMap<String, String> second = editor.toMap();
+
+        assertThat(new ArrayList<>(first.keySet()), is(list("a", "b", "c")));
+        assertThat(first.get("b"), is("2"));
+        assertThat(new ArrayList<>(second.keySet()), is(list("b", "c", "d")));
+        assertThat(second.get("b"), is("4"));
+        assertThat(second.get("a"), nullValue());
+
+        PersistentLinkedMap<String, String> third = first.editor()
+                .remove("c").toMap();
+        assertThat(new ArrayList<>(third.keySet()), is(list("a", "b")));
+        assertThat(first.size(), is(3));
+    }
+
+    /**
+     * Checks keys with the same hash.
+     */
+    @Test
+    public void collisionTest() {
+        PersistentLinkedMap.Editor<CollidingKey, Integer> editor =
+                PersistentLinkedMap.<CollidingKey, Integer>empty().editor();
+        for (int i = 0; i < 10; i++) {
+            editor.put(new CollidingKey(i), i);
+        }
+        editor.remove(new CollidingKey(4));
+        PersistentLinkedMap<CollidingKey, Integer> map = editor.toMap();
+        assertThat(map.size(), is(9));
+        assertThat(map.get(new CollidingKey(7)), is(7));
+        assertThat(map.get(new CollidingKey(4)), nullValue());
+    }
+
+    /**
+     * Checks that editing a copy builder does not change the inner node.
+     */
+    @Test
+    public void innerNodeCopyTest() {
+        InnerNode.Builder builder = InnerNode.builder("c1", "ns")
+                .type(DataNode.Type.SINGLE_INSTANCE_NODE);
+        builder.createChildBuilder("l1", "ns", "v1")
+                .type(DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .exitNode();
+        InnerNode node = builder.build();
+
+        InnerNode.Builder copy = node.copyBuilder();
+        copy.createChildBuilder("l2", "ns", "v2")
+                .type(DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .exitNode();
+        InnerNode edited = copy.build();
+
+        assertThat(node.childNodes().size(), is(1));
+        assertThat(edited.childNodes().size(), is(2));
+    }
+
+    private static List<String> list(String... values) {
+        List<String> list = new ArrayList<>();
+        for (String value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static final class CollidingKey {
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CollidingKey &&
+                    ((CollidingKey) obj).id == id;
+        }
+    }
+}
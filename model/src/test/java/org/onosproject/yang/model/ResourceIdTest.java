@@ -13,6 +13,8 @@ import org.junit.Test;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test resource ID.
@@ -65,6 +67,39 @@ public class ResourceIdTest {
                      listKey.keyLeafs().get(0).leafSchema().name());
     }
 
+    @Test
+    public void resourceIdDerivation() {
+        ResourceId card = ResourceId.builder()
+                .addBranchPointSchema("card", "testNameSpace")
+                .addKeyLeaf("slot", "testNameSpace", 8).build();
+        NodeKey port = NodeKey.builder().schemaId("port", "testNameSpace")
+                .build();
+        NodeKey stats = NodeKey.builder().schemaId("stats", "testNameSpace")
+                .build();
+
+        ResourceId child = card.child(port).child(stats);
+        ResourceId built = ResourceId.builder()
+                .addBranchPointSchema("card", "testNameSpace")
+                .addKeyLeaf("slot", "testNameSpace", 8)
+                .addBranchPointSchema("port", "testNameSpace")
+                .addBranchPointSchema("stats", "testNameSpace").build();
+        assertEquals("invalid derived resource id", built, child);
+        assertEquals("invalid hash of derived resource id",
+                     built.hashCode(), child.hashCode());
+        assertEquals("invalid node keys of derived resource id",
+                     built.nodeKeys(), child.nodeKeys());
+        assertSame("prefix not shared with parent", card,
+                   child.parent().parent());
+        assertEquals("invalid size of derived resource id", 3, child.size());
+
+        ResourceId reordered = ResourceId.builder()
+                .addBranchPointSchema("card", "testNameSpace")
+                .addKeyLeaf("slot", "testNameSpace", 8)
+                .addBranchPointSchema("stats", "testNameSpace")
+                .addBranchPointSchema("port", "testNameSpace").build();
+        assertNotEquals("order of node keys ignored", built, reordered);
+    }
+
     private String getKeyName(String s, int j) {
         if (s.equals("card")) {
             return "slot";
@@ -16,6 +16,8 @@
 
 package org.onosproject.yang.runtime;
 
+import org.onosproject.yang.model.KeyInterner;
+
 /**
  * Representation of an entity which maintains additional information
  * required to create the data node.
@@ -32,6 +34,11 @@ public class HelperContext {
      */
     private ExtResourceIdBldr parentResourceIdBldr;
 
+    /**
+     * Key interner of the model registry, looked up once per decode.
+     */
+    private KeyInterner keyInterner;
+
     // Forbid construction.
     public HelperContext() {
         resourceIdBldr = new ExtResourceIdBldr();
@@ -73,4 +80,24 @@ public class HelperContext {
     public void setParentResourceIdBldr(ExtResourceIdBldr prid) {
         parentResourceIdBldr = prid;
     }
+
+    /**
+     * Returns the key interner of the model registry which the data node
+     * belongs to.
+     *
+     * @return key interner, null if schema is not of a model registry
+     */
+    public KeyInterner getKeyInterner() {
+        return keyInterner;
+    }
+
+    /**
+     * Sets the key interner of the model registry which the data node
+     * belongs to.
+     *
+     * @param interner key interner
+     */
+    public void setKeyInterner(KeyInterner interner) {
+        keyInterner = interner;
+    }
 }
@@ -19,7 +19,6 @@ package org.onosproject.yang.runtime;
 import org.onosproject.yang.compiler.datamodel.YangDeviationHolder;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
-import org.onosproject.yang.compiler.linker.YangLinker;
 import org.onosproject.yang.compiler.linker.impl.YangLinkerManager;
 import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
 import org.onosproject.yang.model.YangModel;
@@ -28,6 +27,8 @@ import org.onosproject.yang.runtime.helperutils.YangModuleExtendedInfo;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -69,13 +70,35 @@ public final class RuntimeHelper {
      * @return YANG node for given model
      */
     public static Set<YangNode> getNodes(YangModel model) {
+        return getNodes(Collections.singletonList(model));
+    }
+
+    /**
+     * Returns the schema nodes of all the given YANG models, linked
+     * together in a single pass.
+     *
+     * @param models YANG models
+     * @return set of YANG nodes
+     */
+    public static Set<YangNode> getNodes(Collection<YangModel> models) {
         Set<YangNode> nodes = new HashSet<>();
-        for (YangModule info : model.getYangModules()) {
-            YangModuleExtendedInfo ex = (YangModuleExtendedInfo) info;
-            nodes.add(ex.getSchema());
+        Set<YangNode> unlinked = new HashSet<>();
+        for (YangModel model : models) {
+            for (YangModule info : model.getYangModules()) {
+                YangModuleExtendedInfo ex = (YangModuleExtendedInfo) info;
+                if (ex.isLinked()) {
+                    nodes.add(ex.getSchema());
+                } else {
+                    unlinked.add(ex.getSchema());
+                }
+            }
         }
-        //Target linking.
-        return addLinkerAndJavaInfo(nodes);
+        //Target linking, only for the nodes which are not linked at
+        // compile time, the linked nodes resolve their imports.
+        if (!unlinked.isEmpty()) {
+            nodes.addAll(addLinkerAndJavaInfo(unlinked, nodes));
+        }
+        return nodes;
     }
 
     /**
@@ -84,8 +107,23 @@ public final class RuntimeHelper {
      * @param nodes YANG node
      */
     public static Set<YangNode> addLinkerAndJavaInfo(Set<YangNode> nodes) {
-        YangLinker yangLinker = new YangLinkerManager();
+        return addLinkerAndJavaInfo(nodes, Collections.emptySet());
+    }
+
+    /**
+     * Adds linker and translator info for each data model tree, resolving
+     * their imports and includes against the given already linked nodes as
+     * well. The already linked nodes are not linked again.
+     *
+     * @param nodes    YANG nodes to be linked
+     * @param resolved already linked YANG nodes
+     * @return linked YANG nodes
+     */
+    public static Set<YangNode> addLinkerAndJavaInfo(Set<YangNode> nodes,
+                                                     Set<YangNode> resolved) {
+        YangLinkerManager yangLinker = new YangLinkerManager();
         //Do the linking.
+        yangLinker.createYangNodeSet(resolved);
         yangLinker.resolveDependencies(nodes);
 
         //add the java info.
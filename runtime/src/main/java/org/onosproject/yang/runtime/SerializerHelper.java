@@ -20,6 +20,7 @@ import org.onosproject.yang.compiler.datamodel.YangLeaf;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.KeyInterner;
 import org.onosproject.yang.model.LeafNode;
 import org.onosproject.yang.model.LeafSchemaContext;
 import org.onosproject.yang.model.ListSchemaContext;
@@ -222,6 +223,7 @@ public final class SerializerHelper {
         HelperContext info = new HelperContext();
         info.setResourceIdBuilder(null);
         info.setParentResourceIdBldr(rIdBldr);
+        info.setKeyInterner(getKeyInterner(node));
         SchemaId sId = node.getSchemaId();
         // Creating a dummy node
         InnerNode.Builder dBldr = InnerNode.builder(
@@ -241,6 +243,7 @@ public final class SerializerHelper {
         SchemaContext node = context.getContext();
         SchemaId sId = node.getSchemaId();
         HelperContext info = new HelperContext();
+        info.setKeyInterner(getKeyInterner(node));
         ExtResourceIdBldr rId = info.getResourceIdBuilder();
         rId.addBranchPointSchema(sId.name(), sId.namespace());
         rId.appInfo(node);
@@ -289,6 +292,7 @@ public final class SerializerHelper {
                 rIdBldr = info.getResourceIdBuilder();
                 node = (SchemaContext) rIdBldr.appInfo();
                 nodeInfo = new HelperContext();
+                nodeInfo.setKeyInterner(info.getKeyInterner());
                 initWithRId = true;
             } else {
                 // If data node is initialized by resource id.
@@ -307,7 +311,9 @@ public final class SerializerHelper {
             }
 
             // Updating the namespace
-            namespace = childSchema.getSchemaId().namespace();
+            SchemaId childId = internSchemaId(info.getKeyInterner(),
+                                              childSchema);
+            namespace = childId.namespace();
             updateResourceId(rIdBldr, name, value, childSchema, nodeType);
 
             if (!initWithRId) {
@@ -325,13 +331,13 @@ public final class SerializerHelper {
                         }
                         valObject = ((LeafSchemaContext) childSchema)
                                 .fromString(value);
-                        builder = LeafNode.builder(name, namespace).type(nodeType)
+                        builder = LeafNode.builder(childId).type(nodeType)
                                 .value(valObject);
                         break;
                     case MULTI_INSTANCE_LEAF_VALUE_NODE:
                         valObject = ((LeafSchemaContext) childSchema)
                                 .fromString(value);
-                        builder = LeafNode.builder(name, namespace).type(nodeType)
+                        builder = LeafNode.builder(childId).type(nodeType)
                                 .value(valObject);
                         builder = builder.addLeafListValue(valObject);
                         break;
@@ -341,7 +347,7 @@ public final class SerializerHelper {
                      * keybuilder will be initialized only once when
                      * InnerNode.builder call is made with name and namespace.
                      */
-                        builder = InnerNode.builder(name, namespace).type(nodeType);
+                        builder = InnerNode.builder(childId).type(nodeType);
                         break;
                 }
             } else {
@@ -353,18 +359,18 @@ public final class SerializerHelper {
                             builder = builder.addKeyLeaf(
                                     name, namespace, valObject);
                         }
-                        builder = builder.createChildBuilder(
-                                name, namespace, valObject).type(nodeType);
+                        builder = createChildBuilder(
+                                builder, childId, valObject).type(nodeType);
                         break;
                     case MULTI_INSTANCE_LEAF_VALUE_NODE:
                         valObject = ((LeafSchemaContext) childSchema)
                                 .fromString(value);
-                        builder = builder.createChildBuilder(
-                                name, namespace, valObject).type(nodeType);
+                        builder = createChildBuilder(
+                                builder, childId, valObject).type(nodeType);
                         builder = builder.addLeafListValue(valObject);
                         break;
                     default:
-                        builder = builder.createChildBuilder(name, namespace)
+                        builder = createChildBuilder(builder, childId)
                                 .type(nodeType);
                 }
             }
@@ -452,6 +458,35 @@ public final class SerializerHelper {
         return child;
     }
 
+    /**
+     * Returns child schema context for request name and namespace, of the
+     * node which is being built by the given data node builder. This API
+     * will be used by serializers which need to know the nature of a node
+     * (for an example, leaf-list or list) before adding it to the data node.
+     * <p>
+     * This API can only be used when passed data node builder is prepared
+     * with the help of serializer helper utility.
+     *
+     * @param builder   data node builder
+     * @param name      name of the child node
+     * @param namespace namespace of the child node
+     * @return schema context
+     * @throws IllegalArgumentException when given input is not as per the
+     *                                  schema context
+     */
+    public static SchemaContext getChildSchemaContext(
+            Builder builder, String name, String namespace)
+            throws IllegalArgumentException {
+        HelperContext info = (HelperContext) builder.appInfo();
+        ExtResourceIdBldr rIdBldr = info.getResourceIdBuilder();
+        if (rIdBldr == null) {
+            // If data node is initialized by resource id.
+            rIdBldr = info.getParentResourceIdBldr();
+        }
+        return getChildSchemaContext((SchemaContext) rIdBldr.appInfo(),
+                                     name, namespace);
+    }
+
     /**
      * Checks the user supplied list of argument match's the expected value
      * or not.
@@ -474,6 +509,76 @@ public final class SerializerHelper {
         }
     }
 
+    /**
+     * Returns the schema identifier of the schema context, as pooled by the
+     * given key interner. Only schema identifiers of the schema are pooled,
+     * never the names given by a caller.
+     *
+     * @param interner key interner, null to not pool
+     * @param context  schema context
+     * @return schema identifier
+     */
+    private static SchemaId internSchemaId(KeyInterner interner,
+                                           SchemaContext context) {
+        SchemaId id = context.getSchemaId();
+        return interner == null ? id : interner.intern(id);
+    }
+
+    /**
+     * Returns the key interner of the model registry which the schema
+     * context belongs to. To be looked up once per decode, as it walks up
+     * to the root context.
+     *
+     * @param context schema context
+     * @return key interner, null if schema is not of a model registry
+     */
+    private static KeyInterner getKeyInterner(SchemaContext context) {
+        SchemaContext root = context;
+        while (root != null && root.getParentContext() != null) {
+            root = root.getParentContext();
+        }
+        if (root instanceof DefaultYangModelRegistry) {
+            return ((DefaultYangModelRegistry) root).keyInterner();
+        }
+        return null;
+    }
+
+    /**
+     * Returns a child inner node builder of the given builder.
+     *
+     * @param builder  parent data node builder
+     * @param schemaId schema identifier of the child
+     * @return child inner node builder
+     */
+    private static InnerNode.Builder createChildBuilder(Builder builder,
+                                                        SchemaId schemaId) {
+        if (builder instanceof InnerNode.Builder) {
+            return InnerNode.builder(schemaId)
+                    .parent((InnerNode.Builder) builder);
+        }
+        return builder.createChildBuilder(schemaId.name(),
+                                          schemaId.namespace());
+    }
+
+    /**
+     * Returns a child leaf node builder of the given builder.
+     *
+     * @param builder  parent data node builder
+     * @param schemaId schema identifier of the child
+     * @param value    value of the child
+     * @return child leaf node builder
+     */
+    private static LeafNode.Builder createChildBuilder(Builder builder,
+                                                       SchemaId schemaId,
+                                                       Object value) {
+        if (builder instanceof InnerNode.Builder) {
+            return LeafNode.builder(schemaId)
+                    .parent((InnerNode.Builder) builder).value(value);
+        }
+        return builder.createChildBuilder(schemaId.name(),
+                                          schemaId.namespace(), value);
+    }
+
     /**
      * Updates running resource id for current provided builder.
      *
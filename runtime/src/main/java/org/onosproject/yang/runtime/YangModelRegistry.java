@@ -18,6 +18,7 @@ package org.onosproject.yang.runtime;
 
 import org.onosproject.yang.model.YangModel;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -33,6 +34,19 @@ public interface YangModelRegistry {
      */
     void registerModel(ModelRegistrationParam param);
 
+    /**
+     * Registers new models together. The models are linked in a single
+     * pass and become visible at the same time.
+     *
+     * @param params parameters having models to be registered with
+     *               additional informations provided by app
+     */
+    default void registerModels(Collection<ModelRegistrationParam> params) {
+        for (ModelRegistrationParam param : params) {
+            registerModel(param);
+        }
+    }
+
     /**
      * Unregisters the specified model.
      *
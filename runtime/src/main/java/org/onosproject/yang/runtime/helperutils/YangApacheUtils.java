@@ -33,6 +33,7 @@ import java.util.regex.Pattern;
 
 import static java.nio.file.Paths.get;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.parseJarFile;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.parseLinkedJarFile;
 import static org.osgi.framework.FrameworkUtil.getBundle;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -45,7 +46,10 @@ public final class YangApacheUtils {
     private static final String HYPHEN = "-";
     private static final String PERIOD = ".";
     private static final String YANG_META_DATA = "YangMetaData.ser";
+    private static final String YANG_LINKED_META_DATA = "YangLinkedMetaData.dat";
     private static final String YANG_RESOURCES = "yang/resources";
+    private static final String LINKED_META_DATA_ENTRY = "yang/resources/" +
+            YANG_LINKED_META_DATA;
     private static final String SYSTEM = SLASH + "system" + SLASH;
     private static final String MAVEN = "mvn:";
     private static final String JAR = ".jar";
@@ -71,6 +75,16 @@ public final class YangApacheUtils {
             String metaPath;
             jarPath = getJarPathFromBundleLocation(
                     bundle.getLocation(), context.getProperty(USER_DIRECTORY));
+            if (jarPath == null) {
+                return null;
+            }
+            // Prefer the meta data which is linked at compile time.
+            curNodes = processLinkedJarParsingOperations(jarPath);
+            if (curNodes != null && !curNodes.isEmpty()) {
+                metaPath = jarPath + SLASH + YANG_RESOURCES + SLASH +
+                        YANG_LINKED_META_DATA;
+                return processYangModel(metaPath, curNodes, true);
+            }
             metaPath = jarPath + SLASH + YANG_RESOURCES + SLASH + YANG_META_DATA;
             curNodes = processJarParsingOperations(jarPath);
             // process model creations.
@@ -90,6 +104,20 @@ public final class YangApacheUtils {
      */
     public static YangModel processYangModel(String path,
                                              List<YangNode> curNodes) {
+        return processYangModel(path, curNodes, false);
+    }
+
+    /**
+     * Returns YANG model for application.
+     *
+     * @param path     path for metadata file
+     * @param curNodes curNodes YANG nodes
+     * @param linked   true if YANG nodes are already linked at compile time
+     * @return YANG model
+     */
+    public static YangModel processYangModel(String path,
+                                             List<YangNode> curNodes,
+                                             boolean linked) {
         YangModel.Builder b = DefaultYangModel.builder();
         YangModuleId id;
         for (YangNode node : curNodes) {
@@ -97,6 +125,7 @@ public final class YangApacheUtils {
             YangModuleExtendedInfo module =
                     new YangModuleExtendedInfo(id, get(node.getFileName()), get(path));
             module.setSchema(node);
+            module.setLinked(linked);
             b.addModule(id, module);
         }
         return b.build();
@@ -159,7 +188,7 @@ public final class YangApacheUtils {
         try {
             File file = new File(jar);
             if (file.exists()) {
-                return parseJarFile(path + JAR, path);
+                return parseJarFile(path + JAR);
             }
         } catch (IOException e) {
             log.error(" failed to parse the jar file in path {} : {} ", path,
@@ -167,4 +196,24 @@ public final class YangApacheUtils {
         }
         return null;
     }
+
+    /**
+     * Process jar file for fetching YANG nodes linked at compile time.
+     *
+     * @param path jar file path
+     * @return linked YANG schema nodes, null if jar has no linked meta data
+     */
+    private static List<YangNode> processLinkedJarParsingOperations(String path) {
+        String jar = path + JAR;
+        try {
+            File file = new File(jar);
+            if (file.exists()) {
+                return parseLinkedJarFile(jar, LINKED_META_DATA_ENTRY);
+            }
+        } catch (IOException e) {
+            log.error(" failed to parse the linked meta data in jar file in " +
+                              "path {} : {} ", path, e.getMessage());
+        }
+        return null;
+    }
 }
@@ -28,6 +28,7 @@ import java.nio.file.Path;
 public class YangModuleExtendedInfo extends DefaultYangModule {
 
     private YangNode schema;
+    private boolean linked;
 
     /**
      * Creates an instance of YANG module extended information.
@@ -58,4 +59,24 @@ public class YangModuleExtendedInfo extends DefaultYangModule {
     public void setSchema(YangNode schema) {
         this.schema = schema;
     }
+
+    /**
+     * Returns true if schema info is already linked and updated with java
+     * info at compile time.
+     *
+     * @return true if schema info is already linked
+     */
+    public boolean isLinked() {
+        return linked;
+    }
+
+    /**
+     * Sets true if schema info is already linked and updated with java
+     * info at compile time.
+     *
+     * @param linked true if schema info is already linked
+     */
+    public void setLinked(boolean linked) {
+        this.linked = linked;
+    }
 }
@@ -432,7 +432,7 @@ public class DataTreeBuilderHelper {
                 Object obj;
                 try {
                     obj = getAttributeOfObject(
-                            parentNodeInfo.getYangObject(), name);
+                            parentNodeInfo.getYangObject(), name, reg);
                 } catch (NoSuchMethodException e) {
                     throw new ModelConvertorException(
                             "Not processable case node with augment in " +
@@ -636,7 +636,7 @@ public class DataTreeBuilderHelper {
             String name = augmented.getJavaAttributeName();
             try {
                 return getAttributeOfObject(
-                        parentNodeInfo.getYangObject(), name);
+                        parentNodeInfo.getYangObject(), name, reg);
             } catch (NoSuchMethodException e) {
                 throw new ModelConvertorException(
                         "Not processable case node with augment in " +
@@ -693,7 +693,7 @@ public class DataTreeBuilderHelper {
         Object parentObj = getParentObjectOfNode(parentNodeInfo,
                                                  curNode.getParent());
         try {
-            return getAttributeOfObject(parentObj, nodeJavaName);
+            return getAttributeOfObject(parentObj, nodeJavaName, reg);
         } catch (NoSuchMethodException e) {
             throw new ModelConvertorException(e);
         }
@@ -755,7 +755,8 @@ public class DataTreeBuilderHelper {
                     Object leafType;
                     try {
                         leafType = getAttributeOfObject(parentObj,
-                                                        getJavaName(yangLeaf));
+                                                        getJavaName(yangLeaf),
+                                                        reg);
                     } catch (NoSuchMethodException e) {
                         throw new ModelConvertorException(e);
                     }
@@ -810,7 +811,8 @@ public class DataTreeBuilderHelper {
         List<Object> obj;
         try {
             obj = (List<Object>) getAttributeOfObject(parentObj,
-                                                      getJavaName(leafList));
+                                                      getJavaName(leafList),
+                                                      reg);
         } catch (NoSuchMethodException e) {
             throw new ModelConvertorException(e);
         }
@@ -1036,7 +1038,8 @@ public class DataTreeBuilderHelper {
         try {
             valueOfLeaf = isValueOrSelectLeafSet(holder, parentObj,
                                                  getJavaName(yangLeaf),
-                                                 IS_LEAF_VALUE_SET_METHOD);
+                                                 IS_LEAF_VALUE_SET_METHOD,
+                                                 reg);
         } catch (NoSuchMethodException e) {
             throw new ModelConvertorException(e);
         }
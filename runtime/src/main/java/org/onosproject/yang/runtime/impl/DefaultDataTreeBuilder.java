@@ -534,7 +534,8 @@ class DefaultDataTreeBuilder {
                     //Add node for leaf with value.
                     builder = modYo.addLeafWithValue(
                             rootNode, leaf, rootObj, getAttributeOfObject(
-                                    rootObj, leaf.getJavaAttributeName()));
+                                    rootObj, leaf.getJavaAttributeName(),
+                                    reg));
                     addDataNode(builder, rscData);
                 } catch (NoSuchMethodException e) {
                     throw new ModelConvertorException("failed to create data node for " +
@@ -550,7 +551,7 @@ class DefaultDataTreeBuilder {
             for (YangLeafList leafList : leafLists) {
                 try {
                     obj = (List<Object>) getAttributeOfObject(
-                            rootObj, getJavaName(leafList));
+                            rootObj, getJavaName(leafList), reg);
                     if (obj != null) {
                         nodes = modYo.addLeafListValue(rootNode, rootObj,
                                                        leafList, obj);
@@ -16,6 +16,9 @@
 
 package org.onosproject.yang.runtime.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
 import org.onosproject.yang.compiler.datamodel.SchemaDataNode;
 import org.onosproject.yang.compiler.datamodel.YangChoice;
 import org.onosproject.yang.compiler.datamodel.YangInclude;
@@ -23,9 +26,10 @@ import org.onosproject.yang.compiler.datamodel.YangModule;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNodeIdentifier;
-import org.onosproject.yang.compiler.datamodel.YangSubModule;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.KeyInterner;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.onosproject.yang.model.SchemaContext;
 import org.onosproject.yang.model.SchemaId;
 import org.onosproject.yang.model.SingleInstanceNodeContext;
@@ -34,25 +38,27 @@ import org.onosproject.yang.model.YangModuleId;
 import org.onosproject.yang.runtime.AppModuleInfo;
 import org.onosproject.yang.runtime.ModelRegistrationParam;
 import org.onosproject.yang.runtime.YangModelRegistry;
+import org.onosproject.yang.runtime.helperutils.YangModuleExtendedInfo;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.sort;
-import static java.util.Collections.unmodifiableSet;
-import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
+import static java.util.Collections.singletonList;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getNodeIdFromSchemaId;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
 import static org.onosproject.yang.runtime.RuntimeHelper.getInterfaceClassName;
 import static org.onosproject.yang.runtime.RuntimeHelper.getNodes;
 import static org.onosproject.yang.runtime.RuntimeHelper.getServiceName;
+import static org.onosproject.yang.runtime.impl.YobConstants.CODEC;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -61,130 +67,229 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class DefaultYangModelRegistry implements YangModelRegistry,
         SingleInstanceNodeContext {
 
-    private static final String AT = "@";
     private final Logger log = getLogger(getClass());
     private static final String E_NEXIST = "node with {} namespace not found.";
+    private static final SchemaId ROOT_ID = new SchemaId("/", null);
+
     /*
-     * Map for storing YANG schema nodes. Key will be the schema name of
-     * module node defined in YANG file.
+     * Current state of the registry. Every change builds a new immutable
+     * snapshot from the current one and publishes it, so readers never
+     * block and never see a partially registered model.
      */
-    private final ConcurrentMap<String, ConcurrentMap<String, YangSchemaNode>>
-            yangSchemaStore;
+    private final AtomicReference<RegistrySnapshot> snapshot;
 
     /*
-     * Map for storing YANG schema nodes with respect to root's generated
-     * file name by which registration is being done.
+     * Lock serializing the writers of the registry.
      */
-    private final ConcurrentMap<String, YangSchemaNode> regClassNameKeyStore;
+    private final Object writeLock = new Object();
 
     /*
-     * Map for storing YANG schema nodes with respect to root's generated
-     * file's qualified name.
+     * Map for storing the generated reflection free codecs with respect to
+     * the class loader and qualified name of the default class they create,
+     * so that two bundle versions of a generated class do not share a codec.
+     * It is filled lazily by YOB and data tree builder, an empty value
+     * records a class which has no codec. Cleared whenever a model is
+     * registered or unregistered.
+     * Class loaders are held weakly and codecs softly, since a codec refers
+     * back to its class loader, so that the loader of an uninstalled
+     * application can be collected before the next registry change.
      */
-    private final ConcurrentMap<String, YangSchemaNode> qNameKeyStore;
+    private final ConcurrentMap<ClassLoader,
+            Cache<String, Optional<ModelObjectCodec>>> codecStore;
 
     /*
-     * Map for storing registered classes. Will be used by YOB for class
-     * loading operations. key will be qualified name of generated class.
-     * It will be maintained for top level class i.e. module.
+     * Cache of reflective metadata of generated classes, used where no
+     * codec is available. Invalidated whenever a model is unregistered.
      */
-    private final ConcurrentMap<String, Class<?>> registerClassStore;
+    private final ReflectionCache reflectionCache;
 
-    /**
-     * Map for storing schema nodes with respect to namespace. Will be used
-     * by YCH in scenario where module name is not present in XML.
+    /*
+     * Index of schema nodes with respect to generated class names, used
+     * by model object identifier to resource identifier conversion.
+     * Invalidated whenever a model is registered or unregistered.
      */
-    private final ConcurrentMap<String, YangSchemaNode> nameSpaceSchemaStore;
+    private final SchemaNodeIndex schemaNodeIndex;
 
-    /**
-     * Set of YANG models.
+    /*
+     * Cache of model object identifier to resource identifier conversions.
+     * Invalidated whenever a model is registered or unregistered.
+     */
+    private final ResourceIdCache resourceIdCache;
+
+    /*
+     * Pool of the schema identifiers of the registered schema nodes, used by
+     * the serializer helper. Replaced whenever a model is registered or
+     * unregistered, so identifiers of unregistered models are released.
+     */
+    private volatile KeyInterner keyInterner = new KeyInterner();
+
+    /*
+     * True when the registry is bound as root context of the top level
+     * nodes of a module on first use instead of on registration. Parsing,
+     * linking and uses expansion of modules still happen on registration.
+     */
+    private final boolean deferContext;
+
+    /*
+     * Registered module and submodule nodes whose top level nodes are not
+     * bound to the registry yet, and the lock binding them.
+     */
+    private final Set<YangNode> unbound = ConcurrentHashMap.newKeySet();
+    private final Object bindLock = new Object();
+
+    /*
+     * Number of top level nodes bound to the registry as root context.
      */
-    private final Set<YangModel> models;
+    private final LongAdder boundNodes = new LongAdder();
 
     /**
      * Creates an instance of default YANG schema registry.
      */
     public DefaultYangModelRegistry() {
-        models = new LinkedHashSet<>();
-        yangSchemaStore = new ConcurrentHashMap<>();
-        regClassNameKeyStore = new ConcurrentHashMap<>();
-        registerClassStore = new ConcurrentHashMap<>();
-        nameSpaceSchemaStore = new ConcurrentHashMap<>();
-        qNameKeyStore = new ConcurrentHashMap<>();
+        this(ResourceIdCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an instance of default YANG schema registry with given
+     * capacity of the model object identifier to resource identifier
+     * conversion cache.
+     *
+     * @param resourceIdCacheSize maximum number of cached conversions, zero
+     *                            to disable the cache
+     */
+    public DefaultYangModelRegistry(int resourceIdCacheSize) {
+        this(resourceIdCacheSize, false);
+    }
+
+    /**
+     * Creates an instance of default YANG schema registry with given
+     * capacity of the model object identifier to resource identifier
+     * conversion cache. With deferred context binding, modules are still
+     * parsed, linked and indexed on registration, but the registry is bound
+     * as root context of the top level nodes of a module, and the table of
+     * top level nodes of its namespace is built, only the first time a
+     * request reaches the module.
+     *
+     * @param resourceIdCacheSize maximum number of cached conversions, zero
+     *                            to disable the cache
+     * @param deferContext        true to defer context binding to first use
+     */
+    public DefaultYangModelRegistry(int resourceIdCacheSize,
+                                    boolean deferContext) {
+        this.deferContext = deferContext;
+        snapshot = new AtomicReference<>(
+                deferContext ? RegistrySnapshot.EMPTY_LAZY :
+                        RegistrySnapshot.EMPTY);
+        resourceIdCache = new ResourceIdCache(resourceIdCacheSize);
+        codecStore = new MapMaker().weakKeys().makeMap();
+        reflectionCache = new ReflectionCache();
+        schemaNodeIndex = new SchemaNodeIndex();
     }
 
     @Override
     public void registerModel(ModelRegistrationParam param) {
-        YangModel model = checkNotNull(param.getYangModel(), "Model must not be null");
-        Set<YangNode> curNodes = getNodes(model);
-        models.add(model);
-        String name;
-        Class<?> service;
-        AppModuleInfo info;
-        //adding class info if added by application.
-        for (YangModuleId id : model.getYangModulesId()) {
-            info = param.getAppModuleInfo(id);
-            if (info != null) {
-                service = info.getModuleClass();
-                name = service.getName();
-                if (!registerClassStore.containsKey(name)) {
-                    registerClassStore.put(name, service);
+        registerModels(singletonList(param));
+    }
+
+    @Override
+    public void registerModels(Collection<ModelRegistrationParam> params) {
+        List<YangModel> newModels = new ArrayList<>();
+        for (ModelRegistrationParam param : params) {
+            newModels.add(checkNotNull(param.getYangModel(),
+                                       "Model must not be null"));
+        }
+        synchronized (writeLock) {
+            //Link all the models together.
+            Set<YangNode> curNodes = getNodes(newModels);
+            RegistrySnapshot.Builder builder = snapshot.get().copy();
+            AppModuleInfo info;
+            for (ModelRegistrationParam param : params) {
+                YangModel model = param.getYangModel();
+                builder.addModel(model);
+                //adding class info if added by application.
+                for (YangModuleId id : model.getYangModulesId()) {
+                    info = param.getAppModuleInfo(id);
+                    if (info != null) {
+                        builder.addRegisteredClass(info.getModuleClass());
+                    }
                 }
             }
-        }
 
-        //Register all the YANG nodes.
-        registerModule(curNodes);
+            //Register all the YANG nodes.
+            List<YangNode> regNodes = registerModule(builder, curNodes);
 
-        //update child context
-        updateChildContext(curNodes);
+            //update child context, on first use when deferred.
+            if (deferContext) {
+                unbound.addAll(regNodes);
+            } else {
+                updateChildContext(curNodes);
+            }
+            snapshot.set(builder.build());
+
+            //augments of the models may have changed already indexed nodes.
+            schemaNodeIndex.invalidate();
+            resourceIdCache.invalidate();
+            keyInterner = new KeyInterner();
+            codecStore.clear();
+        }
     }
 
     /**
      * Register specific model.
      *
+     * @param builder  registry snapshot builder
      * @param curNodes current nodes
+     * @return newly registered nodes
      */
-    private void registerModule(Set<YangNode> curNodes) {
+    private List<YangNode> registerModule(RegistrySnapshot.Builder builder,
+                                          Set<YangNode> curNodes) {
+        List<YangNode> regNodes = new ArrayList<>();
         String name;
         //register all the nodes present in YANG model.
         if (curNodes != null && !curNodes.isEmpty()) {
             for (YangNode node : curNodes) {
                 name = getInterfaceClassName(node);
-                if (!regClassNameKeyStore.containsKey(name)) {
-                    processApplicationContext(node, name);
+                if (!builder.isRegistered(name)) {
+                    builder.addApplicationContext(node, name);
+                    regNodes.add(node);
+                    log.info("successfully registered this application {}",
+                             name);
                 } else {
                     log.info("class already registered with model registry " +
                                      "{}", name);
                 }
             }
         }
+        return regNodes;
     }
 
     @Override
     public void unregisterModel(ModelRegistrationParam param) {
-        synchronized (DefaultYangModelRegistry.class) {
-            YangModel model = checkNotNull(param.getYangModel(),
-                                           "Model must not be null");
-            models.remove(model);
-            //Unregister all yang files
-            Set<YangNode> curNodes = getNodes(model);
-            for (YangNode node : curNodes) {
-                processUnReg(getInterfaceClassName(node));
+        YangModel model = checkNotNull(param.getYangModel(),
+                                       "Model must not be null");
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder builder = snapshot.get().copy();
+            builder.removeModel(model);
+            //Unregister all yang files, their java info was added when they
+            // were registered so there is no need to link them again.
+            for (org.onosproject.yang.model.YangModule info :
+                    model.getYangModules()) {
+                YangNode node = ((YangModuleExtendedInfo) info).getSchema();
+                processUnReg(builder, getInterfaceClassName(node));
+                unbound.remove(node);
             }
+            snapshot.set(builder.build());
+            reflectionCache.invalidate();
+            schemaNodeIndex.invalidate();
+            resourceIdCache.invalidate();
+            keyInterner = new KeyInterner();
+            codecStore.clear();
         }
     }
 
-    private void processUnReg(String serviceName) {
-        YangSchemaNode curNode = regClassNameKeyStore.get(serviceName);
-
-        if (curNode != null) {
-            removeSchemaNode(curNode);
-            regClassNameKeyStore.remove(serviceName);
-            qNameKeyStore.remove(serviceName.toLowerCase());
-            nameSpaceSchemaStore.remove(
-                    curNode.getNameSpace().getModuleNamespace());
-            registerClassStore.remove(serviceName);
+    private void processUnReg(RegistrySnapshot.Builder builder,
+                              String serviceName) {
+        if (builder.removeApplicationContext(serviceName) != null) {
             log.info(" service class {} of model is " +
                              "unregistered.", serviceName);
         } else {
@@ -196,7 +301,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
 
     @Override
     public Set<YangModel> getModels() {
-        return unmodifiableSet(models);
+        return snapshot.get().models();
     }
 
     /**
@@ -207,7 +312,12 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @return YANG schema node
      */
     YangSchemaNode getForSchemaName(String schemaName) {
-        return getForNameWithRev(schemaName);
+        YangSchemaNode node = bindContext(
+                snapshot.get().getForNameWithRev(schemaName));
+        if (node == null) {
+            log.error("{} not found.", schemaName);
+        }
+        return node;
     }
 
     /**
@@ -218,7 +328,8 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @return YANG schema node
      */
     YangSchemaNode getForRegClassName(String name) {
-        YangSchemaNode node = regClassNameKeyStore.get(name);
+        YangSchemaNode node = bindContext(
+                snapshot.get().getForRegClassName(name));
         if (node == null) {
             log.error("{} not found.", name);
         }
@@ -236,7 +347,8 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @return YANG schema node
      */
     YangSchemaNode getForRegClassQualifiedName(String pkg, boolean isFromDnb) {
-        YangSchemaNode node = qNameKeyStore.get(pkg);
+        YangSchemaNode node = bindContext(
+                snapshot.get().getForRegClassQualifiedName(pkg));
         if (node == null && !isFromDnb) {
             log.error("{} not found.", pkg);
         }
@@ -254,7 +366,8 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     public YangSchemaNode getForNameSpace(String nameSpace,
                                           boolean isForChildContext) {
 
-        YangSchemaNode node = nameSpaceSchemaStore.get(nameSpace);
+        YangSchemaNode node = bindContext(
+                snapshot.get().getForNameSpace(nameSpace));
         if (node == null && !isForChildContext) {
             log.error(E_NEXIST, nameSpace);
         }
@@ -272,9 +385,10 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         if (schemaNode != null) {
             String interfaceName = getInterfaceClassName(schemaNode);
             String serviceName = getServiceName(schemaNode);
-            regClass = registerClassStore.get(serviceName);
+            RegistrySnapshot current = snapshot.get();
+            regClass = current.getRegisteredClass(serviceName);
             if (regClass == null) {
-                regClass = registerClassStore.get(interfaceName);
+                regClass = current.getRegisteredClass(interfaceName);
             }
         }
         if (regClass == null) {
@@ -284,123 +398,117 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     }
 
     /**
-     * Process an application an updates the maps for YANG model registry.
+     * Returns the generated codec of the given default class, or null when
+     * the class has no codec and has to be handled through reflection.
      *
-     * @param appNode application YANG schema nodes
-     * @param name    class name
+     * @param loader class loader of the default class
+     * @param name   qualified name of the default class
+     * @return model object codec
      */
-    void processApplicationContext(YangSchemaNode appNode, String name) {
-
-        // Updates schema store.
-        addToSchemaStore(appNode);
-
-        // update interface store.
-        regClassNameKeyStore.put(name, appNode);
-
-        qNameKeyStore.put(getInterfaceClassName(appNode).toLowerCase(), appNode);
-
-        /*
-         * The name of a module determines the namespace of all data node names
-         * defined in that module.  If a data node is defined in a submodule,
-         * then the namespace-qualified member name uses the name of the main
-         * module to which the submodule belongs.
-         * So skipping the submodule entry in namespace map.
-         */
-        if (!(appNode instanceof YangSubModule)) {
-            //update namespaceSchema store.
-            nameSpaceSchemaStore.put(appNode.getNameSpace().getModuleNamespace(),
-                                     appNode);
+    ModelObjectCodec getCodec(ClassLoader loader, String name) {
+        if (loader == null) {
+            return null;
+        }
+        Cache<String, Optional<ModelObjectCodec>> codecs =
+                codecStore.computeIfAbsent(
+                        loader, l -> CacheBuilder.newBuilder().softValues()
+                                .build());
+        Optional<ModelObjectCodec> codec = codecs.getIfPresent(name);
+        if (codec == null) {
+            codec = Optional.ofNullable(loadCodec(loader, name));
+            codecs.put(name, codec);
+        }
+        ModelObjectCodec c = codec.orElse(null);
+        if (c != null && c.getClass().getClassLoader() != loader) {
+            return null;
         }
+        return c;
+    }
 
-        log.info("successfully registered this application {}", name);
+    /**
+     * Returns the generated codec of the given default class object, or
+     * null when it has to be handled through reflection.
+     *
+     * @param obj default class object
+     * @return model object codec
+     */
+    ModelObjectCodec getCodec(Object obj) {
+        Class<?> cls = obj.getClass();
+        return getCodec(cls.getClassLoader(), cls.getName());
     }
 
     /**
-     * Returns schema node based on the revision.
+     * Returns the cache of reflective metadata of generated classes.
      *
-     * @param name name of the schema node
-     * @return schema node based on the revision
-     */
-    private YangSchemaNode getForNameWithRev(String name) {
-        ConcurrentMap<String, YangSchemaNode> revMap;
-        YangSchemaNode schemaNode;
-        if (name.contains(AT)) {
-            String[] revArray = name.split(AT);
-            revMap = yangSchemaStore.get(revArray[0]);
-            schemaNode = revMap.get(name);
-            if (schemaNode == null) {
-                log.error("{} not found.", name);
-            }
-            return schemaNode;
-        }
-        if (yangSchemaStore.containsKey(name)) {
-            revMap = yangSchemaStore.get(name);
-            if (revMap != null && !revMap.isEmpty()) {
-                YangSchemaNode node = revMap.get(name);
-                if (node != null) {
-                    return node;
-                }
-                String revName = getLatestVersion(revMap);
-                return revMap.get(revName);
-            }
-        }
-        log.error("{} not found.", name);
-        return null;
+     * @return reflection cache
+     */
+    ReflectionCache getReflectionCache() {
+        return reflectionCache;
     }
 
-    private String getLatestVersion(ConcurrentMap<String,
-            YangSchemaNode> revMap) {
-        List<String> keys = new ArrayList<>();
-        for (Map.Entry<String, YangSchemaNode> entry : revMap.entrySet()) {
-            keys.add(entry.getKey());
-        }
-        sort(keys);
-        return keys.get(keys.size() - 1);
+    /**
+     * Returns the index of schema nodes with respect to generated class
+     * names.
+     *
+     * @return schema node index
+     */
+    SchemaNodeIndex getSchemaNodeIndex() {
+        return schemaNodeIndex;
     }
 
     /**
-     * Adds schema node when different revision of node has received.
+     * Returns the metrics of how much of the registered schema is bound to
+     * the registry as root context.
      *
-     * @param schemaNode schema node
+     * @return schema metrics
      */
-    private void addToSchemaStore(YangSchemaNode schemaNode) {
+    public SchemaMetrics getSchemaMetrics() {
+        int registered = snapshot.get().moduleCount();
+        int bound = Math.max(0, registered - unbound.size());
+        return new SchemaMetrics(deferContext, registered, bound,
+                                 boundNodes.sum());
+    }
 
-        String date = getDateInStringFormat((YangNode) schemaNode);
-        String name = schemaNode.getName();
-        String revName = name;
-        if (date != null) {
-            revName = name + AT + date;
-        }
-        //check if already present.
-        if (!yangSchemaStore.containsKey(name)) {
-            ConcurrentMap<String, YangSchemaNode> revStore =
-                    new ConcurrentHashMap<>();
-            revStore.put(revName, schemaNode);
-            yangSchemaStore.put(name, revStore);
-        } else {
-            yangSchemaStore.get(name).put(revName, schemaNode);
+    /**
+     * Returns the cache of model object identifier to resource identifier
+     * conversions, which also exposes its hit and miss counts.
+     *
+     * @return resource identifier cache
+     */
+    public ResourceIdCache getResourceIdCache() {
+        return resourceIdCache;
+    }
+
+    /* Loads the codec generated next to the default class.*/
+    private ModelObjectCodec loadCodec(ClassLoader loader, String name) {
+        try {
+            return (ModelObjectCodec) loader.loadClass(name + CODEC)
+                    .getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.error("failed to create codec of {}", name);
+            return null;
         }
     }
 
     /**
-     * Removes schema node from schema map.
+     * Process an application an updates the maps for YANG model registry.
      *
-     * @param removableNode schema node which needs to be removed
-     */
-    private void removeSchemaNode(YangSchemaNode removableNode) {
-        String name = removableNode.getName();
-        String revName = name;
-        String date = getDateInStringFormat((YangNode) removableNode);
-        if (date != null) {
-            revName = name + AT + date;
-        }
-        ConcurrentMap<String, YangSchemaNode> revMap =
-                yangSchemaStore.get(name);
-        if (revMap != null && !revMap.isEmpty() && revMap.size() != 1) {
-            revMap.remove(revName);
-        } else {
-            yangSchemaStore.remove(removableNode.getName());
+     * @param appNode application YANG schema nodes
+     * @param name    class name
+     */
+    void processApplicationContext(YangSchemaNode appNode, String name) {
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder builder = snapshot.get().copy();
+            builder.addApplicationContext(appNode, name);
+            snapshot.set(builder.build());
+            schemaNodeIndex.invalidate();
+            resourceIdCache.invalidate();
+            keyInterner = new KeyInterner();
+            codecStore.clear();
         }
+        log.info("successfully registered this application {}", name);
     }
 
     @Override
@@ -415,7 +523,17 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
 
     @Override
     public SchemaId getSchemaId() {
-        return new SchemaId("/", null);
+        return ROOT_ID;
+    }
+
+    /**
+     * Returns the pool of schema identifiers of the registered schema
+     * nodes.
+     *
+     * @return key interner
+     */
+    public KeyInterner keyInterner() {
+        return keyInterner;
     }
 
     @Override
@@ -426,6 +544,18 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         if (ns == null) {
             log.error("namespace should not be null for a node");
         }
+        if (ns != null) {
+            RegistrySnapshot current = snapshot.get();
+            if (!unbound.isEmpty()) {
+                YangSchemaNode module = current.getForNameSpace(ns);
+                bindContext(module != null ? module :
+                                    current.getForNameWithRev(ns));
+            }
+            YangSchemaNode child = current.getChild(ns, schemaId.name());
+            if (child != null) {
+                return child;
+            }
+        }
         YangSchemaNode schemaNode = null;
 
         YangSchemaNode node = getForNameSpace(ns, true);
@@ -454,13 +584,48 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         return null;
     }
 
+    /**
+     * Binds the registry as root context of the top level nodes of given
+     * module or submodule node and of its included submodules, when it is
+     * not done already.
+     *
+     * @param node module or submodule node
+     * @return given node
+     */
+    private YangSchemaNode bindContext(YangSchemaNode node) {
+        if (node == null || !unbound.contains(node)) {
+            return node;
+        }
+        synchronized (bindLock) {
+            if (unbound.contains(node)) {
+                List<YangNode> nodes = new ArrayList<>();
+                nodes.add((YangNode) node);
+                if (node instanceof YangModule) {
+                    List<YangInclude> includeList = ((YangModule) node)
+                            .getIncludeList();
+                    if (includeList != null) {
+                        for (YangInclude include : includeList) {
+                            YangNode sub = include.getIncludedNode();
+                            if (sub != null && unbound.contains(sub)) {
+                                nodes.add(sub);
+                            }
+                        }
+                    }
+                }
+                updateChildContext(nodes);
+                unbound.removeAll(nodes);
+            }
+        }
+        return node;
+    }
+
     /**
      * Updates child's context. It sets itself as a parent context for first
      * level child's in module/sub-module.
      *
      * @param nodes set of module/submodule nodes
      */
-    private void updateChildContext(Set<YangNode> nodes) {
+    private void updateChildContext(Collection<YangNode> nodes) {
         // Preparing schema id for logical node with name "/"
         for (YangNode node : nodes) {
             node.setLeafRootContext(this);
@@ -470,6 +635,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
                     updateSchemaContextForChoiceChild(child);
                 } else if (child instanceof SchemaDataNode) {
                     child.setRootContext(this);
+                    boundNodes.increment();
                 }
                 child = child.getNextSibling();
             }
@@ -487,6 +653,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
                 updateSchemaContextForChoiceChild(child);
             } else if (child instanceof SchemaDataNode) {
                 child.setRootContext(this);
+                boundNodes.increment();
             }
             child = child.getNextSibling();
         }
@@ -15,14 +15,9 @@
  */
 package org.onosproject.yang.runtime.impl;
 
-import org.onosproject.yang.compiler.datamodel.YangAugment;
-import org.onosproject.yang.compiler.datamodel.YangAugmentableNode;
 import org.onosproject.yang.compiler.datamodel.YangLeaf;
-import org.onosproject.yang.compiler.datamodel.YangLeafList;
-import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
 import org.onosproject.yang.compiler.datamodel.YangList;
 import org.onosproject.yang.compiler.datamodel.YangNode;
-import org.onosproject.yang.compiler.datamodel.YangRpc;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.model.AtomicPath;
 import org.onosproject.yang.model.ModelObjectId;
@@ -37,13 +32,10 @@ import java.util.Set;
 import java.util.regex.Pattern;
 
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
-import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.nonEmpty;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.fetchPackage;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getAttributeOfObject;
-import static org.onosproject.yang.runtime.RuntimeHelper.DEFAULT_CAPS;
 import static org.onosproject.yang.runtime.RuntimeHelper.PERIOD;
-import static org.onosproject.yang.runtime.RuntimeHelper.getCapitalCase;
 
 /**
  * Converts model object identifier to resource identifier.
@@ -96,11 +88,29 @@ class ModIdToRscIdConverter {
      */
     ResourceId fetchResourceId(ModelObjectId id) {
 
-        ResourceId.Builder rid = ResourceId.builder().addBranchPointSchema("/", null);
         if (id == null || id.atomicPaths().isEmpty()) {
-            return rid.build();
+            return ResourceId.builder().addBranchPointSchema("/", null)
+                    .build();
         }
 
+        ResourceIdTemplate template = reg.getResourceIdCache()
+                .get(id, this::fetchTemplate);
+        lastIndexNode = template.lastIndexNode();
+        isMoIdWithLeaf = template.isMoIdWithLeaf();
+        isInputOrOutput = template.isInputOrOutput();
+        return template.resourceId(id, this::getKeyValue);
+    }
+
+    /**
+     * Returns resource identifier template for the schema path of model
+     * object identifier.
+     *
+     * @param id model object identifier
+     * @return resource identifier template
+     */
+    private ResourceIdTemplate fetchTemplate(ModelObjectId id) {
+
+        ResourceIdTemplate rid = new ResourceIdTemplate();
         List<AtomicPath> paths = id.atomicPaths();
         AtomicPath path = paths.get(0);
 
@@ -118,13 +128,15 @@ class ModIdToRscIdConverter {
             }
             lastIndexNode = fetchModNodeFromLeaf(identifier.getClass().getName());
             if (lastIndexNode != null) {
-                handleLeafInRid(lastIndexNode, id, rid, path);
-                return rid.build();
+                handleLeafInRid(lastIndexNode, id, rid, path, 0);
+                rid.complete(lastIndexNode, isMoIdWithLeaf, isInputOrOutput);
+                return rid;
             }
         }
 
-        return convertToResourceId(id, fetchModuleNode(fetchPackage(path)),
-                                   rid);
+        convertToResourceId(id, fetchModuleNode(fetchPackage(path)), rid);
+        rid.complete(lastIndexNode, isMoIdWithLeaf, isInputOrOutput);
+        return rid;
     }
 
     /**
@@ -191,43 +203,34 @@ class ModIdToRscIdConverter {
     }
 
     /**
-     * Converts model object identifier to resource identifier.
+     * Converts model object identifier to resource identifier template.
      *
      * @param id      model object identifier
-     * @param builder resource id builder
-     * @return resource identifier
+     * @param builder resource id template
      */
-    private ResourceId convertToResourceId(ModelObjectId id, YangSchemaNode
-            modNode, ResourceId.Builder builder) {
+    private void convertToResourceId(ModelObjectId id, YangSchemaNode
+            modNode, ResourceIdTemplate builder) {
         List<AtomicPath> paths = id.atomicPaths();
         Iterator<AtomicPath> it = paths.iterator();
         AtomicPath path;
         String pkg;
         YangSchemaNode curNode = modNode;
         YangSchemaNode preNode = null;
-        YangNode tempNode;
+        int index = -1;
         while (it.hasNext()) {
             path = it.next();
+            index++;
             //Get the java package for given atomic path. this package will
             // be java package for schema node
             pkg = fetchPackage(path);
-            if (curNode instanceof YangAugmentableNode) {
-                tempNode = fetchFromAugment((YangNode) curNode, pkg, builder);
-                if (tempNode != null) {
-                    curNode = tempNode;
-                } else {
-                    //fetch the node for which model object identifier
-                    // contains the atomic path.
-                    curNode = fetchNode(((YangNode) curNode).getChild(), pkg, builder);
-                }
-            } else {
-                curNode = fetchNode(((YangNode) curNode).getChild(), pkg, builder);
-            }
+            //fetch the node for which model object identifier contains the
+            // atomic path, either from augments or from child nodes.
+            curNode = fetchNode(curNode, pkg, builder);
             //if the current node is null and atomic path list contains
             // another node, then there is possibility that its a leaf node.
-            if (curNode == null && paths.indexOf(path) == paths.size() - 1) {
+            if (curNode == null && !it.hasNext()) {
                 //check leaf nodes in previous nodes.
-                handleLeafInRid(preNode, id, builder, path);
+                handleLeafInRid(preNode, id, builder, path, index);
             } else if (curNode != null) {
 
                 builder.addBranchPointSchema(curNode.getName(), curNode
@@ -236,12 +239,14 @@ class ModIdToRscIdConverter {
                 // should have key leaves also.
                 if (curNode instanceof YangList) {
                     YangList list = (YangList) curNode;
-                    MultiInstanceNode mil = (MultiInstanceNode) path;
-                    Object keyObj = mil.key();
+                    if (!(path instanceof MultiInstanceNode)) {
+                        throw new ModelConvertorException(
+                                "invalid model object id." + id);
+                    }
                     Set<String> keys = list.getKeyLeaf();
                     for (String key : keys) {
                         builder.addKeyLeaf(key, list.getNameSpace()
-                                .getModuleNamespace(), getKeyValue(keyObj, key));
+                                .getModuleNamespace(), index);
                     }
                 }
             } else {
@@ -254,25 +259,16 @@ class ModIdToRscIdConverter {
             // identifier. model object will be an object for last index node.
             lastIndexNode = curNode;
         }
-        return builder.build();
     }
 
     private void handleLeafInRid(YangSchemaNode preNode, ModelObjectId id,
-                                 ResourceId.Builder builder, AtomicPath path) {
+                                 ResourceIdTemplate builder, AtomicPath path,
+                                 int index) {
         //check leaf nodes in previous nodes.
         String pkg = fetchPackage(path);
-        YangSchemaNode curNode = fetchLeaf(preNode, pkg);
-        if (curNode == null) {
-            if (preNode instanceof YangAugmentableNode) {
-                List<YangAugment> augments = ((YangAugmentableNode) preNode)
-                        .getAugmentedInfoList();
-                for (YangAugment augment : augments) {
-                    curNode = fetchLeaf(augment, pkg);
-                    if (curNode != null) {
-                        break;
-                    }
-                }
-            }
+        YangSchemaNode curNode = null;
+        if (preNode != null) {
+            curNode = reg.getSchemaNodeIndex().leaf(preNode, pkg);
         }
         if (curNode == null) {
             throw new ModelConvertorException("invalid model object id." + id);
@@ -285,44 +281,12 @@ class ModIdToRscIdConverter {
         } else {
             // leaf list should be added as leaf list branch point
             // schema with its value added to it.
-            Object val = ((MultiInstanceLeaf) path).value();
-            builder.addLeafListBranchPoint(curNode.getName(), curNode
-                    .getNameSpace().getModuleNamespace(), val);
-        }
-    }
-
-    private String getJavaPkg(YangNode node) {
-        return node.getJavaPackage() + PERIOD + DEFAULT_CAPS +
-                getCapitalCase(node.getJavaClassNameOrBuiltInType());
-    }
-
-    /**
-     * Returns augment node in case node is augmented.
-     *
-     * @param curNode current node
-     * @param pkg     java package
-     * @return augment node
-     */
-    private YangNode fetchFromAugment(YangNode curNode, String pkg,
-                                      ResourceId.Builder builder) {
-        YangNode tempNode;
-        if (curNode != null) {
-            if (curNode instanceof YangAugmentableNode) {
-                List<YangAugment> augments = ((YangAugmentableNode) curNode)
-                        .getAugmentedInfoList();
-                if (nonEmpty(augments)) {
-                    //fetch augment node from augment list and returns it.
-                    for (YangAugment augment : augments) {
-                        //process augment's child nodes.
-                        tempNode = fetchNode(augment.getChild(), pkg, builder);
-                        if (tempNode != null) {
-                            return tempNode;
-                        }
-                    }
-                }
+            if (!(path instanceof MultiInstanceLeaf)) {
+                throw new ModelConvertorException("invalid model object id." + id);
             }
+            builder.addLeafListBranchPoint(curNode.getName(), curNode
+                    .getNameSpace().getModuleNamespace(), index);
         }
-        return null;
     }
 
     /**
@@ -334,7 +298,8 @@ class ModIdToRscIdConverter {
      */
     private Object getKeyValue(Object keys, String keyName) {
         try {
-            return getAttributeOfObject(keys, getCamelCase(keyName, null));
+            return getAttributeOfObject(keys, getCamelCase(keyName, null),
+                                        reg);
         } catch (NoSuchMethodException e) {
             throw new ModelConvertorException("invalid key value in model id for list" +
                                                       "." + keys.getClass().getName());
@@ -342,67 +307,32 @@ class ModIdToRscIdConverter {
     }
 
     /**
-     * Returns YANG fetchNode for given package.
+     * Returns child YANG node of given node for given package.
      *
-     * @param node    YANG fetchNode
+     * @param parent  parent YANG node
      * @param pkg     package
-     * @param builder resource identifier builder
-     * @return YANG fetchNode
+     * @param builder resource identifier template
+     * @return YANG node
      */
-    private YangNode fetchNode(YangNode node, String pkg,
-                               ResourceId.Builder builder) {
-        String java;
-        while (node != null) {
-            //compare the java package with the package found in model object
-            // identifier.
-            if (node.getYangSchemaNodeType() != YANG_NON_DATA_NODE) {
-                java = getJavaPkg(node);
-                if (java.equals(pkg)) {
-                    return node;
-                } else if (node instanceof YangRpc) {
-                    // in case of a input node rpc also needs to be added to
-                    // resource identifier
-                    if (isRpcAdded) {
-                        isRpcAdded = false;
-                        builder.addBranchPointSchema(node.getName(), node.getNameSpace()
-                                .getModuleNamespace());
-                    }
-                    // node will become input node
-                    node = node.getChild();
-                } else {
-                    // check in next sibling node
-                    node = node.getNextSibling();
-                }
-            } else {
-                // check in next sibling node
-                node = node.getNextSibling();
-            }
+    private YangNode fetchNode(YangSchemaNode parent, String pkg,
+                               ResourceIdTemplate builder) {
+        if (parent == null) {
+            return null;
         }
-        return null;
-    }
-
-    private YangSchemaNode fetchLeaf(YangSchemaNode node, String name) {
-        YangLeavesHolder holder = (YangLeavesHolder) node;
-        List<YangLeaf> leaves = holder.getListOfLeaf();
-        // check if the names is equal to any of the leaf/leaf-list nodes.
-        if (nonEmpty(leaves)) {
-            for (YangLeaf leaf : leaves) {
-                if (leaf.getJavaAttributeName().toLowerCase()
-                        .equals(name)) {
-                    return leaf;
-                }
-            }
+        SchemaNodeIndex.Child child = reg.getSchemaNodeIndex()
+                .child(parent, pkg);
+        if (child == null) {
+            return null;
         }
-        List<YangLeafList> leafLists = holder.getListOfLeafList();
-        if (nonEmpty(leafLists)) {
-            for (YangLeafList leaf : leafLists) {
-                if (leaf.getJavaAttributeName().toLowerCase()
-                        .equals(name)) {
-                    return leaf;
-                }
-            }
+        // in case of a input node rpc also needs to be added to resource
+        // identifier
+        if (child.rpc() != null && isRpcAdded) {
+            isRpcAdded = false;
+            YangNode rpc = child.rpc();
+            builder.addBranchPointSchema(rpc.getName(), rpc.getNameSpace()
+                    .getModuleNamespace());
         }
-        return null;
+        return child.node();
     }
 
     /**
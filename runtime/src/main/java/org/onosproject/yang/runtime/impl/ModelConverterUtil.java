@@ -31,6 +31,7 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yang.model.AtomicPath;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.onosproject.yang.model.MultiInstanceLeaf;
 import org.onosproject.yang.model.MultiInstanceNode;
 import org.onosproject.yang.model.SingleInstanceLeaf;
@@ -60,6 +61,7 @@ import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.Yang
 import static org.onosproject.yang.runtime.RuntimeHelper.PERIOD;
 import static org.onosproject.yang.runtime.RuntimeHelper.UNDER_SCORE;
 import static org.onosproject.yang.runtime.RuntimeHelper.getCapitalCase;
+import static org.onosproject.yang.runtime.impl.ReflectionCache.invoke;
 
 
 /**
@@ -78,6 +80,7 @@ final class ModelConverterUtil {
             new HashSet<>(Arrays.asList(INT8, INT16, INT32, INT64, UINT8,
                                         UINT16, UINT32, BOOLEAN, EMPTY));
     private static final String TO_STRING = "toString";
+    private static final String IS_LEAF_VALUE_SET = "isLeafValueSet";
 
     // No instantiation.
     private ModelConverterUtil() {
@@ -110,16 +113,24 @@ final class ModelConverterUtil {
      *
      * @param nodeObj   object of the node
      * @param fieldName name of the attribute
+     * @param reg       YANG model registry
      * @return object of the attribute
      * @throws NoSuchMethodException method not found exception
      */
-    static Object getAttributeOfObject(Object nodeObj, String fieldName)
+    static Object getAttributeOfObject(Object nodeObj, String fieldName,
+                                       DefaultYangModelRegistry reg)
             throws NoSuchMethodException {
-        Class<?> nodeClass = nodeObj.getClass();
-        Method getterMethod;
+        ModelObjectCodec codec = reg.getCodec(nodeObj);
+        if (codec != null) {
+            Object value = codec.get(nodeObj, fieldName);
+            if (value != ModelObjectCodec.UNKNOWN) {
+                return value;
+            }
+        }
         try {
-            getterMethod = nodeClass.getDeclaredMethod(fieldName);
-            return getterMethod.invoke(nodeObj);
+            return invoke(reg.getReflectionCache()
+                                  .getter(nodeObj.getClass(), fieldName),
+                          nodeObj);
         } catch (InvocationTargetException | IllegalAccessException e) {
             throw new ModelConvertorException(e);
         }
@@ -221,13 +232,25 @@ final class ModelConverterUtil {
      * @param nodeObj    object if the node
      * @param javaName   java name of the leaf
      * @param methodName getter method name
+     * @param reg        YANG model registry
      * @return string value of the boolean method
      * @throws NoSuchMethodException if the method is not present
      */
     static String isValueOrSelectLeafSet(YangSchemaNode holder, Object nodeObj,
-                                         String javaName, String methodName)
+                                         String javaName, String methodName,
+                                         DefaultYangModelRegistry reg)
             throws NoSuchMethodException {
 
+        if (methodName.equals(IS_LEAF_VALUE_SET)) {
+            ModelObjectCodec codec = reg.getCodec(nodeObj);
+            if (codec != null) {
+                Boolean isSet = codec.isLeafValueSet(nodeObj, javaName);
+                if (isSet != null) {
+                    return String.valueOf(isSet);
+                }
+            }
+        }
+
         Class<?> nodeClass = nodeObj.getClass();
 
         // Appends the enum inner package to the interface class package.
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
+import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
+
+/**
+ * Represents the cache of the reflective metadata of generated model
+ * classes, used by YOB and the model converter. Getters, setters, add to
+ * list methods and static factories are resolved once per class into
+ * method handles, and classes loaded by name are remembered per class
+ * which requested them.
+ * <p>
+ * Each model registry owns its own cache, which is invalidated when a
+ * model is unregistered so that classes of the unregistered model are no
+ * longer referenced.
+ */
+final class ReflectionCache {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE =
+            MethodType.genericMethodType(1);
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    private volatile ClassValue<ClassInfo> classInfo = new ClassInfoValue();
+
+    /**
+     * Invalidates all the cached metadata.
+     */
+    void invalidate() {
+        classInfo = new ClassInfoValue();
+    }
+
+    /**
+     * Returns the getter of the attribute in given class.
+     *
+     * @param cls  class having the getter
+     * @param name attribute name
+     * @return getter method handle taking the object
+     * @throws NoSuchMethodException  if the getter is not present
+     * @throws IllegalAccessException if the getter cannot be accessed
+     */
+    MethodHandle getter(Class<?> cls, String name)
+            throws NoSuchMethodException, IllegalAccessException {
+        ClassInfo info = classInfo.get(cls);
+        MethodHandle handle = info.getters.get(name);
+        if (handle == null) {
+            handle = unreflect(cls.getDeclaredMethod(name), GETTER_TYPE);
+            info.getters.putIfAbsent(name, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the setter of the attribute in given class. The setter
+     * parameter type is taken from the attribute field.
+     *
+     * @param cls  class having the setter
+     * @param name attribute name
+     * @return setter method handle taking the object and the value
+     * @throws NoSuchFieldException   if the attribute is not present
+     * @throws NoSuchMethodException  if the setter is not present
+     * @throws IllegalAccessException if the setter cannot be accessed
+     */
+    MethodHandle setter(Class<?> cls, String name)
+            throws NoSuchFieldException, NoSuchMethodException,
+            IllegalAccessException {
+        ClassInfo info = classInfo.get(cls);
+        MethodHandle handle = info.setters.get(name);
+        if (handle == null) {
+            Field field = cls.getDeclaredField(name);
+            handle = unreflect(cls.getDeclaredMethod(name, field.getType()),
+                               SETTER_TYPE);
+            info.setters.putIfAbsent(name, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the add to list method of the attribute in given class. The
+     * parameter type is taken from the element type of the attribute field.
+     *
+     * @param cls  class having the add to list method
+     * @param name attribute name
+     * @return add to list method handle taking the object and the value
+     * @throws NoSuchFieldException   if the attribute is not present
+     * @throws NoSuchMethodException  if the method is not present
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    MethodHandle adder(Class<?> cls, String name)
+            throws NoSuchFieldException, NoSuchMethodException,
+            IllegalAccessException {
+        ClassInfo info = classInfo.get(cls);
+        MethodHandle handle = info.adders.get(name);
+        if (handle == null) {
+            Field field = cls.getDeclaredField(name);
+            Type element = ((ParameterizedType) field.getGenericType())
+                    .getActualTypeArguments()[0];
+            if (element instanceof ParameterizedType) {
+                element = ((ParameterizedType) element).getRawType();
+            }
+            Method method = cls.getDeclaredMethod(
+                    ADD_TO + getCapitalCase(name), (Class<?>) element);
+            handle = unreflect(method, SETTER_TYPE);
+            info.adders.putIfAbsent(name, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the static factory of given class which takes the string
+     * value, such as of and fromString.
+     *
+     * @param cls  class having the factory
+     * @param name factory method name
+     * @return factory method handle taking the string value
+     * @throws NoSuchMethodException  if the factory is not present
+     * @throws IllegalAccessException if the factory cannot be accessed
+     */
+    MethodHandle factory(Class<?> cls, String name)
+            throws NoSuchMethodException, IllegalAccessException {
+        ClassInfo info = classInfo.get(cls);
+        MethodHandle handle = info.factories.get(name);
+        if (handle == null) {
+            handle = unreflect(cls.getDeclaredMethod(name, String.class),
+                               GETTER_TYPE);
+            info.factories.putIfAbsent(name, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the class of given name, loaded by the class loader of the
+     * requesting class.
+     *
+     * @param requester class requesting the load
+     * @param name      qualified class name
+     * @return loaded class
+     * @throws ClassNotFoundException if the class is not found
+     */
+    Class<?> loadClass(Class<?> requester, String name)
+            throws ClassNotFoundException {
+        ClassInfo info = classInfo.get(requester);
+        Class<?> cls = info.classes.get(name);
+        if (cls == null) {
+            cls = requester.getClassLoader().loadClass(name);
+            info.classes.putIfAbsent(name, cls);
+        }
+        return cls;
+    }
+
+    /**
+     * Invokes a getter or a static factory handle.
+     *
+     * @param handle method handle
+     * @param arg    object for getter, value for factory
+     * @return result of the invocation
+     * @throws InvocationTargetException if the invoked method fails
+     */
+    static Object invoke(MethodHandle handle, Object arg)
+            throws InvocationTargetException {
+        try {
+            return (Object) handle.invokeExact(arg);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes a setter or an add to list handle.
+     *
+     * @param handle method handle
+     * @param obj    object on which the method is invoked
+     * @param value  value to be set
+     * @throws InvocationTargetException if the invoked method fails
+     */
+    static void invoke(MethodHandle handle, Object obj, Object value)
+            throws InvocationTargetException {
+        try {
+            handle.invokeExact(obj, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /* Returns method handle of the method adapted to the generic type.*/
+    private static MethodHandle unreflect(Method method, MethodType type)
+            throws IllegalAccessException {
+        method.setAccessible(true);
+        return LOOKUP.unreflect(method).asType(type);
+    }
+
+    /* Metadata cached for one class.*/
+    private static final class ClassInfo {
+        private final ConcurrentMap<String, MethodHandle> getters =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, MethodHandle> setters =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, MethodHandle> adders =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, MethodHandle> factories =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Class<?>> classes =
+                new ConcurrentHashMap<>();
+    }
+
+    /* Creates the metadata holder of a class on first use.*/
+    private static final class ClassInfoValue extends ClassValue<ClassInfo> {
+        @Override
+        protected ClassInfo computeValue(Class<?> type) {
+            return new ClassInfo();
+        }
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.compiler.datamodel.YangInclude;
+import org.onosproject.yang.compiler.datamodel.YangModule;
+import org.onosproject.yang.compiler.datamodel.YangNamespace;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNodeContextInfo;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNodeIdentifier;
+import org.onosproject.yang.compiler.datamodel.YangSubModule;
+import org.onosproject.yang.model.YangModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.sort;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
+import static org.onosproject.yang.runtime.RuntimeHelper.getInterfaceClassName;
+
+/**
+ * Represents an immutable state of the YANG model registry. The registry
+ * publishes a new snapshot for every change, so readers always see either
+ * all or none of the nodes of a registration.
+ */
+final class RegistrySnapshot {
+
+    private static final String AT = "@";
+
+    /**
+     * Snapshot of a registry without any model.
+     */
+    static final RegistrySnapshot EMPTY = new Builder(null, false).build();
+
+    /**
+     * Snapshot of a registry deferring context binding, without any model,
+     * which builds the top level child table of a module only when it is
+     * first looked up.
+     */
+    static final RegistrySnapshot EMPTY_LAZY = new Builder(null, true).build();
+
+    /*
+     * Schema nodes with respect to module name and then to module name
+     * with revision.
+     */
+    private final Map<String, Map<String, YangSchemaNode>> yangSchemaStore;
+
+    /*
+     * Latest revision of schema nodes with respect to module name.
+     */
+    private final Map<String, YangSchemaNode> latestSchemaStore;
+
+    /*
+     * Schema nodes with respect to root's generated file name by which
+     * registration is being done.
+     */
+    private final Map<String, YangSchemaNode> regClassNameKeyStore;
+
+    /*
+     * Schema nodes with respect to root's generated file's qualified name in
+     * lower case.
+     */
+    private final Map<String, YangSchemaNode> qNameKeyStore;
+
+    /*
+     * Registered classes with respect to qualified name of generated class.
+     */
+    private final Map<String, Class<?>> registerClassStore;
+
+    /*
+     * Schema nodes with respect to namespace.
+     */
+    private final Map<String, YangSchemaNode> nameSpaceSchemaStore;
+
+    /*
+     * Top level schema nodes with respect to their namespace or module name
+     * and then their name, including the nodes of included submodules.
+     */
+    private final Map<String, Map<String, YangSchemaNode>> childContextTable;
+
+    /*
+     * Top level schema nodes of lazy snapshot, filled for a namespace or
+     * module name when it is first looked up.
+     */
+    private final ConcurrentMap<String, Map<String, YangSchemaNode>> lazyChildContextTable;
+
+    private final boolean lazy;
+    private final Set<YangModel> models;
+
+    private RegistrySnapshot(Builder builder) {
+        Map<String, Map<String, YangSchemaNode>> store = new HashMap<>();
+        Map<String, YangSchemaNode> latest = new HashMap<>();
+        for (Map.Entry<String, Map<String, YangSchemaNode>> e :
+                builder.yangSchemaStore.entrySet()) {
+            Map<String, YangSchemaNode> revMap = e.getValue();
+            if (revMap.isEmpty()) {
+                continue;
+            }
+            store.put(e.getKey(), unmodifiableMap(revMap));
+            YangSchemaNode node = revMap.get(e.getKey());
+            if (node == null) {
+                node = revMap.get(getLatestVersion(revMap));
+            }
+            latest.put(e.getKey(), node);
+        }
+        yangSchemaStore = unmodifiableMap(store);
+        latestSchemaStore = unmodifiableMap(latest);
+        regClassNameKeyStore = unmodifiableMap(builder.regClassNameKeyStore);
+        qNameKeyStore = unmodifiableMap(builder.qNameKeyStore);
+        registerClassStore = unmodifiableMap(builder.registerClassStore);
+        nameSpaceSchemaStore = unmodifiableMap(builder.nameSpaceSchemaStore);
+        models = unmodifiableSet(builder.models);
+        lazy = builder.lazy;
+        if (lazy) {
+            childContextTable = emptyMap();
+            lazyChildContextTable = new ConcurrentHashMap<>();
+        } else {
+            childContextTable = buildChildContextTable();
+            lazyChildContextTable = null;
+        }
+    }
+
+    /**
+     * Returns a builder initialized with the state of this snapshot.
+     *
+     * @return snapshot builder
+     */
+    Builder copy() {
+        return new Builder(this, lazy);
+    }
+
+    /**
+     * Returns the registered models.
+     *
+     * @return set of models
+     */
+    Set<YangModel> models() {
+        return models;
+    }
+
+    /**
+     * Returns true if the snapshot builds child contexts on demand.
+     *
+     * @return true if lazy
+     */
+    boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Returns the number of registered module and submodule nodes.
+     *
+     * @return number of registered nodes
+     */
+    int moduleCount() {
+        return regClassNameKeyStore.size();
+    }
+
+    /**
+     * Returns schema node for the given schema name, with or without
+     * revision.
+     *
+     * @param name schema name
+     * @return schema node, null if not registered
+     */
+    YangSchemaNode getForNameWithRev(String name) {
+        if (name.contains(AT)) {
+            Map<String, YangSchemaNode> revMap =
+                    yangSchemaStore.get(name.split(AT)[0]);
+            return revMap == null ? null : revMap.get(name);
+        }
+        return latestSchemaStore.get(name);
+    }
+
+    /**
+     * Returns schema node for the given registered interface class name.
+     *
+     * @param name interface class name
+     * @return schema node, null if not registered
+     */
+    YangSchemaNode getForRegClassName(String name) {
+        return regClassNameKeyStore.get(name);
+    }
+
+    /**
+     * Returns schema node for the given lower cased qualified name of
+     * registered interface class.
+     *
+     * @param pkg lower cased qualified name
+     * @return schema node, null if not registered
+     */
+    YangSchemaNode getForRegClassQualifiedName(String pkg) {
+        return qNameKeyStore.get(pkg);
+    }
+
+    /**
+     * Returns schema node for the given namespace.
+     *
+     * @param nameSpace namespace
+     * @return schema node, null if not registered
+     */
+    YangSchemaNode getForNameSpace(String nameSpace) {
+        return nameSpaceSchemaStore.get(nameSpace);
+    }
+
+    /**
+     * Returns registered class for the given class name.
+     *
+     * @param name qualified class name
+     * @return registered class, null if not registered
+     */
+    Class<?> getRegisteredClass(String name) {
+        return registerClassStore.get(name);
+    }
+
+    /**
+     * Returns the top level schema node for given namespace or module name
+     * and name.
+     *
+     * @param ns   namespace or module name
+     * @param name node name
+     * @return schema node, null if not found
+     */
+    YangSchemaNode getChild(String ns, String name) {
+        Map<String, YangSchemaNode> children = lazy ?
+                lazyChildContextTable.computeIfAbsent(ns, this::getChildren) :
+                childContextTable.get(ns);
+        return children == null ? null : children.get(name);
+    }
+
+    /*
+     * Returns the top level children of module identified by namespace or
+     * module name, preferring namespace as the precomputed table does.
+     * Returns null rather than an empty map, so that the lazy table does
+     * not grow for unknown namespaces taken from requests.
+     */
+    private Map<String, YangSchemaNode> getChildren(String ns) {
+        Map<String, YangSchemaNode> children = emptyMap();
+        YangSchemaNode node = nameSpaceSchemaStore.get(ns);
+        if (node != null) {
+            children = getChildren(ns, node);
+        }
+        if (children.isEmpty()) {
+            node = latestSchemaStore.get(ns);
+            if (node != null) {
+                children = getChildren(ns, node);
+            }
+        }
+        return children.isEmpty() ? null : children;
+    }
+
+    private static String getLatestVersion(Map<String, YangSchemaNode> revMap) {
+        List<String> keys = new ArrayList<>(revMap.keySet());
+        sort(keys);
+        return keys.get(keys.size() - 1);
+    }
+
+    private static String getRevName(YangSchemaNode node) {
+        String date = getDateInStringFormat((YangNode) node);
+        String name = node.getName();
+        if (date != null) {
+            return name + AT + date;
+        }
+        return name;
+    }
+
+    private Map<String, Map<String, YangSchemaNode>> buildChildContextTable() {
+        if (nameSpaceSchemaStore.isEmpty() && latestSchemaStore.isEmpty()) {
+            return emptyMap();
+        }
+        Map<String, Map<String, YangSchemaNode>> table = new HashMap<>();
+        for (Map.Entry<String, YangSchemaNode> e :
+                nameSpaceSchemaStore.entrySet()) {
+            addToChildContextTable(table, e.getKey(), e.getValue());
+        }
+        for (Map.Entry<String, YangSchemaNode> e :
+                latestSchemaStore.entrySet()) {
+            if (!table.containsKey(e.getKey())) {
+                addToChildContextTable(table, e.getKey(), e.getValue());
+            }
+        }
+        return unmodifiableMap(table);
+    }
+
+    private static void addToChildContextTable(
+            Map<String, Map<String, YangSchemaNode>> table, String ns,
+            YangSchemaNode node) {
+        Map<String, YangSchemaNode> children = getChildren(ns, node);
+        if (!children.isEmpty()) {
+            table.put(ns, children);
+        }
+    }
+
+    /*
+     * Returns the top level children of module which is identified by given
+     * namespace or module name. A node of the module is preferred to a node
+     * of submodule, and the last included submodule wins, as in the lookup
+     * through the included submodules.
+     */
+    private static Map<String, YangSchemaNode> getChildren(
+            String ns, YangSchemaNode node) {
+        if (!(node instanceof YangNode)) {
+            return emptyMap();
+        }
+        Map<String, YangSchemaNode> children = new HashMap<>();
+        addChildren(children, (YangNode) node, ns, false);
+        if (node instanceof YangModule) {
+            List<YangInclude> includeList = ((YangModule) node)
+                    .getIncludeList();
+            if (includeList != null) {
+                Map<String, YangSchemaNode> subChildren = new HashMap<>();
+                for (YangInclude include : includeList) {
+                    if (include.getIncludedNode() != null) {
+                        addChildren(subChildren, include.getIncludedNode(),
+                                    ns, true);
+                    }
+                }
+                for (Map.Entry<String, YangSchemaNode> e :
+                        subChildren.entrySet()) {
+                    children.putIfAbsent(e.getKey(), e.getValue());
+                }
+            }
+        }
+        return children.isEmpty() ? emptyMap() : unmodifiableMap(children);
+    }
+
+    private static void addChildren(Map<String, YangSchemaNode> children,
+                                    YangNode node, String ns,
+                                    boolean overwrite) {
+        Map<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo> map =
+                node.getYsnContextInfoMap();
+        if (map == null) {
+            return;
+        }
+        for (Map.Entry<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo> e :
+                map.entrySet()) {
+            YangSchemaNodeIdentifier id = e.getKey();
+            YangNamespace idNs = id.getNameSpace();
+            if (idNs == null || e.getValue().getSchemaNode() == null ||
+                    !(ns.equals(idNs.getModuleName()) ||
+                            ns.equals(idNs.getModuleNamespace()))) {
+                continue;
+            }
+            if (overwrite) {
+                children.put(id.getName(), e.getValue().getSchemaNode());
+            } else {
+                children.putIfAbsent(id.getName(), e.getValue().getSchemaNode());
+            }
+        }
+    }
+
+    /**
+     * Builder of registry snapshot. It copies the state of a snapshot and
+     * is changed by a single writer before a new snapshot is built.
+     */
+    static final class Builder {
+
+        private final Map<String, Map<String, YangSchemaNode>> yangSchemaStore =
+                new HashMap<>();
+        private final Map<String, YangSchemaNode> regClassNameKeyStore;
+        private final Map<String, YangSchemaNode> qNameKeyStore;
+        private final Map<String, Class<?>> registerClassStore;
+        private final Map<String, YangSchemaNode> nameSpaceSchemaStore;
+        private final Set<YangModel> models;
+        private final boolean lazy;
+
+        private Builder(RegistrySnapshot base, boolean lazy) {
+            this.lazy = lazy;
+            if (base == null) {
+                regClassNameKeyStore = new HashMap<>();
+                qNameKeyStore = new HashMap<>();
+                registerClassStore = new HashMap<>();
+                nameSpaceSchemaStore = new HashMap<>();
+                models = new LinkedHashSet<>();
+                return;
+            }
+            for (Map.Entry<String, Map<String, YangSchemaNode>> e :
+                    base.yangSchemaStore.entrySet()) {
+                yangSchemaStore.put(e.getKey(), new HashMap<>(e.getValue()));
+            }
+            regClassNameKeyStore = new HashMap<>(base.regClassNameKeyStore);
+            qNameKeyStore = new HashMap<>(base.qNameKeyStore);
+            registerClassStore = new HashMap<>(base.registerClassStore);
+            nameSpaceSchemaStore = new HashMap<>(base.nameSpaceSchemaStore);
+            models = new LinkedHashSet<>(base.models);
+        }
+
+        /**
+         * Adds a model.
+         *
+         * @param model YANG model
+         */
+        void addModel(YangModel model) {
+            models.add(model);
+        }
+
+        /**
+         * Removes a model.
+         *
+         * @param model YANG model
+         */
+        void removeModel(YangModel model) {
+            models.remove(model);
+        }
+
+        /**
+         * Adds a registered class if not already present.
+         *
+         * @param service registered class
+         */
+        void addRegisteredClass(Class<?> service) {
+            registerClassStore.putIfAbsent(service.getName(), service);
+        }
+
+        /**
+         * Returns true if a node is registered for given interface class
+         * name.
+         *
+         * @param name interface class name
+         * @return true if registered
+         */
+        boolean isRegistered(String name) {
+            return regClassNameKeyStore.containsKey(name);
+        }
+
+        /**
+         * Adds an application's root schema node.
+         *
+         * @param appNode root schema node
+         * @param name    interface class name
+         */
+        void addApplicationContext(YangSchemaNode appNode, String name) {
+            String revName = getRevName(appNode);
+            yangSchemaStore.computeIfAbsent(appNode.getName(),
+                                            k -> new HashMap<>())
+                    .put(revName, appNode);
+            regClassNameKeyStore.put(name, appNode);
+            qNameKeyStore.put(getInterfaceClassName(appNode).toLowerCase(),
+                              appNode);
+
+            /*
+             * The name of a module determines the namespace of all data
+             * node names defined in that module.  If a data node is defined
+             * in a submodule, then the namespace-qualified member name uses
+             * the name of the main module to which the submodule belongs.
+             * So skipping the submodule entry in namespace map.
+             */
+            if (!(appNode instanceof YangSubModule)) {
+                nameSpaceSchemaStore.put(appNode.getNameSpace()
+                                                 .getModuleNamespace(), appNode);
+            }
+        }
+
+        /**
+         * Removes the application's root schema node registered with given
+         * interface class name.
+         *
+         * @param serviceName interface class name
+         * @return removed schema node, null if not registered
+         */
+        YangSchemaNode removeApplicationContext(String serviceName) {
+            YangSchemaNode curNode = regClassNameKeyStore.remove(serviceName);
+            if (curNode == null) {
+                return null;
+            }
+            Map<String, YangSchemaNode> revMap =
+                    yangSchemaStore.get(curNode.getName());
+            if (revMap != null && revMap.size() > 1) {
+                revMap.remove(getRevName(curNode));
+            } else {
+                yangSchemaStore.remove(curNode.getName());
+            }
+            qNameKeyStore.remove(serviceName.toLowerCase());
+            nameSpaceSchemaStore.remove(
+                    curNode.getNameSpace().getModuleNamespace());
+            registerClassStore.remove(serviceName);
+            return curNode;
+        }
+
+        /**
+         * Builds the snapshot.
+         *
+         * @return registry snapshot
+         */
+        RegistrySnapshot build() {
+            return new RegistrySnapshot(this);
+        }
+    }
+}
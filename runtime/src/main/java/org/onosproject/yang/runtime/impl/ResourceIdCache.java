@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.onosproject.yang.model.AtomicPath;
+import org.onosproject.yang.model.ModelObjectId;
+import org.onosproject.yang.model.MultiInstanceLeaf;
+import org.onosproject.yang.model.MultiInstanceNode;
+import org.onosproject.yang.model.SingleInstanceLeaf;
+import org.onosproject.yang.model.SingleInstanceNode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Represents a size bounded, concurrent cache of model object identifier to
+ * resource identifier conversions. Conversions are cached
+ * with respect to the schema path of the model object identifier, so the
+ * instances of a list or leaf-list share one entry and only their key
+ * values are substituted on a hit.
+ * <p>
+ * The cache is invalidated whenever a model is registered or
+ * unregistered. Entries are keyed with the generation of the cache they
+ * were computed in, so a conversion computed before an invalidation and
+ * cached after it is never served. A cache with zero capacity is disabled.
+ */
+public final class ResourceIdCache {
+
+    /**
+     * Default number of schema paths held by the cache.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final Cache<PathKey, ResourceIdTemplate> templates;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates an instance of resource identifier cache.
+     *
+     * @param capacity maximum number of cached schema paths, zero to
+     *                 disable the cache
+     */
+    ResourceIdCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "resource id cache capacity must not be negative: " +
+                            capacity);
+        }
+        this.capacity = capacity;
+        templates = CacheBuilder.newBuilder()
+                .maximumSize(capacity)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the template for the schema path of given model object
+     * identifier, computing and caching it when it is not cached.
+     *
+     * @param id     model object identifier
+     * @param loader computes the template on a miss
+     * @return resource identifier template
+     */
+    ResourceIdTemplate get(ModelObjectId id,
+                           Function<ModelObjectId, ResourceIdTemplate> loader) {
+        if (capacity == 0) {
+            return loader.apply(id);
+        }
+        PathKey key = new PathKey(generation.get(), id);
+        ResourceIdTemplate template = templates.getIfPresent(key);
+        if (template == null) {
+            template = loader.apply(id);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Invalidates all the cached conversions.
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+        templates.invalidateAll();
+    }
+
+    /**
+     * Returns the maximum number of cached schema paths.
+     *
+     * @return capacity of cache
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of cached schema paths.
+     *
+     * @return size of cache
+     */
+    public int size() {
+        return (int) templates.size();
+    }
+
+    /**
+     * Returns the number of conversions served from the cache.
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return templates.stats().hitCount();
+    }
+
+    /**
+     * Returns the number of conversions not found in the cache.
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return templates.stats().missCount();
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(getClass())
+                .add("capacity", capacity)
+                .add("size", size())
+                .add("hitCount", hitCount())
+                .add("missCount", missCount())
+                .toString();
+    }
+
+    /*
+     * Schema path of a model object identifier, made of the type and the
+     * class or leaf identifier of each atomic path, along with the
+     * generation of the cache.
+     */
+    private static final class PathKey {
+
+        private final long generation;
+        private final Object[] elements;
+        private final int hash;
+
+        private PathKey(long generation, ModelObjectId id) {
+            this.generation = generation;
+            List<AtomicPath> paths = id.atomicPaths();
+            elements = new Object[paths.size() * 2];
+            int i = 0;
+            for (AtomicPath path : paths) {
+                elements[i++] = path.type();
+                elements[i++] = schemaOf(path);
+            }
+            hash = 31 * Long.hashCode(generation) + Arrays.hashCode(elements);
+        }
+
+        private static Object schemaOf(AtomicPath path) {
+            switch (path.type()) {
+                case SINGLE_INSTANCE_NODE:
+                    return ((SingleInstanceNode) path).container();
+                case MULTI_INSTANCE_NODE:
+                    return ((MultiInstanceNode) path).listClass();
+                case SINGLE_INSTANCE_LEAF_VALUE_NODE:
+                    return ((SingleInstanceLeaf) path).leafIdentifier();
+                case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                    return ((MultiInstanceLeaf) path).leafIdentifier();
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PathKey)) {
+                return false;
+            }
+            PathKey that = (PathKey) obj;
+            return hash == that.hash && generation == that.generation &&
+                    Arrays.equals(elements, that.elements);
+        }
+    }
+}
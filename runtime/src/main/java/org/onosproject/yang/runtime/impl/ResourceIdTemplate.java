@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.model.AtomicPath;
+import org.onosproject.yang.model.ModelObjectId;
+import org.onosproject.yang.model.MultiInstanceLeaf;
+import org.onosproject.yang.model.MultiInstanceNode;
+import org.onosproject.yang.model.ResourceId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the resource identifier of all the model object identifiers
+ * having the same schema path, i.e. the same classes and leaf identifiers
+ * in their atomic paths. List keys and leaf-list values are taken from the
+ * model object identifier when the template is applied, so all instances
+ * of a list share a single template.
+ */
+final class ResourceIdTemplate {
+
+    private final List<Step> steps = new ArrayList<>();
+    private boolean hasValues;
+    private ResourceId resourceId;
+    private YangSchemaNode lastIndexNode;
+    private boolean moIdWithLeaf;
+    private boolean inputOrOutput;
+
+    /**
+     * Creates a template starting from the root node.
+     */
+    ResourceIdTemplate() {
+        addBranchPointSchema("/", null);
+    }
+
+    /**
+     * Adds a branch point schema.
+     *
+     * @param name      name of the node
+     * @param nameSpace namespace of the node
+     */
+    void addBranchPointSchema(String name, String nameSpace) {
+        steps.add(new Step(name, nameSpace, -1, false));
+    }
+
+    /**
+     * Adds a key leaf whose value is taken from the list key of the
+     * atomic path at given index.
+     *
+     * @param name      name of the key leaf
+     * @param nameSpace namespace of the key leaf
+     * @param index     index of the multi instance node atomic path
+     */
+    void addKeyLeaf(String name, String nameSpace, int index) {
+        steps.add(new Step(name, nameSpace, index, false));
+        hasValues = true;
+    }
+
+    /**
+     * Adds a leaf-list branch point whose value is taken from the atomic
+     * path at given index.
+     *
+     * @param name      name of the leaf-list
+     * @param nameSpace namespace of the leaf-list
+     * @param index     index of the multi instance leaf atomic path
+     */
+    void addLeafListBranchPoint(String name, String nameSpace, int index) {
+        steps.add(new Step(name, nameSpace, index, true));
+        hasValues = true;
+    }
+
+    /**
+     * Completes the template with the state of the conversion.
+     *
+     * @param lastIndex   last index node
+     * @param withLeaf    true if model object identifier contains leaf
+     * @param inputOutput true if module node is found using input/output
+     */
+    void complete(YangSchemaNode lastIndex, boolean withLeaf,
+                  boolean inputOutput) {
+        lastIndexNode = lastIndex;
+        moIdWithLeaf = withLeaf;
+        inputOrOutput = inputOutput;
+        if (!hasValues) {
+            // no instance specific value, the resource identifier is
+            // the same for every model object identifier.
+            resourceId = apply(null, null);
+        }
+    }
+
+    /**
+     * Returns the resource identifier of given model object identifier.
+     *
+     * @param id      model object identifier matching the template
+     * @param fetcher fetcher of key values from list key objects
+     * @return resource identifier
+     */
+    ResourceId resourceId(ModelObjectId id, KeyValueFetcher fetcher) {
+        if (resourceId != null) {
+            return resourceId;
+        }
+        return apply(id, fetcher);
+    }
+
+    private ResourceId apply(ModelObjectId id, KeyValueFetcher fetcher) {
+        ResourceId.Builder builder = ResourceId.builder();
+        for (Step step : steps) {
+            if (step.index < 0) {
+                builder.addBranchPointSchema(step.name, step.nameSpace);
+                continue;
+            }
+            AtomicPath path = id.atomicPaths().get(step.index);
+            if (step.leafList) {
+                builder.addLeafListBranchPoint(
+                        step.name, step.nameSpace,
+                        ((MultiInstanceLeaf) path).value());
+            } else {
+                Object key = ((MultiInstanceNode) path).key();
+                builder.addKeyLeaf(step.name, step.nameSpace,
+                                   fetcher.fetch(key, step.name));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns last index node for the last index atomic path of model
+     * object identifier.
+     *
+     * @return schema node
+     */
+    YangSchemaNode lastIndexNode() {
+        return lastIndexNode;
+    }
+
+    /**
+     * Returns true if model object identifier contains leaf.
+     *
+     * @return true if model object identifier contains leaf
+     */
+    boolean isMoIdWithLeaf() {
+        return moIdWithLeaf;
+    }
+
+    /**
+     * Returns true if module node is found using input/output packages.
+     *
+     * @return true if module node is found using input/output packages
+     */
+    boolean isInputOrOutput() {
+        return inputOrOutput;
+    }
+
+    /**
+     * Fetches the value of a key leaf from a list key object.
+     */
+    interface KeyValueFetcher {
+
+        /**
+         * Returns the value of the key leaf.
+         *
+         * @param keys    list key object
+         * @param keyName key leaf name
+         * @return key value
+         */
+        Object fetch(Object keys, String keyName);
+    }
+
+    /*
+     * Single node key of the resource identifier, index of the atomic path
+     * is negative when the node key has no value.
+     */
+    private static final class Step {
+
+        private final String name;
+        private final String nameSpace;
+        private final int index;
+        private final boolean leafList;
+
+        private Step(String name, String nameSpace, int index,
+                     boolean leafList) {
+            this.name = name;
+            this.nameSpace = nameSpace;
+            this.index = index;
+            this.leafList = leafList;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Represents how much of the registered schema is bound to the model
+ * registry as root context. With deferred context binding the registry is
+ * bound as root context of the top level nodes of a module only when a
+ * request first reaches the module, whereas otherwise every module is bound
+ * on registration. Parsing, linking and uses expansion of modules happen on
+ * registration in both cases, and are not counted here.
+ */
+public final class SchemaMetrics {
+
+    private final boolean contextDeferred;
+    private final int registeredModules;
+    private final int boundModules;
+    private final long boundNodes;
+
+    /**
+     * Creates an instance of schema metrics.
+     *
+     * @param contextDeferred   true if context binding is deferred
+     * @param registeredModules number of registered modules
+     * @param boundModules      number of modules bound as root context
+     * @param boundNodes        number of top level nodes bound as root
+     *                          context
+     */
+    SchemaMetrics(boolean contextDeferred, int registeredModules,
+                  int boundModules, long boundNodes) {
+        this.contextDeferred = contextDeferred;
+        this.registeredModules = registeredModules;
+        this.boundModules = boundModules;
+        this.boundNodes = boundNodes;
+    }
+
+    /**
+     * Returns true if registry defers context binding to first use.
+     *
+     * @return true if context binding is deferred
+     */
+    public boolean isContextDeferred() {
+        return contextDeferred;
+    }
+
+    /**
+     * Returns the number of registered modules and submodules.
+     *
+     * @return number of registered modules
+     */
+    public int registeredModules() {
+        return registeredModules;
+    }
+
+    /**
+     * Returns the number of modules and submodules whose top level nodes
+     * are bound to the registry as root context.
+     *
+     * @return number of bound modules
+     */
+    public int boundModules() {
+        return boundModules;
+    }
+
+    /**
+     * Returns the number of top level schema nodes bound to the registry as
+     * root context. Schema nodes below them are not counted, as their
+     * context is set when the module is linked on registration.
+     *
+     * @return number of bound top level nodes
+     */
+    public long boundNodes() {
+        return boundNodes;
+    }
+
+    /**
+     * Returns the fraction of registered modules which are bound.
+     *
+     * @return bound fraction, between zero and one
+     */
+    public double boundRatio() {
+        if (registeredModules == 0) {
+            return 0;
+        }
+        return (double) boundModules / registeredModules;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(getClass())
+                .add("contextDeferred", contextDeferred)
+                .add("registeredModules", registeredModules)
+                .add("boundModules", boundModules)
+                .add("boundNodes", boundNodes)
+                .toString();
+    }
+}
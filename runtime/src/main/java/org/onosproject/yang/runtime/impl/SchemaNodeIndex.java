@@ -0,0 +1,237 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.compiler.datamodel.YangAugment;
+import org.onosproject.yang.compiler.datamodel.YangAugmentableNode;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeafList;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangRpc;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.unmodifiableMap;
+import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.nonEmpty;
+import static org.onosproject.yang.runtime.RuntimeHelper.DEFAULT_CAPS;
+import static org.onosproject.yang.runtime.RuntimeHelper.PERIOD;
+import static org.onosproject.yang.runtime.RuntimeHelper.getCapitalCase;
+
+/**
+ * Represents the index of schema nodes used by model object identifier to
+ * resource identifier conversion. For every schema node it holds its
+ * child nodes with respect to the qualified name of their generated
+ * default class, including children added by augments and input/output
+ * of RPCs, and its leaves with respect to their lower cased java attribute
+ * name.
+ * <p>
+ * A node is indexed the first time it is looked up; the index is
+ * invalidated whenever the registry changes, as augments of a newly
+ * registered model change the children of already registered nodes. Every
+ * node index records the generation of the index it was built in, so a
+ * node index built before an invalidation and stored after it is rebuilt
+ * on its next lookup.
+ */
+final class SchemaNodeIndex {
+
+    private final ConcurrentMap<YangSchemaNode, NodeIndex> index =
+            new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Invalidates the whole index.
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+        index.clear();
+    }
+
+    /**
+     * Returns the child of given node whose default class has the given
+     * qualified name.
+     *
+     * @param parent    parent schema node
+     * @param className qualified name of the default class
+     * @return child entry, null if not found
+     */
+    Child child(YangSchemaNode parent, String className) {
+        return nodeIndex(parent).children.get(className);
+    }
+
+    /**
+     * Returns the leaf or leaf-list of given node for the given lower cased
+     * java attribute name.
+     *
+     * @param parent parent schema node
+     * @param name   lower cased java attribute name
+     * @return leaf or leaf-list schema node, null if not found
+     */
+    YangSchemaNode leaf(YangSchemaNode parent, String name) {
+        return nodeIndex(parent).leaves.get(name);
+    }
+
+    private NodeIndex nodeIndex(YangSchemaNode parent) {
+        long gen = generation.get();
+        NodeIndex nodeIndex = index.get(parent);
+        if (nodeIndex == null || nodeIndex.generation != gen) {
+            nodeIndex = new NodeIndex(parent, gen);
+            index.put(parent, nodeIndex);
+        }
+        return nodeIndex;
+    }
+
+    /**
+     * Returns the qualified name of the default class generated for a
+     * schema node.
+     *
+     * @param node schema node
+     * @return qualified name of default class
+     */
+    static String getDefaultClassName(YangNode node) {
+        return node.getJavaPackage() + PERIOD + DEFAULT_CAPS +
+                getCapitalCase(node.getJavaClassNameOrBuiltInType());
+    }
+
+    /**
+     * Represents a child schema node along with the RPC containing it, in
+     * case the child is an input or output node.
+     */
+    static final class Child {
+
+        private final YangNode node;
+        private final YangNode rpc;
+
+        private Child(YangNode node, YangNode rpc) {
+            this.node = node;
+            this.rpc = rpc;
+        }
+
+        /**
+         * Returns the child schema node.
+         *
+         * @return child schema node
+         */
+        YangNode node() {
+            return node;
+        }
+
+        /**
+         * Returns the RPC node containing the child, null if the child is
+         * not an input or output node.
+         *
+         * @return RPC node
+         */
+        YangNode rpc() {
+            return rpc;
+        }
+    }
+
+    /*
+     * Index of a single schema node.
+     */
+    private static final class NodeIndex {
+
+        private final long generation;
+        private final Map<String, Child> children;
+        private final Map<String, YangSchemaNode> leaves;
+
+        private NodeIndex(YangSchemaNode parent, long generation) {
+            this.generation = generation;
+            Map<String, Child> childMap = new HashMap<>();
+            Map<String, YangSchemaNode> leafMap = new HashMap<>();
+            List<YangAugment> augments = null;
+            if (parent instanceof YangAugmentableNode) {
+                augments = ((YangAugmentableNode) parent)
+                        .getAugmentedInfoList();
+            }
+            // augmented children take precedence over the node's own
+            // children, and the node's own leaves over augmented leaves.
+            if (nonEmpty(augments)) {
+                for (YangAugment augment : augments) {
+                    addChildren(childMap, augment.getChild());
+                }
+            }
+            if (parent instanceof YangNode) {
+                addChildren(childMap, ((YangNode) parent).getChild());
+            }
+            addLeaves(leafMap, parent);
+            if (nonEmpty(augments)) {
+                for (YangAugment augment : augments) {
+                    addLeaves(leafMap, augment);
+                }
+            }
+            children = unmodifiableMap(childMap);
+            leaves = unmodifiableMap(leafMap);
+        }
+
+        private static void addChildren(Map<String, Child> map,
+                                        YangNode node) {
+            while (node != null) {
+                if (node.getYangSchemaNodeType() != YANG_NON_DATA_NODE) {
+                    addChild(map, node, null);
+                    if (node instanceof YangRpc) {
+                        YangNode io = node.getChild();
+                        while (io != null) {
+                            addChild(map, io, node);
+                            io = io.getNextSibling();
+                        }
+                    }
+                }
+                node = node.getNextSibling();
+            }
+        }
+
+        private static void addChild(Map<String, Child> map, YangNode node,
+                                     YangNode rpc) {
+            if (node.getJavaClassNameOrBuiltInType() != null) {
+                map.putIfAbsent(getDefaultClassName(node),
+                                new Child(node, rpc));
+            }
+        }
+
+        private static void addLeaves(Map<String, YangSchemaNode> map,
+                                      YangSchemaNode node) {
+            if (!(node instanceof YangLeavesHolder)) {
+                return;
+            }
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            List<YangLeaf> leaves = holder.getListOfLeaf();
+            if (nonEmpty(leaves)) {
+                for (YangLeaf leaf : leaves) {
+                    map.putIfAbsent(leaf.getJavaAttributeName().toLowerCase(),
+                                    leaf);
+                }
+            }
+            List<YangLeafList> leafLists = holder.getListOfLeafList();
+            if (nonEmpty(leafLists)) {
+                for (YangLeafList leafList : leafLists) {
+                    map.putIfAbsent(leafList.getJavaAttributeName()
+                                            .toLowerCase(), leafList);
+                }
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ final class YobConstants {
     static final String OP_PARAM = "OpParam";
     static final String DEFAULT = "Default";
     static final String ADD_TO = "addTo";
+    static final String CODEC = "Codec";
     static final String OF = "of";
     static final String PERIOD = ".";
     static final String ADD_AUGMENT_METHOD = "addAugmentation";
@@ -18,7 +18,6 @@ package org.onosproject.yang.runtime.impl;
 
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.model.DataNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
 
 import static org.onosproject.yang.runtime.impl.YobUtils.getClassLoader;
 import static org.onosproject.yang.runtime.impl.YobUtils.getInstanceOfClass;
@@ -47,7 +46,7 @@ abstract class YobHandler {
         String qualName = getQualifiedDefaultClass(node);
         ClassLoader classLoader = getClassLoader(node, reg);
         String setterName = schemaNode.getJavaAttributeName();
-        Object builtObject = getInstanceOfClass(classLoader, qualName);
+        Object builtObject = getInstanceOfClass(reg, classLoader, qualName);
         return new YobWorkBench(classLoader, builtObject, setterName,
                                 schemaNode);
     }
@@ -75,7 +74,7 @@ abstract class YobHandler {
      * @param reg          YANG model registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                     YangModelRegistry reg) {
+                     DefaultYangModelRegistry reg) {
         curWorkbench.buildObject(reg);
     }
 }
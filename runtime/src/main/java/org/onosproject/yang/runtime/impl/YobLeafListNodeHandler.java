@@ -22,20 +22,15 @@ import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.javadatamodel.JavaQualifiedTypeInfoContainer;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.LeafNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 
-import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.IDENTITYREF;
-import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_INVOKE_METHOD;
-import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
 import static org.onosproject.yang.runtime.impl.YobUtils.getChildSchemaNode;
 import static org.onosproject.yang.runtime.impl.YobUtils.setDataFromStringValue;
 
@@ -60,7 +55,7 @@ class YobLeafListNodeHandler extends YobHandler {
      * @param registry YANG schema registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                            YangModelRegistry registry) {
+                            DefaultYangModelRegistry registry) {
         // For multi instance leaf no need to build an object.
     }
 
@@ -81,32 +76,25 @@ class YobLeafListNodeHandler extends YobHandler {
             String setterInParent = referredSchema.getJavaAttributeName();
             Object parentObj = curWb.getParentObject(reg, schemaNode);
             parentClass = parentObj.getClass();
-
-            Field leafName = parentClass
-                    .getDeclaredField(setterInParent);
-            ParameterizedType genericListType =
-                    (ParameterizedType) leafName.getGenericType();
-            Class<?> genericListClass;
-            if (((YangLeafList) referredSchema)
-                    .getDataType().getDataType() == IDENTITYREF) {
-                ParameterizedType type = (ParameterizedType)
-                        genericListType.getActualTypeArguments()[0];
-                genericListClass = type.getClass().getClass();
-            } else {
-                genericListClass = (Class<?>) genericListType.getActualTypeArguments()[0];
+            Object value = ((LeafNode) leafNode).value();
+            ModelObjectCodec codec = reg.getCodec(parentObj);
+            if (value != null && codec != null &&
+                    codec.setLeaf(parentObj, setterInParent, value)) {
+                return;
             }
 
-            Method setterMethod = parentClass.getDeclaredMethod(
-                    ADD_TO + getCapitalCase(setterInParent), genericListClass);
+            ReflectionCache cache = reg.getReflectionCache();
+            MethodHandle setterMethod = cache.adder(parentClass,
+                                                    setterInParent);
 
             JavaQualifiedTypeInfoContainer javaQualifiedType =
                     (JavaQualifiedTypeInfoContainer) referredSchema;
             YangType<?> yangType =
                     ((YangLeafList) javaQualifiedType).getDataType();
             setDataFromStringValue(yangType.getDataType(),
-                                   ((LeafNode) leafNode).value(), setterMethod,
+                                   value, setterMethod,
                                    parentObj, referredSchema,
-                                   curWb.schemaNode());
+                                   curWb.schemaNode(), cache);
         } catch (NoSuchMethodException | InvocationTargetException |
                 IllegalAccessException | NoSuchFieldException e) {
             log.error(L_FAIL_TO_INVOKE_METHOD, parentClass.getName());
@@ -21,13 +21,12 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.LeafNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_INVOKE_METHOD;
@@ -55,7 +54,7 @@ class YobLeafNodeHandler extends YobHandler {
      * @param registry YANG schema registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                            YangModelRegistry registry) {
+                            DefaultYangModelRegistry registry) {
         // For single instance leaf no need to build an object.
     }
 
@@ -76,18 +75,23 @@ class YobLeafNodeHandler extends YobHandler {
             String setterInParent = referredSchema.getJavaAttributeName();
             Object parentObj = curWb.getParentObject(registry, schemaNode);
             parentClass = parentObj.getClass();
+            Object value = ((LeafNode) leafNode).value();
+            ModelObjectCodec codec = registry.getCodec(parentObj);
+            if (value != null && codec != null &&
+                    codec.setLeaf(parentObj, setterInParent, value)) {
+                return;
+            }
             YangDataTypes dataType = ((YangLeaf) referredSchema).getDataType()
                     .getDataType();
-            if (((LeafNode) leafNode).value() != null ||
+            if (value != null ||
                     dataType == YangDataTypes.EMPTY) {
-                Field leafName = parentClass.getDeclaredField(setterInParent);
-                Method setterMethod = parentClass.getDeclaredMethod(setterInParent,
-                                                                    leafName.getType());
+                ReflectionCache cache = registry.getReflectionCache();
+                MethodHandle setterMethod = cache.setter(parentClass,
+                                                         setterInParent);
 
-                setDataFromStringValue(dataType,
-                                       ((LeafNode) leafNode).value(),
+                setDataFromStringValue(dataType, value,
                                        setterMethod, parentObj, referredSchema,
-                                       curWb.schemaNode());
+                                       curWb.schemaNode(), cache);
             }
         } catch (NoSuchMethodException | InvocationTargetException |
                 IllegalAccessException | NoSuchFieldException e) {
@@ -39,6 +39,7 @@ import org.onosproject.yang.model.LeafModelObject;
 import org.onosproject.yang.model.LeafNode;
 import org.onosproject.yang.model.ListKey;
 import org.onosproject.yang.model.ModelObject;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.onosproject.yang.model.ModelObjectId;
 import org.onosproject.yang.model.MultiInstanceObject;
 import org.onosproject.yang.model.NodeKey;
@@ -47,10 +48,8 @@ import org.onosproject.yang.model.SchemaId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.Iterator;
 import java.util.List;
@@ -59,11 +58,11 @@ import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_AU
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.nonEmpty;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yang.runtime.SerializerHelper.getChildSchemaContext;
+import static org.onosproject.yang.runtime.impl.ReflectionCache.invoke;
 import static org.onosproject.yang.runtime.impl.YobConstants.DEFAULT;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_DATA_TYPE_NOT_SUPPORT;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_CREATE_OBJ;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CLASS;
-import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CONSTRUCTOR;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_INVALID_IDENTITY_DATA;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_REFLECTION_FAIL_TO_CREATE_OBJ;
@@ -98,16 +97,18 @@ final class YobUtils {
      * @param parentObj    the parentObject is to invoke the underlying method
      * @param schemaNode   schema information
      * @param parentSchema schema information of parent
+     * @param cache        reflection cache
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if method is not found
      */
     static void setDataFromStringValue(YangDataTypes type,
                                        Object value,
-                                       Method parentSetter,
+                                       MethodHandle parentSetter,
                                        Object parentObj,
                                        YangSchemaNode schemaNode,
-                                       YangSchemaNode parentSchema)
+                                       YangSchemaNode parentSchema,
+                                       ReflectionCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         switch (type) {
@@ -122,42 +123,42 @@ final class YobUtils {
             case BOOLEAN:
             case EMPTY:
             case STRING:
-                parentSetter.invoke(parentObj, value);
+                invoke(parentSetter, parentObj, value);
                 break;
             case BINARY:
-                parentSetter.invoke(parentObj, ((String) value).getBytes());
+                invoke(parentSetter, parentObj, ((String) value).getBytes());
                 break;
             case BITS:
                 parseBitSetTypeInfo(parentSetter, parentObj, value,
-                                    schemaNode, parentSchema);
+                                    schemaNode, parentSchema, cache);
                 break;
             case DECIMAL64:
-                parentSetter.invoke(parentObj, new BigDecimal(value.toString()));
+                invoke(parentSetter, parentObj, new BigDecimal(value.toString()));
                 break;
 
             case DERIVED:
                 parseDerivedTypeInfo(parentSetter, parentObj, value.toString(),
-                                     false, schemaNode);
+                                     false, schemaNode, cache);
                 break;
 
             case IDENTITYREF:
                 parseIdentityRefInfo(parentSetter, parentObj, value,
-                                     schemaNode);
+                                     schemaNode, cache);
                 break;
 
             case UNION:
                 parseDerivedTypeInfo(parentSetter, parentObj, value.toString(),
-                                     false, schemaNode);
+                                     false, schemaNode, cache);
                 break;
 
             case LEAFREF:
                 parseLeafRefTypeInfo(parentSetter, parentObj, value,
-                                     schemaNode, parentSchema);
+                                     schemaNode, parentSchema, cache);
                 break;
 
             case ENUMERATION:
                 parseDerivedTypeInfo(parentSetter, parentObj, value.toString(),
-                                     true, schemaNode);
+                                     true, schemaNode, cache);
                 break;
 
             default:
@@ -174,64 +175,60 @@ final class YobUtils {
      * @param value        value to be set in method
      * @param isEnum       flag to check whether type is enum or derived
      * @param leaf         schema node
+     * @param cache        reflection cache
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if the required method is not found
      */
-    static void parseDerivedTypeInfo(Method parentSetter,
+    static void parseDerivedTypeInfo(MethodHandle parentSetter,
                                      Object parentObj,
                                      String value,
                                      boolean isEnum,
-                                     YangSchemaNode leaf)
+                                     YangSchemaNode leaf,
+                                     ReflectionCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
-        Class<?> childSetClass = null;
-        Constructor<?> childConstructor = null;
-        Object childValue = null;
-        Object childObject = null;
-        Method childMethod = null;
         while (leaf.getReferredSchema() != null) {
             leaf = leaf.getReferredSchema();
         }
 
         String qualifiedClassName = leaf.getJavaPackage() + PERIOD +
                 getCapitalCase(leaf.getJavaClassNameOrBuiltInType());
-        ClassLoader classLoader = parentObj.getClass().getClassLoader();
+        Object childValue = parseFromString(parentObj, qualifiedClassName,
+                                            isEnum ? OF : FROM_STRING, value,
+                                            cache);
+        invoke(parentSetter, parentObj, childValue);
+    }
+
+    /**
+     * Returns the value created by the static string factory of the given
+     * class, or null if the class could not be loaded.
+     *
+     * @param parentObj          object whose class loader loads the class
+     * @param qualifiedClassName qualified name of the class
+     * @param factory            name of the static factory
+     * @param value              string value
+     * @param cache              reflection cache
+     * @return created value
+     * @throws InvocationTargetException if failed to invoke method
+     * @throws IllegalAccessException    if member cannot be accessed
+     * @throws NoSuchMethodException     if the required method is not found
+     */
+    private static Object parseFromString(Object parentObj,
+                                          String qualifiedClassName,
+                                          String factory, Object value,
+                                          ReflectionCache cache)
+            throws InvocationTargetException, IllegalAccessException,
+            NoSuchMethodException {
+        Class<?> childSetClass;
         try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
+            childSetClass = cache.loadClass(parentObj.getClass(),
+                                            qualifiedClassName);
         } catch (ClassNotFoundException e) {
             log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
+            return null;
         }
-
-        if (!isEnum) {
-            if (childSetClass != null) {
-                childConstructor = childSetClass.getDeclaredConstructor();
-            }
-
-            if (childConstructor != null) {
-                childConstructor.setAccessible(true);
-            }
-
-            try {
-                if (childConstructor != null) {
-                    childObject = childConstructor.newInstance();
-                }
-            } catch (InstantiationException e) {
-                log.error(E_FAIL_TO_LOAD_CONSTRUCTOR, qualifiedClassName);
-            }
-            if (childSetClass != null) {
-                childMethod = childSetClass
-                        .getDeclaredMethod(FROM_STRING, String.class);
-            }
-        } else {
-            if (childSetClass != null) {
-                childMethod = childSetClass.getDeclaredMethod(OF, String.class);
-            }
-        }
-        if (childMethod != null) {
-            childValue = childMethod.invoke(childObject, value);
-        }
-        parentSetter.invoke(parentObj, childValue);
+        return invoke(cache.factory(childSetClass, factory), value);
     }
 
     /**
@@ -243,22 +240,19 @@ final class YobUtils {
      * @param leafValue          value to be set in method
      * @param leaf               schema information
      * @param parentSchema       schema information of parent
+     * @param cache              reflection cache
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if the required method is not found
      */
-    static void parseBitSetTypeInfo(Method parentSetterMethod,
+    static void parseBitSetTypeInfo(MethodHandle parentSetterMethod,
                                     Object parentObject,
                                     Object leafValue,
                                     YangSchemaNode leaf,
-                                    YangSchemaNode parentSchema)
+                                    YangSchemaNode parentSchema,
+                                    ReflectionCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
-        Class<?> childSetClass = null;
-        Object childValue = null;
-        Object childObject = null;
-        Method childMethod = null;
-
         while (leaf.getReferredSchema() != null) {
             leaf = leaf.getReferredSchema();
         }
@@ -267,23 +261,9 @@ final class YobUtils {
                 parentSchema.getJavaAttributeName().toLowerCase() +
                 PERIOD + getCapitalCase(leaf.getJavaAttributeName());
 
-        ClassLoader classLoader = parentObject.getClass().getClassLoader();
-
-        try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
-        } catch (ClassNotFoundException e) {
-            log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
-        }
-
-        if (childSetClass != null) {
-            childMethod = childSetClass.getDeclaredMethod(FROM_STRING, String.class);
-        }
-        if (childMethod != null) {
-            childValue = childMethod.invoke(childObject, leafValue);
-        }
-
-        parentSetterMethod.invoke(parentObject, childValue);
-
+        Object childValue = parseFromString(parentObject, qualifiedClassName,
+                                            FROM_STRING, leafValue, cache);
+        invoke(parentSetterMethod, parentObject, childValue);
     }
 
     /**
@@ -295,15 +275,17 @@ final class YobUtils {
      * @param leafValue          leaf value to be set
      * @param schemaNode         schema information
      * @param parentSchema       schema information of parent
+     * @param cache              reflection cache
      * @throws InvocationTargetException if method could not be invoked
      * @throws IllegalAccessException    if method could not be accessed
      * @throws NoSuchMethodException     if method does not exist
      */
-    static void parseLeafRefTypeInfo(Method parentSetterMethod,
+    static void parseLeafRefTypeInfo(MethodHandle parentSetterMethod,
                                      Object parentObject,
                                      Object leafValue,
                                      YangSchemaNode schemaNode,
-                                     YangSchemaNode parentSchema)
+                                     YangSchemaNode parentSchema,
+                                     ReflectionCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         while (schemaNode.getReferredSchema() != null) {
@@ -332,12 +314,13 @@ final class YobUtils {
                     .getDataTypeExtendedInfo();
             YobUtils.setDataFromStringValue(derivedInfo.getEffectiveBuiltInType(),
                                             leafValue, parentSetterMethod,
-                                            parentObject, schemaNode, parentSchema);
+                                            parentObject, schemaNode, parentSchema,
+                                            cache);
         } else {
             YobUtils.setDataFromStringValue(type.getDataType(),
                                             leafValue, parentSetterMethod,
                                             parentObject,
-                                            schemaNode, parentSchema);
+                                            schemaNode, parentSchema, cache);
         }
 
     }
@@ -438,20 +421,18 @@ final class YobUtils {
      *                           the method
      * @param leafValue          leaf value to be set
      * @param schemaNode         schema information
+     * @param cache              reflection cache
      * @throws InvocationTargetException if method could not be invoked
      * @throws IllegalAccessException    if method could not be accessed
      * @throws NoSuchMethodException     if method does not exist
      */
-    static void parseIdentityRefInfo(Method parentSetterMethod,
+    static void parseIdentityRefInfo(MethodHandle parentSetterMethod,
                                      Object parentObject,
                                      Object leafValue,
-                                     YangSchemaNode schemaNode)
+                                     YangSchemaNode schemaNode,
+                                     ReflectionCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
-        Class<?> childSetClass = null;
-        Object childValue = null;
-        Method childMethod = null;
-
         while (schemaNode.getReferredSchema() != null) {
             schemaNode = schemaNode.getReferredSchema();
         }
@@ -486,23 +467,9 @@ final class YobUtils {
         }
         qualifiedClassName = derivedId.getJavaPackage() + PERIOD +
                 getCapitalCase(derivedId.getJavaClassNameOrBuiltInType());
-        ClassLoader classLoader = parentObject.getClass().getClassLoader();
-        try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
-        } catch (ClassNotFoundException e) {
-            log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
-        }
-
-        if (childSetClass != null) {
-            childMethod = childSetClass
-                    .getDeclaredMethod(FROM_STRING, String.class);
-        }
-
-        if (childMethod != null) {
-            childValue = childMethod.invoke(null, leafValue);
-        }
-
-        parentSetterMethod.invoke(parentObject, childValue);
+        Object childValue = parseFromString(parentObject, qualifiedClassName,
+                                            FROM_STRING, leafValue, cache);
+        invoke(parentSetterMethod, parentObject, childValue);
     }
 
     /**
@@ -612,6 +579,24 @@ final class YobUtils {
         }
     }
 
+    /**
+     * Returns instance of class, created through the generated codec of the
+     * class when one is available.
+     *
+     * @param reg    YANG model registry
+     * @param loader class loader
+     * @param name   class name
+     * @return instance of class
+     */
+    static Object getInstanceOfClass(DefaultYangModelRegistry reg,
+                                     ClassLoader loader, String name) {
+        ModelObjectCodec codec = reg.getCodec(loader, name);
+        if (codec != null) {
+            return codec.newObject();
+        }
+        return getInstanceOfClass(loader, name);
+    }
+
     /**
      * Returns instance of class.
      *
@@ -703,7 +688,8 @@ final class YobUtils {
         Class<KeyInfo> keyClass;
         Object value;
         String javaName = null;
-        Method setter;
+        MethodHandle setter;
+        ReflectionCache cache = reg.getReflectionCache();
         if (nonEmpty(keyLeaves)) {
             String qualName = getQualifiedDefaultClass(node);
             ClassLoader classLoader = getClassLoader(node, reg);
@@ -713,21 +699,19 @@ final class YobUtils {
             if (listClass != null) {
                 keyClassName = getKeyClassName(node);
                 try {
-                    keyClass = (Class<KeyInfo>) listClass.getClassLoader()
-                            .loadClass(keyClassName);
+                    keyClass = (Class<KeyInfo>) cache.loadClass(
+                            listClass, keyClassName);
                     keyObj = (K) keyClass.newInstance();
                     for (KeyLeaf leaf : keyLeaves) {
                         YangLeaf leafSchema = getKeyLeafSchema(leaf, node);
                         YangDataTypes datatype = leafSchema.getDataType()
                                 .getDataType();
                         javaName = getCamelCase(leaf.leafSchema().name(), null);
-                        Field leafName = keyClass.getDeclaredField(javaName);
-                        setter = keyClass.getDeclaredMethod(javaName,
-                                                            leafName.getType());
+                        setter = cache.setter(keyClass, javaName);
                         value = leaf.leafValue();
                         setDataFromStringValue(datatype,
                                                value, setter, keyObj,
-                                               leafSchema, node);
+                                               leafSchema, node, cache);
                         midb = midb.addChild(listClass, keyObj);
                     }
                 } catch (NoSuchMethodException e) {
@@ -22,14 +22,13 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNodeIdentifier;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.InnerModelObject;
-import org.onosproject.yang.runtime.YangModelRegistry;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,7 +37,6 @@ import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_CH
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
 import static org.onosproject.yang.runtime.impl.YobConstants.ADD_AUGMENT_METHOD;
-import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_GET_FIELD;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_GET_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
@@ -46,7 +44,7 @@ import static org.onosproject.yang.runtime.impl.YobConstants.E_HAS_NO_CHILD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_GET_FIELD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_GET_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_INVOKE_METHOD;
-import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
+import static org.onosproject.yang.runtime.impl.ReflectionCache.invoke;
 import static org.onosproject.yang.runtime.impl.YobUtils.getInstanceOfClass;
 import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedDefaultClass;
 
@@ -204,7 +202,7 @@ class YobWorkBench {
                    DefaultYangModelRegistry reg) {
         Object parentObj = getParentObject(reg, curWb.schemaNode());
         setObjectInParent(parentObj, curWb.setterInParent(),
-                          curWb.getBuiltObject(), dataNode.type());
+                          curWb.getBuiltObject(), dataNode.type(), reg);
     }
 
     /**
@@ -214,32 +212,26 @@ class YobWorkBench {
      * @param setter    setter method name
      * @param curObj    current object
      * @param type      data node type
+     * @param reg       YANG model registry
      */
     private static void setObjectInParent(Object parentObj, String setter,
-                                          Object curObj, DataNode.Type type) {
+                                          Object curObj, DataNode.Type type,
+                                          DefaultYangModelRegistry reg) {
+        ModelObjectCodec codec = reg.getCodec(parentObj);
+        if (codec != null && codec.setChild(parentObj, setter, curObj)) {
+            return;
+        }
         Class<?> parentClass = parentObj.getClass();
         String parentClassName = parentClass.getName();
+        ReflectionCache cache = reg.getReflectionCache();
         try {
-            Class<?> classType = null;
-            Field fieldName = parentClass.getDeclaredField(setter);
-            if (fieldName != null) {
-                classType = fieldName.getType();
-            }
-
-            Method method;
+            MethodHandle method;
             if (type == MULTI_INSTANCE_NODE) {
-                if (fieldName != null) {
-                    ParameterizedType genericTypes =
-                            (ParameterizedType) fieldName.getGenericType();
-                    classType = (Class<?>) genericTypes.getActualTypeArguments()[0];
-                }
-                method = parentClass
-                        .getDeclaredMethod(ADD_TO + getCapitalCase(setter), classType);
+                method = cache.adder(parentClass, setter);
             } else {
-                method = parentClass.getDeclaredMethod(setter, classType);
+                method = cache.setter(parentClass, setter);
             }
-
-            method.invoke(parentObj, curObj);
+            invoke(method, parentObj, curObj);
         } catch (NoSuchFieldException e) {
             log.error(L_FAIL_TO_GET_FIELD, parentClassName);
             throw new ModelConvertorException(E_FAIL_TO_GET_FIELD + parentClassName);
@@ -361,7 +353,7 @@ class YobWorkBench {
         ClassLoader newClassesLoader = YobUtils.getTargetClassLoader(
                 curWorkBench.classLoader, childContext, registry);
 
-        Object obj = getInstanceOfClass(newClassesLoader, name);
+        Object obj = getInstanceOfClass(registry, newClassesLoader, name);
         return new YobWorkBench(newClassesLoader, obj, setterInParent,
                                 ctxSwitchedNode);
     }
@@ -389,7 +381,7 @@ class YobWorkBench {
      *
      * @param reg YANG model registry
      */
-    void buildNonSchemaAttributes(YangModelRegistry reg) {
+    void buildNonSchemaAttributes(DefaultYangModelRegistry reg) {
 
         for (Map.Entry<YangSchemaNodeIdentifier, YobWorkBench> entry :
                 attributeMap.entrySet()) {
@@ -404,7 +396,8 @@ class YobWorkBench {
             }
 
             setObjectInParent(builtObject, childWorkBench.setterInParent,
-                              childWorkBench.getBuiltObject(), SINGLE_INSTANCE_NODE);
+                              childWorkBench.getBuiltObject(),
+                              SINGLE_INSTANCE_NODE, reg);
         }
     }
 
@@ -414,7 +407,7 @@ class YobWorkBench {
      *
      * @param reg YANG model registry
      */
-    void buildObject(YangModelRegistry reg) {
+    void buildObject(DefaultYangModelRegistry reg) {
         buildNonSchemaAttributes(reg);
     }
 }
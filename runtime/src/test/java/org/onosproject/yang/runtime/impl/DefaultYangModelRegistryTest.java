@@ -20,6 +20,10 @@ import org.junit.Test;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangRevision;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.model.SchemaContext;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.runtime.DefaultModelRegistrationParam;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -339,4 +343,118 @@ public class DefaultYangModelRegistryTest {
         String date = getDateInStringFormat((YangNode) yangNode);
         assertThat(true, is(DATE_NAMESPACE.equals(date)));
     }
+
+    /**
+     * Unit test case for child context of top level nodes with respect to
+     * namespace and module name, including nodes of included submodule.
+     */
+    @Test
+    public void testGetChildContext() {
+        provider.processSchemaRegistry();
+        DefaultYangModelRegistry registry = provider.registry();
+
+        SchemaContext l1 = registry.getChildContext(
+                new SchemaId("l1", "yrt:list"));
+        assertThat(((YangSchemaNode) l1).getName(), is("l1"));
+        assertThat(registry.getChildContext(new SchemaId("l1", "list")),
+                   is(l1));
+
+        SchemaContext l2 = registry.getChildContext(
+                new SchemaId("l2", "yrt:list"));
+        assertThat(((YangSchemaNode) l2).getName(), is("l2"));
+    }
+
+    /**
+     * Unit test case for registering models together and unregistering one
+     * of them.
+     */
+    @Test
+    public void testRegisterModels() {
+        provider.processSchemaRegistryInBatch();
+        DefaultYangModelRegistry registry = provider.registry();
+
+        assertThat(registry.getModels().size(), is(2));
+        YangSchemaNode yangNode = registry.getForNameSpace(NAMESPACE, false);
+        assertThat(yangNode.getName(), is(CHECK));
+        SchemaContext l1 = registry.getChildContext(
+                new SchemaId("l1", "yrt:list"));
+        assertThat(((YangSchemaNode) l1).getName(), is("l1"));
+
+        YangModel model = registry.getModels().iterator().next();
+        registry.unregisterModel(DefaultModelRegistrationParam.builder()
+                                         .setYangModel(model).build());
+        assertThat(registry.getModels().size(), is(1));
+    }
+
+    /**
+     * Unit test case for registering schema nodes which are linked at
+     * compile time.
+     */
+    @Test
+    public void testRegisterLinkedModel() {
+        provider.processLinkedSchemaRegistry();
+        DefaultYangModelRegistry registry = provider.registry();
+
+        assertThat(provider.nodes().isEmpty(), is(false));
+        YangSchemaNode yangNode = registry.getForNameSpace(NAMESPACE, false);
+        assertThat(yangNode.getName(), is(CHECK));
+        assertThat(provider.nodes().contains(yangNode), is(true));
+        assertThat(yangNode.getJavaPackage() != null, is(true));
+        SchemaContext l1 = registry.getChildContext(
+                new SchemaId("l1", "yrt:list"));
+        assertThat(((YangSchemaNode) l1).getName(), is("l1"));
+    }
+
+    /**
+     * Unit test case for registering a module which is not linked at
+     * compile time together with the compile time linked module it imports.
+     */
+    @Test
+    public void testRegisterMixedModels() {
+        provider.processMixedSchemaRegistry("yrt-ietf-te");
+        DefaultYangModelRegistry registry = provider.registry();
+
+        YangSchemaNode yangNode = registry.getForNameSpace(
+                "urn:ietf:params:xml:ns:yang:ietf-te", false);
+        assertThat(yangNode.getName(), is("yrt-ietf-te"));
+        assertThat(yangNode.getJavaPackage() != null, is(true));
+        SchemaContext te = registry.getChildContext(
+                new SchemaId("te", "urn:ietf:params:xml:ns:yang:ietf-te"));
+        assertThat(((YangSchemaNode) te).getName(), is("te"));
+    }
+
+    /**
+     * Unit test case in which modules of a registry deferring context
+     * binding are bound only when a request reaches them.
+     */
+    @Test
+    public void testDeferredContextRegistry() {
+        TestYangSchemaNodeProvider deferredProvider =
+                new TestYangSchemaNodeProvider(true);
+        deferredProvider.processSchemaRegistry();
+        DefaultYangModelRegistry registry = deferredProvider.registry();
+
+        SchemaMetrics metrics = registry.getSchemaMetrics();
+        assertThat(metrics.isContextDeferred(), is(true));
+        assertThat(metrics.registeredModules() > 1, is(true));
+        assertThat(metrics.boundModules(), is(0));
+        assertThat(metrics.boundNodes(), is(0L));
+
+        SchemaContext l1 = registry.getChildContext(
+                new SchemaId("l1", "yrt:list"));
+        assertThat(((YangSchemaNode) l1).getName(), is("l1"));
+        assertThat(l1.getParentContext() == registry, is(true));
+
+        metrics = registry.getSchemaMetrics();
+        assertThat(metrics.boundModules() > 0, is(true));
+        assertThat(metrics.boundModules() <
+                           metrics.registeredModules(), is(true));
+        assertThat(metrics.boundNodes() > 0, is(true));
+
+        provider.processSchemaRegistry();
+        metrics = provider.registry().getSchemaMetrics();
+        assertThat(metrics.isContextDeferred(), is(false));
+        assertThat(metrics.boundModules(),
+                   is(metrics.registeredModules()));
+    }
 }
@@ -26,13 +26,16 @@ import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangNotification;
 import org.onosproject.yang.compiler.datamodel.YangOutput;
 import org.onosproject.yang.compiler.datamodel.YangRpc;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 
 import org.onosproject.yang.gen.v1.check.check.Cont53;
 import org.onosproject.yang.gen.v1.check.check.DefaultCont53;
+import org.onosproject.yang.gen.v1.check.check.DefaultList52;
 import org.onosproject.yang.gen.v1.check.check.DefaultList56;
 import org.onosproject.yang.gen.v1.check.check.List56;
+import org.onosproject.yang.gen.v1.check.check.List52Keys;
 import org.onosproject.yang.gen.v1.check.check.List56Keys;
 import org.onosproject.yang.gen.v1.check.check.group1.DefaultCont58;
 import org.onosproject.yang.gen.v1.check.check.group1.DefaultList57;
@@ -66,6 +69,8 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.INT32;
 import static org.onosproject.yang.gen.v1.ytbtreebuilderforlisthavinglist.rev20160826.ytbtreebuilderforlisthavinglist.carrier.multiplexes.TypesEnum.SPACE_DIVISION;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -243,6 +248,66 @@ public class MoIdToRscIdTest {
         assertThat("modelObjectTest", is(sid.namespace()));
     }
 
+    /**
+     * Unit test case for list instances converted through the resource
+     * identifier cache.
+     */
+    @Test
+    public void moIdWithListFromCache() {
+        setUp();
+        ResourceIdCache cache = reg.getResourceIdCache();
+        long misses = cache.missCount();
+        long hits = cache.hitCount();
+
+        List52Keys key = new List52Keys();
+        key.leaf52(1);
+        mid = new ModelObjectId.Builder()
+                .addChild(DefaultList52.class, key).build();
+        rscId = new ModIdToRscIdConverter(reg).fetchResourceId(mid);
+        ListKey listKey = (ListKey) rscId.nodeKeys().get(1);
+        assertThat(listKey.keyLeafs().get(0).leafValue(), is(1));
+
+        key = new List52Keys();
+        key.leaf52(2);
+        mid = new ModelObjectId.Builder()
+                .addChild(DefaultList52.class, key).build();
+        ModIdToRscIdConverter converter = new ModIdToRscIdConverter(reg);
+        rscId = converter.fetchResourceId(mid);
+        listKey = (ListKey) rscId.nodeKeys().get(1);
+        assertThat(listKey.schemaId().name(), is("list52"));
+        assertThat(listKey.keyLeafs().get(0).leafValue(), is(2));
+        assertThat(converter.getLastIndexNode().getName(), is("list52"));
+
+        assertThat(cache.missCount(), is(misses + 1));
+        assertThat(cache.hitCount(), is(hits + 1));
+
+        reg.getResourceIdCache().invalidate();
+        assertThat(cache.size(), is(0));
+    }
+
+    /**
+     * Unit test case for a conversion computed while the resource
+     * identifier cache is invalidated, which must not be served afterwards.
+     */
+    @Test
+    public void moIdCachedDuringInvalidate() {
+        setUp();
+        ResourceIdCache cache = reg.getResourceIdCache();
+        mid = new ModelObjectId.Builder()
+                .addChild(DefaultList52.class, new List52Keys()).build();
+
+        ResourceIdTemplate stale = new ResourceIdTemplate();
+        ResourceIdTemplate template = cache.get(mid, i -> {
+            cache.invalidate();
+            return stale;
+        });
+        assertThat(template, sameInstance(stale));
+
+        ResourceIdTemplate fresh = new ResourceIdTemplate();
+        assertThat(cache.get(mid, i -> fresh), sameInstance(fresh));
+        assertThat(cache.get(mid, i -> stale), sameInstance(fresh));
+    }
+
     /**
      * Unit test with current node having augmented leaf as model object
      * identifier.
@@ -269,6 +334,38 @@ public class MoIdToRscIdTest {
         assertThat("yrt:model:converter:model:data:to:resource:data", is(sid.namespace()));
     }
 
+    /**
+     * Unit test case for schema node index used by the conversion, with
+     * augmented leaf, before and after invalidation.
+     */
+    @Test
+    public void schemaNodeIndex() {
+        setUp();
+        mid = ModelObjectId.builder()
+                .addChild(DefaultFirstLevel.class)
+                .addChild(DefaultContainerLeaf.class)
+                .addChild(AugmentedContainerLeaf.LeafIdentifier.LEAFAUG)
+                .build();
+        rscId = builder.fetchResourceId(mid);
+        ModIdToRscIdConverter contConverter = new ModIdToRscIdConverter(reg);
+        contConverter.fetchResourceId(ModelObjectId.builder()
+                                              .addChild(DefaultFirstLevel.class)
+                                              .addChild(DefaultContainerLeaf.class)
+                                              .build());
+        YangSchemaNode cont = contConverter.getLastIndexNode();
+
+        SchemaNodeIndex index = reg.getSchemaNodeIndex();
+        YangSchemaNode leaf = index.leaf(cont, "leafaug");
+        assertThat(leaf.getName(), is("leaf-aug"));
+        assertThat(index.child(cont, DefaultFirstLevel.class.getName()),
+                   nullValue());
+
+        index.invalidate();
+        assertThat(index.leaf(cont, "leafaug"), is(leaf));
+        ResourceId again = new ModIdToRscIdConverter(reg).fetchResourceId(mid);
+        assertThat(again, is(rscId));
+    }
+
     /**
      * Unit test case for model object identifier as list with leaf.
      */
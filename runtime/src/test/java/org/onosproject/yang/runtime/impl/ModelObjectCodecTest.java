@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.simpledatatypes.rev20131112.simpledatatypes.DefaultCont;
+import org.onosproject.yang.model.ModelObjectCodec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Unit test cases for the generated reflection free model object codecs.
+ */
+public class ModelObjectCodecTest {
+
+    private final DefaultYangModelRegistry reg = new DefaultYangModelRegistry();
+
+    /**
+     * Checks that the codec of a default class is found and cached.
+     */
+    @Test
+    public void processCodecLookup() {
+        ClassLoader loader = DefaultCont.class.getClassLoader();
+        ModelObjectCodec codec = reg.getCodec(loader,
+                                              DefaultCont.class.getName());
+        assertThat(codec, notNullValue());
+        assertThat(reg.getCodec(new DefaultCont()), sameInstance(codec));
+        assertThat(reg.getCodec(loader, String.class.getName()), nullValue());
+    }
+
+    /**
+     * Checks that codecs are cached per class loader, so a loader without
+     * the codec does not hide the codec of another loader.
+     */
+    @Test
+    public void processCodecPerLoader() {
+        ClassLoader loader = DefaultCont.class.getClassLoader();
+        ClassLoader noCodec = new ClassLoader(loader) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve)
+                    throws ClassNotFoundException {
+                if (name.endsWith(YobConstants.CODEC)) {
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        };
+        String name = DefaultCont.class.getName();
+        assertThat(reg.getCodec(noCodec, name), nullValue());
+        assertThat(reg.getCodec(loader, name), notNullValue());
+        assertThat(reg.getCodec(noCodec, name), nullValue());
+    }
+
+    /**
+     * Checks leaf set, get and value set flag through the codec.
+     */
+    @Test
+    public void processLeafAccess() {
+        ModelObjectCodec codec = reg.getCodec(new DefaultCont());
+        Object obj = codec.newObject();
+        assertThat(obj, instanceOf(DefaultCont.class));
+
+        assertThat(codec.isLeafValueSet(obj, "lfnint8Min"), is(false));
+        assertThat(codec.setLeaf(obj, "lfnint8Min", (byte) -128), is(true));
+        assertThat(codec.get(obj, "lfnint8Min"), is((Object) (byte) -128));
+        assertThat(codec.isLeafValueSet(obj, "lfnint8Min"), is(true));
+        assertThat(((DefaultCont) obj).lfnint8Min(), is((byte) -128));
+
+        // Values of an unexpected type are left to the reflection path.
+        assertThat(codec.setLeaf(obj, "lfnint8Max", "127"), is(false));
+        assertThat(codec.isLeafValueSet(obj, "lfnint8Max"), is(false));
+    }
+
+    /**
+     * Checks unknown attributes are reported back to the caller.
+     */
+    @Test
+    public void processUnknownAttribute() {
+        ModelObjectCodec codec = reg.getCodec(new DefaultCont());
+        Object obj = codec.newObject();
+        assertThat(codec.setLeaf(obj, "unknown", "value"), is(false));
+        assertThat(codec.setChild(obj, "unknown", new Object()), is(false));
+        assertThat(codec.get(obj, "unknown"),
+                   sameInstance(ModelObjectCodec.UNKNOWN));
+        assertThat(codec.isLeafValueSet(obj, "unknown"), nullValue());
+    }
+}
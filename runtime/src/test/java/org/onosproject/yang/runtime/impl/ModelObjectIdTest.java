@@ -30,6 +30,10 @@ import org.onosproject.yang.model.ModelObjectId;
 
 import java.io.IOException;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
 /**
  * Unit test for model object id.
  */
@@ -100,4 +104,32 @@ public class ModelObjectIdTest {
                 .addChild(DefaultList56.class, key)
                 .addChild(List56.LeafIdentifier.LEAF57, "hello").build();
     }
+
+    /**
+     * Unit test case for equality of model object ids.
+     */
+    @Test
+    public void testModelObjectIdEquality() {
+        List52Keys key = new List52Keys();
+        ModelObjectId id1 = new ModelObjectId.Builder()
+                .addChild(DefaultCont53.class)
+                .addChild(Cont53.LeafIdentifier.LEAF55).build();
+        ModelObjectId id2 = new ModelObjectId.Builder()
+                .addChild(DefaultCont53.class)
+                .addChild(Cont53.LeafIdentifier.LEAF55).build();
+        ModelObjectId id3 = new ModelObjectId.Builder()
+                .addChild(DefaultCont50.class)
+                .addChild(Cont53.LeafIdentifier.LEAF55).build();
+        ModelObjectId id4 = new ModelObjectId.Builder()
+                .addChild(DefaultList52.class, key)
+                .addChild(DefaultCont53.class).build();
+        ModelObjectId id5 = new ModelObjectId.Builder()
+                .addChild(DefaultCont53.class)
+                .addChild(DefaultList52.class, key).build();
+
+        assertThat(id1, is(id2));
+        assertThat(id1.hashCode(), is(id2.hashCode()));
+        assertThat(id1, not(id3));
+        assertThat(id4, not(id5));
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.simpledatatypesll.rev20131112.simpledatatypesll.DefaultCont1;
+import org.onosproject.yang.gen.v1.simpledatatypesll.rev20131112.simpledatatypesll.cont1.LfenumEnum;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yang.runtime.impl.ReflectionCache.invoke;
+
+/**
+ * Unit test cases for the reflection cache of YOB and model converter.
+ */
+public class ReflectionCacheTest {
+
+    private final ReflectionCache cache = new ReflectionCache();
+
+    /**
+     * Checks add to list and getter handles are resolved and cached.
+     */
+    @Test
+    public void processAdderAndGetter() throws Exception {
+        MethodHandle adder = cache.adder(DefaultCont1.class, "lfnint8Min");
+        assertThat(cache.adder(DefaultCont1.class, "lfnint8Min"),
+                   sameInstance(adder));
+
+        DefaultCont1 cont = new DefaultCont1();
+        invoke(adder, cont, (byte) 1);
+        invoke(adder, cont, (byte) 2);
+        assertThat(cont.lfnint8Min().size(), is(2));
+
+        MethodHandle getter = cache.getter(DefaultCont1.class, "lfnint8Min");
+        assertThat(invoke(getter, cont), sameInstance(cont.lfnint8Min()));
+    }
+
+    /**
+     * Checks static factories and class loading through the cache.
+     */
+    @Test
+    public void processFactory() throws Exception {
+        String name = LfenumEnum.class.getName();
+        Class<?> cls = cache.loadClass(DefaultCont1.class, name);
+        assertThat(cls, sameInstance(LfenumEnum.class));
+
+        MethodHandle of = cache.factory(cls, "of");
+        Object value = invoke(of, LfenumEnum.values()[0].toString());
+        assertThat(value, is(LfenumEnum.values()[0]));
+    }
+
+    /**
+     * Checks invalidation drops the cached handles.
+     */
+    @Test
+    public void processInvalidate() throws Exception {
+        MethodHandle getter = cache.getter(DefaultCont1.class, "lfnint8Min");
+        cache.invalidate();
+        assertThat(cache.getter(DefaultCont1.class, "lfnint8Min"),
+                   not(sameInstance(getter)));
+    }
+
+    /**
+     * Checks missing members are reported as before.
+     */
+    @Test(expected = NoSuchMethodException.class)
+    public void processMissingGetter() throws Exception {
+        cache.getter(DefaultCont1.class, "unknown");
+    }
+}
@@ -51,14 +51,28 @@ public class TestYangSchemaNodeProvider {
     private static final String SER_FILE_PATH = "yang" + FS + "resources" +
             FS + "YangMetaData.ser";
     private static final String META_PATH = PATH + SER_FILE_PATH;
+    private static final String LINKED_META_PATH = PATH + "yang" + FS +
+            "resources" + FS + "YangLinkedMetaData.dat";
     private static final String TEMP_FOLDER_PATH = PATH + TEMP;
-    private DefaultYangModelRegistry reg = new DefaultYangModelRegistry();
+    private final DefaultYangModelRegistry reg;
     private List<YangNode> nodes = new ArrayList<>();
 
     /**
      * Creates an instance of mock bundle context.
      */
     public TestYangSchemaNodeProvider() {
+        reg = new DefaultYangModelRegistry();
+    }
+
+    /**
+     * Creates an instance of mock bundle context with a registry in given
+     * mode.
+     *
+     * @param deferContext true if registry binds modules on first use
+     */
+    public TestYangSchemaNodeProvider(boolean deferContext) {
+        reg = new DefaultYangModelRegistry(ResourceIdCache.DEFAULT_CAPACITY,
+                                           deferContext);
     }
 
     /**
@@ -76,6 +90,84 @@ public class TestYangSchemaNodeProvider {
         }
     }
 
+    /**
+     * Process YANG schema nodes of a application as two models registered
+     * together.
+     */
+    public void processSchemaRegistryInBatch() {
+        try {
+            Set<YangNode> appNode = deSerializeDataModel(META_PATH);
+            addLinkerAndJavaInfo(appNode);
+            nodes.addAll(appNode);
+            int half = nodes.size() / 2;
+            List<ModelRegistrationParam> params = new ArrayList<>();
+            params.add(prepareParam(new ArrayList<>(nodes.subList(0, half))));
+            params.add(prepareParam(new ArrayList<>(
+                    nodes.subList(half, nodes.size()))));
+            reg.registerModels(params);
+            deleteDirectory(TEMP_FOLDER_PATH);
+        } catch (IOException e) {
+        }
+    }
+
+    /**
+     * Process YANG schema nodes of a application which are linked at
+     * compile time, without linking them again.
+     */
+    public void processLinkedSchemaRegistry() {
+        try {
+            Set<YangNode> appNode = deSerializeDataModel(LINKED_META_PATH);
+            nodes.addAll(appNode);
+            reg.registerModel(prepareParam(nodes, LINKED_META_PATH, true));
+            deleteDirectory(TEMP_FOLDER_PATH);
+        } catch (IOException e) {
+        }
+    }
+
+    /**
+     * Process YANG schema nodes of a application as two models registered
+     * together, one holding the given module which is not linked at compile
+     * time and one holding the other modules which are.
+     *
+     * @param name name of the module which is not linked at compile time
+     */
+    public void processMixedSchemaRegistry(String name) {
+        try {
+            List<YangNode> linked = new ArrayList<>();
+            for (YangNode node : deSerializeDataModel(LINKED_META_PATH)) {
+                if (!node.getName().equals(name)) {
+                    linked.add(node);
+                }
+            }
+            List<YangNode> unlinked = new ArrayList<>();
+            for (YangNode node : deSerializeDataModel(META_PATH)) {
+                if (node.getName().equals(name)) {
+                    unlinked.add(node);
+                }
+            }
+            nodes.addAll(linked);
+            nodes.addAll(unlinked);
+            List<ModelRegistrationParam> params = new ArrayList<>();
+            params.add(prepareParam(linked, LINKED_META_PATH, true));
+            //java info of the unlinked module is added on registration, so
+            // its application class can't be found beforehand.
+            params.add(DefaultModelRegistrationParam.builder().setYangModel(
+                    processYangModel(META_PATH, unlinked, false)).build());
+            reg.registerModels(params);
+            deleteDirectory(TEMP_FOLDER_PATH);
+        } catch (IOException e) {
+        }
+    }
+
+    /**
+     * Returns YANG schema nodes processed by this provider.
+     *
+     * @return list of nodes
+     */
+    public List<YangNode> nodes() {
+        return nodes;
+    }
+
     /**
      * Unregister given nodes from runtime service.
      *
@@ -92,6 +184,20 @@ public class TestYangSchemaNodeProvider {
      * @return model registration parameter
      */
     private ModelRegistrationParam prepareParam(List<YangNode> nodes) {
+        return prepareParam(nodes, META_PATH, false);
+    }
+
+    /**
+     * Prepares model registration parameter.
+     *
+     * @param nodes    list of nodes
+     * @param metaPath path of meta data file
+     * @param linked   true if nodes are linked at compile time
+     * @return model registration parameter
+     */
+    private ModelRegistrationParam prepareParam(List<YangNode> nodes,
+                                                String metaPath,
+                                                boolean linked) {
         //Process loading class file.
         String appName;
         ClassLoader classLoader = getClass().getClassLoader();
@@ -101,7 +207,7 @@ public class TestYangSchemaNodeProvider {
                 DefaultModelRegistrationParam.builder();
 
         //create a new YANG model
-        YangModel model = processYangModel(META_PATH, nodes);
+        YangModel model = processYangModel(metaPath, nodes, linked);
         //set YANG model
         b.setYangModel(model);
 
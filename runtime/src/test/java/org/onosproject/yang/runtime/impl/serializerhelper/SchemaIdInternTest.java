@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl.serializerhelper;
+
+import org.junit.Test;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.SchemaContext;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.onosproject.yang.runtime.impl.DefaultYangModelRegistry;
+import org.onosproject.yang.runtime.impl.TestYangSerializerContext;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yang.runtime.SerializerHelper.addDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.exitDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.initializeDataNode;
+import static org.onosproject.yang.runtime.impl.TestUtils.LNS;
+import static org.onosproject.yang.runtime.impl.TestUtils.L_NAME;
+
+/**
+ * Tests the interning of schema identifiers by the serializer helper.
+ */
+public class SchemaIdInternTest {
+
+    /*
+     * Registry the test context registers its models with; fetching it
+     * again re-registers the models and replaces the pool.
+     */
+    private final DefaultYangModelRegistry registry =
+            (DefaultYangModelRegistry) new TestYangSerializerContext()
+                    .getContext();
+
+    private final YangSerializerContext context = new YangSerializerContext() {
+        @Override
+        public SchemaContext getContext() {
+            return registry;
+        }
+
+        @Override
+        public List<Annotation> getProtocolAnnotations() {
+            return null;
+        }
+    };
+
+    /**
+     * Tests data nodes built through the serializer helper share the
+     * registry pooled schema identifier.
+     */
+    @Test
+    public void sharedSchemaIdTest() {
+        DataNode.Builder dBlr = initializeDataNode(context);
+        dBlr = addDataNode(dBlr, "leaf1", L_NAME, "1", null);
+        dBlr = exitDataNode(dBlr);
+        dBlr = addDataNode(dBlr, "leaf1", L_NAME, "2", null);
+        dBlr = exitDataNode(dBlr);
+        InnerNode root = (InnerNode) dBlr.build();
+        SchemaId pooled = registry.keyInterner()
+                .intern(new SchemaId("leaf1", LNS));
+
+        assertThat(root.childNodes().size(), is(2));
+        for (DataNode node : root.childNodes().values()) {
+            assertThat(node.key().schemaId(), sameInstance(pooled));
+        }
+    }
+
+    /**
+     * Tests names unknown to the schema are not interned.
+     */
+    @Test
+    public void unknownNameTest() {
+        DataNode.Builder dBlr = initializeDataNode(context);
+        dBlr = addDataNode(dBlr, "leaf1", L_NAME, "1", null);
+        dBlr = exitDataNode(dBlr);
+        int size = registry.keyInterner().size();
+
+        boolean isExpOccurred = false;
+        try {
+            addDataNode(dBlr, "unknown", L_NAME, "1", null);
+        } catch (IllegalArgumentException e) {
+            isExpOccurred = true;
+        }
+        assertThat(isExpOccurred, is(true));
+        assertThat(registry.keyInterner().size(), is(size));
+    }
+}
@@ -16,12 +16,14 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.runtime.SerializerHelper;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
+import java.io.IOException;
 
 /**
  * Utilities for parsing URI and JSON strings.
@@ -85,4 +87,65 @@ public final class DecoderUtils {
         // returning the updated data node builder
         return jsonWalker.rootBuilder().build();
     }
+
+    /**
+     * Converts JSON data read from the given parser to a data node. This
+     * method should be used when the URI corresponding to the JSON body is
+     * null. Data nodes are added as the JSON tokens are read, without
+     * building a JSON object tree.
+     *
+     * @param parser  JSON parser of the given JSON data
+     * @param context YANG serializer context corresponding
+     *                to the target data node
+     * @return data node, or null if there is no JSON data
+     * @throws IOException when fails to read JSON data
+     */
+    public static DataNode convertJsonToDataNode(JsonParser parser,
+                                                 YangSerializerContext context)
+            throws IOException {
+        if (parser == null || context == null) {
+            return null;
+        }
+
+        DataNode.Builder dataNodeBuilder = SerializerHelper.
+                initializeDataNode(context);
+        return walkJsonTokens(parser, dataNodeBuilder);
+    }
+
+    /**
+     * Converts JSON data read from the given parser to a data node. This
+     * method should be used when the JSON body has a valid URI associated
+     * with it. Data nodes are added as the JSON tokens are read, without
+     * building a JSON object tree.
+     *
+     * @param parser     JSON parser of the given JSON data
+     * @param ridBuilder resource ID builder corresponding
+     *                   to the target data node
+     * @return data node, or null if there is no JSON data
+     * @throws IOException when fails to read JSON data
+     */
+    public static DataNode convertJsonToDataNode(JsonParser parser,
+                                                 ResourceId.Builder ridBuilder)
+            throws IOException {
+        if (parser == null || ridBuilder == null) {
+            return null;
+        }
+
+        DataNode.Builder dataNodeBuilder = SerializerHelper.
+                initializeDataNode(ridBuilder);
+        return walkJsonTokens(parser, dataNodeBuilder);
+    }
+
+    private static DataNode walkJsonTokens(JsonParser parser,
+                                           DataNode.Builder dataNodeBuilder)
+            throws IOException {
+        JsonTokenWalker jsonWalker = new JsonTokenWalker(dataNodeBuilder);
+        // FIXME: Handle scenario wherein there are multiple data nodes are
+        // there at root level.
+        if (!jsonWalker.walk(parser)) {
+            return null;
+        }
+        // returning the updated data node builder
+        return jsonWalker.rootBuilder().build();
+    }
 }
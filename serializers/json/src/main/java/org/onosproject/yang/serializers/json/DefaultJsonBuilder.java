@@ -33,7 +33,7 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 /**
  * Represents implementation of interfaces to build and obtain JSON data tree.
  */
-public class DefaultJsonBuilder implements JsonBuilder {
+public class DefaultJsonBuilder implements JsonTreeBuilder {
     private Logger log = LoggerFactory.getLogger(getClass());
     private StringBuilder treeString;
     private static final String LEFT_BRACE = "{";
@@ -16,6 +16,7 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.InnerNode;
@@ -58,7 +59,7 @@ public final class EncoderUtils {
     public static ObjectNode convertDataNodeToJson(DataNode dataNode, YangSerializerContext context) {
         checkNotNull(dataNode, "data node cannot be null");
 
-        JsonBuilder jsonBuilder = new DefaultJsonBuilder();
+        JsonTreeBuilder jsonBuilder = new DefaultJsonBuilder();
         jsonBuilder.initializeJson();
         DataNodeVisitor treeNodeListener = new DataNodeJsonVisitor(jsonBuilder, context);
 
@@ -71,6 +72,41 @@ public final class EncoderUtils {
         return resultData;
     }
 
+    /**
+     * Writes a data node as JSON data to the given generator. Unlike
+     * {@link #convertDataNodeToJson}, the JSON text is emitted while the
+     * data node tree is walked and is never held in memory as a whole.
+     *
+     * @param dataNode  given data node
+     * @param context   jsonserializer context
+     * @param generator JSON generator to write to
+     */
+    public static void writeDataNodeToJson(DataNode dataNode,
+                                           YangSerializerContext context,
+                                           JsonGenerator generator) {
+        checkNotNull(dataNode, "data node cannot be null");
+
+        JsonBuilder jsonBuilder = new JsonGeneratorBuilder(generator);
+        jsonBuilder.initializeJson();
+        DataNodeVisitor treeNodeListener = new DataNodeJsonVisitor(jsonBuilder, context);
+
+        walkDataNodeTree(treeNodeListener, dataNode, rootSiblingType(dataNode));
+
+        jsonBuilder.finalizeJson(dataNode.type() == MULTI_INSTANCE_NODE);
+    }
+
+    /**
+     * Returns the sibling position type with which the walk of a data
+     * node tree starts at the given root node.
+     *
+     * @param dataNode root data node
+     * @return sibling position type of root node
+     */
+    static DataNodeSiblingPositionType rootSiblingType(DataNode dataNode) {
+        return (dataNode.type() == MULTI_INSTANCE_NODE) ?
+                FIRST_INSTANCE : NOT_MULTI_INSTANCE_NODE;
+    }
+
     private static void walkDataNodeTree(DataNodeVisitor dataNodeVisitor,
                                          DataNode dataNode,
                                          DataNodeSiblingPositionType siblingType) {
@@ -142,9 +178,9 @@ public final class EncoderUtils {
         }
     }
 
-    private static DataNodeSiblingPositionType getCurrentChildSiblingType(DataNode currChild,
-                                                                          DataNode nextChild,
-                                                                          DataNodeSiblingPositionType prevChildType) {
+    static DataNodeSiblingPositionType getCurrentChildSiblingType(DataNode currChild,
+                                                                  DataNode nextChild,
+                                                                  DataNodeSiblingPositionType prevChildType) {
         if (currChild.type() != MULTI_INSTANCE_NODE &&
                 currChild.type() != MULTI_INSTANCE_LEAF_VALUE_NODE) {
             return NOT_MULTI_INSTANCE_NODE;
@@ -190,7 +226,7 @@ public final class EncoderUtils {
         return curChildSiblingType;
     }
 
-    private static List<DataNode> sortChildrenList(
+    static List<DataNode> sortChildrenList(
             Map<NodeKey, DataNode> childrenList) {
         if (childrenList == null || childrenList.isEmpty()) {
             // the children list is either not yet created or empty.
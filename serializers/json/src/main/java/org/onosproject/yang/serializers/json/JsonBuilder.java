@@ -17,13 +17,13 @@
 package org.onosproject.yang.serializers.json;
 
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.Set;
 
 /**
- * Abstraction of an entity which provides interfaces to build and obtain JSON
- * data tree.
+ * Abstraction of an entity which provides interfaces to build JSON data
+ * tree. The tree may be streamed out as it is built; builders which retain
+ * the tree implement {@link JsonTreeBuilder}.
  */
 public interface JsonBuilder {
 
@@ -74,20 +74,6 @@ public interface JsonBuilder {
      */
     void addNodeBottomHalf(JsonNodeType nodeType);
 
-    /**
-     * Returns the JSON tree after build operations in the format of string.
-     *
-     * @return the final string JSON tree after build operations
-     */
-    String getTreeString();
-
-    /**
-     * Returns the JSON tree after build operations in the format of string.
-     *
-     * @return the final ObjectNode JSON tree after build operations
-     */
-    ObjectNode getTreeNode();
-
     /**
      * Returns the YANG module name of the JSON subtree that the builder
      * is currently building. The YANG module name represents the name
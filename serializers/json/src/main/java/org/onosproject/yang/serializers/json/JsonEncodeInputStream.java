@@ -0,0 +1,221 @@
+/*
+ *  Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.runtime.YangSerializerContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.serializers.json.DataNodeSiblingPositionType.UNKNOWN_TYPE;
+import static org.onosproject.yang.serializers.json.EncoderUtils.getCurrentChildSiblingType;
+import static org.onosproject.yang.serializers.json.EncoderUtils.rootSiblingType;
+import static org.onosproject.yang.serializers.json.EncoderUtils.sortChildrenList;
+
+/**
+ * Represents an input stream of JSON data which is encoded from a data node
+ * lazily, as the stream is read. The data node tree is walked only as far
+ * as needed to fill the next chunk, so the memory held by the stream
+ * does not grow with the size of the encoded document.
+ */
+final class JsonEncodeInputStream extends InputStream {
+
+    // Number of walk steps taken before the generator is flushed.
+    private static final int STEPS_PER_CHUNK = 256;
+
+    private final ChunkBuffer chunk = new ChunkBuffer();
+    private final Deque<WalkFrame> stack = new ArrayDeque<>();
+    private final DataNode rootNode;
+    private final JsonGenerator generator;
+    private final JsonBuilder jsonBuilder;
+    private final DataNodeVisitor visitor;
+
+    private int pos;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * Creates an instance of JSON encode input stream.
+     *
+     * @param dataNode root data node to be encoded
+     * @param context  YANG serializer context
+     * @param factory  JSON factory used to create the generator
+     * @throws IOException when the generator cannot be created
+     */
+    JsonEncodeInputStream(DataNode dataNode, YangSerializerContext context,
+                          JsonFactory factory) throws IOException {
+        rootNode = dataNode;
+        generator = factory.createGenerator(chunk, JsonEncoding.UTF8);
+        jsonBuilder = new JsonGeneratorBuilder(generator);
+        visitor = new DataNodeJsonVisitor(jsonBuilder, context);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk.byteAt(pos++) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.size() - pos);
+        chunk.copyTo(pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return chunk.size() - pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        stack.clear();
+        finished = true;
+        generator.close();
+    }
+
+    /**
+     * Makes sure there are unread bytes in the current chunk by walking
+     * further down the data node tree if required.
+     *
+     * @return false if the whole document has been read, true otherwise
+     * @throws IOException when encoding fails
+     */
+    private boolean fill() throws IOException {
+        while (pos >= chunk.size()) {
+            if (finished) {
+                return false;
+            }
+            chunk.reset();
+            pos = 0;
+            try {
+                for (int i = 0; i < STEPS_PER_CHUNK && !finished; i++) {
+                    step();
+                }
+                generator.flush();
+            } catch (SerializerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes one step of the depth-first walk of the data node tree,
+     * entering or exiting exactly one data node.
+     */
+    private void step() {
+        if (!started) {
+            started = true;
+            jsonBuilder.initializeJson();
+            enter(rootNode, rootSiblingType(rootNode));
+            return;
+        }
+
+        WalkFrame frame = stack.peek();
+        if (frame == null) {
+            jsonBuilder.finalizeJson(rootNode.type() == MULTI_INSTANCE_NODE);
+            finished = true;
+            return;
+        }
+
+        if (frame.currChild != null) {
+            DataNode currChild = frame.currChild;
+            DataNode nextChild = frame.children.hasNext() ?
+                    frame.children.next() : null;
+            DataNodeSiblingPositionType currChildType =
+                    getCurrentChildSiblingType(currChild, nextChild,
+                                               frame.prevChildType);
+            frame.prevChildType = currChildType;
+            frame.currChild = nextChild;
+            enter(currChild, currChildType);
+            return;
+        }
+
+        stack.pop();
+        visitor.exitDataNode(frame.node, frame.siblingType);
+    }
+
+    private void enter(DataNode dataNode,
+                       DataNodeSiblingPositionType siblingType) {
+        visitor.enterDataNode(dataNode, siblingType);
+        stack.push(new WalkFrame(dataNode, siblingType));
+    }
+
+    /**
+     * Representation of the walk state of a data node which has been
+     * entered but not yet exited.
+     */
+    private static final class WalkFrame {
+        private final DataNode node;
+        private final DataNodeSiblingPositionType siblingType;
+        private final Iterator<DataNode> children;
+        private DataNode currChild;
+        private DataNodeSiblingPositionType prevChildType = UNKNOWN_TYPE;
+
+        private WalkFrame(DataNode node,
+                          DataNodeSiblingPositionType siblingType) {
+            this.node = node;
+            this.siblingType = siblingType;
+            List<DataNode> sorted = null;
+            if (node.type() == SINGLE_INSTANCE_NODE ||
+                    node.type() == MULTI_INSTANCE_NODE) {
+                sorted = sortChildrenList(((InnerNode) node).childNodes());
+            }
+            children = sorted == null ? null : sorted.iterator();
+            currChild = children != null && children.hasNext() ?
+                    children.next() : null;
+        }
+    }
+
+    /**
+     * Byte array output stream which gives read access to the bytes
+     * written so far, without copying them.
+     */
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+        private byte byteAt(int index) {
+            return buf[index];
+        }
+
+        private void copyTo(int index, byte[] b, int off, int len) {
+            System.arraycopy(buf, index, b, off, len);
+        }
+    }
+}
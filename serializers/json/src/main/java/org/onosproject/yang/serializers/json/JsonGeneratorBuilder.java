@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.Stack;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Represents implementation of JSON builder which streams the JSON data
+ * tree to a Jackson generator as it is being built, instead of keeping
+ * the whole tree in memory.
+ */
+public class JsonGeneratorBuilder implements JsonBuilder {
+    private static final String ROOT_MODULE_NAME = "ROOT";
+    private static final String ENCODE_ERROR = "JSON serializer encode failure";
+
+    private Logger log = LoggerFactory.getLogger(getClass());
+    private final JsonGenerator generator;
+    private Stack<String> moduleNameStack;
+
+    /**
+     * Creates an instance of JSON generator builder.
+     *
+     * @param generator JSON generator to which the tree is written
+     */
+    public JsonGeneratorBuilder(JsonGenerator generator) {
+        checkNotNull(generator);
+        this.generator = generator;
+        moduleNameStack = new Stack<>();
+    }
+
+    @Override
+    public void addNodeTopHalf(String nodeName, JsonNodeType nodeType) {
+        try {
+            writeField(nodeName);
+            switch (nodeType) {
+                case OBJECT:
+                    generator.writeStartObject();
+                    break;
+                case ARRAY:
+                    generator.writeStartArray();
+                    break;
+                default:
+                    log.error("Unknown support type {} for this method.",
+                              nodeType);
+            }
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    @Override
+    public void addNodeWithValueTopHalf(String nodeName, String value) {
+        if (isNullOrEmpty(nodeName)) {
+            return;
+        }
+        try {
+            writeField(nodeName);
+            generator.writeString(value);
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    @Override
+    public void addNodeWithSetTopHalf(String nodeName, Set<String> sets) {
+        if (isNullOrEmpty(nodeName)) {
+            return;
+        }
+        try {
+            writeField(nodeName);
+            generator.writeStartArray();
+            for (String el : sets) {
+                generator.writeString(el);
+            }
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    @Override
+    public void addValueToLeafListNode(String value) {
+        if (isNullOrEmpty(value)) {
+            return;
+        }
+        try {
+            generator.writeString(value);
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    @Override
+    public void addNodeBottomHalf(JsonNodeType nodeType) {
+        try {
+            switch (nodeType) {
+                case OBJECT:
+                    generator.writeEndObject();
+                    break;
+                case ARRAY:
+                    generator.writeEndArray();
+                    break;
+                case BINARY:
+                case BOOLEAN:
+                case MISSING:
+                case NULL:
+                case NUMBER:
+                case POJO:
+                case STRING:
+                    break;
+                default:
+                    log.info("Unknown json node type {}", nodeType);
+            }
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    @Override
+    public String subTreeModuleName() {
+        return moduleNameStack.peek();
+    }
+
+    @Override
+    public void pushModuleName(String moduleName) {
+        moduleNameStack.push(moduleName);
+    }
+
+    @Override
+    public void popModuleName() {
+        moduleNameStack.pop();
+    }
+
+    @Override
+    public void initializeJson() {
+        if (!moduleNameStack.empty()) {
+            moduleNameStack.removeAllElements();
+        }
+        moduleNameStack.push(ROOT_MODULE_NAME);
+        try {
+            generator.writeStartObject();
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    @Override
+    public void finalizeJson(boolean isRootTypeMultiInstance) {
+        try {
+            if (isRootTypeMultiInstance) {
+                /*
+                 * If the root node of the JSON tree is an array
+                 * type, we need to close the array as well.
+                 */
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+            generator.flush();
+        } catch (IOException e) {
+            throw new SerializerException(ENCODE_ERROR, e);
+        }
+    }
+
+    private void writeField(String fieldName) throws IOException {
+        if (fieldName != null && !fieldName.isEmpty()) {
+            generator.writeFieldName(fieldName);
+        }
+    }
+}
@@ -16,10 +16,11 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.apache.commons.io.IOUtils;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.ResourceData;
@@ -34,10 +35,12 @@ import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.yang.serializers.json.DecoderUtils.convertJsonToDataNode;
-import static org.onosproject.yang.serializers.json.EncoderUtils.convertDataNodeToJson;
+import static org.onosproject.yang.serializers.json.EncoderUtils.writeDataNodeToJson;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -48,6 +51,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class JsonSerializer implements YangSerializer {
     private static final String JSON_FORMAT = "JSON";
     private static final String ERROR_INFO = "JSON serializer decode failure";
+    private static final String ENCODE_ERROR_INFO = "JSON serializer encode failure";
 
     private final Logger log = getLogger(getClass());
     private final ObjectMapper mapper = new ObjectMapper();
@@ -68,14 +72,7 @@ public class JsonSerializer implements YangSerializer {
             ResourceId.Builder rIdBuilder = convertUriToRid(
                     compositeStream.resourceId(), yangSerializerContext);
 
-            ObjectNode rootNode = null;
-
-            if (compositeStream.resourceData() != null) {
-                rootNode = (ObjectNode) mapper().
-                        readTree(compositeStream.resourceData());
-            }
-
-            DataNode dataNode;
+            DataNode dataNode = null;
             /*
              * initializeDataNode by passing yangSerializerContext is
              * intended to be used in a scenario wherein URL is NULL.
@@ -84,13 +81,16 @@ public class JsonSerializer implements YangSerializer {
              * and in this case the resourceId builder which was constructed
              * for a URL, needs to be given as an Input parameter.
              */
-            if (rIdBuilder != null) {
-                dataNode = convertJsonToDataNode(rootNode,
-                                                 rIdBuilder);
-
-            } else {
-                dataNode = convertJsonToDataNode(rootNode,
-                                                 yangSerializerContext);
+            if (compositeStream.resourceData() != null) {
+                try (JsonParser parser = mapper().getFactory()
+                        .createParser(compositeStream.resourceData())) {
+                    if (rIdBuilder != null) {
+                        dataNode = convertJsonToDataNode(parser, rIdBuilder);
+                    } else {
+                        dataNode = convertJsonToDataNode(
+                                parser, yangSerializerContext);
+                    }
+                }
             }
 
             ResourceData resourceData = DefaultResourceData.builder()
@@ -110,6 +110,13 @@ public class JsonSerializer implements YangSerializer {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned resource data stream is filled lazily: the data node
+     * is encoded chunk by chunk as the stream is read, so the encoded
+     * document is never held in memory as a whole.
+     */
     @Override
     public CompositeStream encode(CompositeData compositeData,
                                   YangSerializerContext yangSerializerContext) {
@@ -118,17 +125,59 @@ public class JsonSerializer implements YangSerializer {
         String uriString = convertRidToUri(compositeData.resourceData().
                 resourceId(), yangSerializerContext);
         InputStream inputStream = null;
-        ObjectNode rootNode = null;
-
-        if (compositeData.resourceData().dataNodes() != null) {
-            rootNode = convertDataNodeToJson(compositeData.
-                    resourceData().dataNodes().get(0), yangSerializerContext);
-        }
 
-        if (rootNode != null) {
-            inputStream = IOUtils.toInputStream(rootNode.toString());
+        DataNode dataNode = rootDataNode(compositeData);
+        if (dataNode != null) {
+            try {
+                inputStream = new JsonEncodeInputStream(
+                        dataNode, yangSerializerContext, mapper().getFactory());
+            } catch (IOException e) {
+                log.error("ERROR: encode ", e);
+                throw new SerializerException(ENCODE_ERROR_INFO, e);
+            }
         }
         // return a CompositeStream
         return new DefaultCompositeStream(uriString, inputStream);
     }
+
+    /**
+     * Encodes the resource data of the given composite data as UTF-8 JSON
+     * straight to the given output stream. The output stream is flushed
+     * but not closed. Resource identifier is not written; it can be
+     * obtained from the resource data using
+     * {@link org.onosproject.yang.serializers.utils.SerializersUtil#convertRidToUri}.
+     *
+     * @param compositeData         in-memory representation of
+     *                              configuration data
+     * @param yangSerializerContext YANG serializer context
+     * @param out                   output stream to write the JSON to
+     * @throws SerializerException when fails to perform encode operation
+     */
+    public void encode(CompositeData compositeData,
+                       YangSerializerContext yangSerializerContext,
+                       OutputStream out) {
+        checkNotNull(compositeData, "compositeData cannot be null");
+        checkNotNull(out, "output stream cannot be null");
+
+        DataNode dataNode = rootDataNode(compositeData);
+        if (dataNode == null) {
+            return;
+        }
+        try (JsonGenerator generator = mapper().getFactory()
+                .createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            writeDataNodeToJson(dataNode, yangSerializerContext, generator);
+        } catch (IOException e) {
+            log.error("ERROR: encode ", e);
+            throw new SerializerException(ENCODE_ERROR_INFO, e);
+        }
+    }
+
+    private static DataNode rootDataNode(CompositeData compositeData) {
+        List<DataNode> dataNodes = compositeData.resourceData().dataNodes();
+        if (dataNodes == null || dataNodes.isEmpty()) {
+            return null;
+        }
+        return dataNodes.get(0);
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.runtime.SerializerHelper;
+
+import java.io.IOException;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.getLatterSegment;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.getPreSegment;
+
+/**
+ * Represents implementation of JSON walk, which pulls tokens from a JSON
+ * parser and adds data nodes as the tokens arrive, without building a
+ * JSON object tree first.
+ */
+public class JsonTokenWalker {
+    private static final String COLON = ":";
+    private static final String E_ROOT = "JSON data should be an object.";
+    private static final String E_LIST_ENTRY = "Invalid list entry for %s.";
+
+    private DataNode.Builder dataNodeBuilder;
+
+    /**
+     * Creates an instance of JSON token walker.
+     *
+     * @param db data node builder
+     */
+    public JsonTokenWalker(DataNode.Builder db) {
+        dataNodeBuilder = db;
+    }
+
+    /**
+     * Returns the root data node builder.
+     *
+     * @return data node builder
+     */
+    public DataNode.Builder rootBuilder() {
+        return dataNodeBuilder;
+    }
+
+    /**
+     * Walks the JSON data read from the parser. The fields of the JSON
+     * root object are added as children of the current data node.
+     *
+     * @param parser JSON parser positioned before the root object
+     * @return false if there was no JSON data to walk, true otherwise
+     * @throws IOException when fails to read JSON data
+     */
+    public boolean walk(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        if (token != START_OBJECT) {
+            throw new SerializerException(E_ROOT);
+        }
+        walkObjectFields(parser);
+        return true;
+    }
+
+    private void walkObjectFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            walkField(fieldName, parser.nextToken(), parser);
+        }
+    }
+
+    private void walkField(String fieldName, JsonToken token,
+                           JsonParser parser) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                addDataNode(fieldName, null, SINGLE_INSTANCE_NODE);
+                walkObjectFields(parser);
+                exitDataNode();
+                break;
+            case START_ARRAY:
+                walkArray(fieldName, parser);
+                break;
+            default:
+                addDataNode(fieldName, parser.getText(),
+                            SINGLE_INSTANCE_LEAF_VALUE_NODE);
+                exitDataNode();
+                break;
+        }
+    }
+
+    /*
+     * For an array there are 2 cases, it is either a leaf-list or a
+     * multi-instance node. Schema of the field tells which one it is, so
+     * the elements can be added as they are read.
+     */
+    private void walkArray(String fieldName, JsonParser parser)
+            throws IOException {
+        JsonToken token;
+        if (childType(fieldName) == MULTI_INSTANCE_LEAF_VALUE_NODE) {
+            while ((token = parser.nextToken()) != END_ARRAY) {
+                if (token == VALUE_STRING || token.isNumeric()) {
+                    addDataNode(fieldName, parser.getText(),
+                                MULTI_INSTANCE_LEAF_VALUE_NODE);
+                    dataNodeBuilder = SerializerHelper
+                            .exitDataNode(dataNodeBuilder);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return;
+        }
+
+        while ((token = parser.nextToken()) != END_ARRAY) {
+            if (token != START_OBJECT) {
+                throw new SerializerException(
+                        String.format(E_LIST_ENTRY, fieldName));
+            }
+            addDataNode(fieldName, null, MULTI_INSTANCE_NODE);
+            walkObjectFields(parser);
+            exitDataNode();
+        }
+    }
+
+    private DataNode.Type childType(String fieldName) {
+        String nodeName = getLatterSegment(fieldName, COLON);
+        String namespace = getPreSegment(fieldName, COLON);
+        return SerializerHelper.getChildSchemaContext(
+                dataNodeBuilder, nodeName, namespace).getType();
+    }
+
+    private void addDataNode(String fieldName, String value,
+                             DataNode.Type nodeType) {
+        String nodeName = getLatterSegment(fieldName, COLON);
+        String namespace = getPreSegment(fieldName, COLON);
+        dataNodeBuilder = SerializerHelper.addDataNode(dataNodeBuilder,
+                                                       nodeName, namespace,
+                                                       value, nodeType);
+    }
+
+    private void exitDataNode() {
+        // this is to avoid exit node for top level node
+        if (dataNodeBuilder.parent() != null) {
+            dataNodeBuilder = SerializerHelper.exitDataNode(dataNodeBuilder);
+        }
+    }
+}
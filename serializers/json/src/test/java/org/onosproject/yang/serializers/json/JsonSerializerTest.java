@@ -16,6 +16,7 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.io.IOUtils;
@@ -37,6 +38,7 @@ import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,8 +51,12 @@ import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
 import static org.junit.Assert.assertEquals;
+import static org.onosproject.yang.serializers.json.DecoderUtils.convertJsonToDataNode;
+import static org.onosproject.yang.serializers.json.EncoderUtils.convertDataNodeToJson;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
 
 /**
  * Unit Test for Json Serializer.
@@ -96,6 +102,52 @@ public class JsonSerializerTest {
         }
     }
 
+    /**
+     * Validates that the lazily filled stream and the output stream
+     * encoders produce the same JSON as the tree based encoder.
+     */
+    @Test
+    public void streamingEncodeTest() throws IOException {
+        String path = "src/test/resources/test.json";
+        DefaultCompositeStream external =
+                new DefaultCompositeStream("demo1:device", parseInput(path));
+        CompositeData compositeData = jsonSerializer.decode(external, context);
+        DataNode rootNode = compositeData.resourceData().dataNodes().get(0);
+        ObjectNode expected = convertDataNodeToJson(rootNode, context);
+        assertThat(expected, notNullValue());
+
+        ObjectMapper mapper = new ObjectMapper();
+        CompositeStream lazy = jsonSerializer.encode(compositeData, context);
+        assertThat(mapper.readTree(lazy.resourceData()), is(expected));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((JsonSerializer) jsonSerializer).encode(compositeData, context, out);
+        assertThat(mapper.readTree(out.toByteArray()), is(expected));
+    }
+
+    /**
+     * Validates that the token based decoder builds the same data node as
+     * the JSON object tree based decoder.
+     */
+    @Test
+    public void tokenDecodeTest() throws IOException {
+        String path = "src/test/resources/test.json";
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode jsonTree = (ObjectNode) mapper.readTree(parseInput(path));
+        DataNode expected = convertJsonToDataNode(
+                jsonTree, convertUriToRid("demo1:device", context));
+
+        DataNode actual;
+        try (JsonParser parser = mapper.getFactory()
+                .createParser(parseInput(path))) {
+            actual = convertJsonToDataNode(
+                    parser, convertUriToRid("demo1:device", context));
+        }
+        ObjectNode expectedJson = convertDataNodeToJson(expected, context);
+        assertThat(expectedJson, notNullValue());
+        assertThat(convertDataNodeToJson(actual, context), is(expectedJson));
+    }
+
     @Test
     public void testContainerInResourceIdToUri() {
         ResourceId rid = ResourceId.builder().addBranchPointSchema("/", null)
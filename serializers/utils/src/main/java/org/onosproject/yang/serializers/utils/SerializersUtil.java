@@ -18,32 +18,28 @@ package org.onosproject.yang.serializers.utils;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
-import org.dom4j.Attribute;
-import org.dom4j.DocumentException;
-import org.dom4j.Element;
 import org.onosproject.yang.model.KeyLeaf;
 import org.onosproject.yang.model.LeafListKey;
 import org.onosproject.yang.model.ListKey;
 import org.onosproject.yang.model.NodeKey;
 import org.onosproject.yang.model.ResourceId;
-import org.onosproject.yang.runtime.AnnotatedNodeInfo;
 import org.onosproject.yang.runtime.Annotation;
-import org.onosproject.yang.runtime.DefaultAnnotatedNodeInfo;
 import org.onosproject.yang.runtime.DefaultAnnotation;
 import org.onosproject.yang.runtime.SerializerHelper;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
-import java.io.BufferedReader;
-import java.io.IOException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.trimAtLast;
 import static org.onosproject.yang.runtime.SerializerHelper.getModuleNameFromNameSpace;
 
@@ -63,68 +59,65 @@ public final class SerializersUtil {
     private static final String COMMA = ",";
     private static final String COLON = ":";
     private static final String SLASH = "/";
+    private static final String SPACE = " ";
 
     // no instantiation
     private SerializersUtil() {
     }
 
     /**
-     * Converts XML atrtibutes into annotated node info.
+     * Converts the attributes of the XML element at the current position
+     * of the stream reader into annotations.
      *
-     * @param element XML element
-     * @param id      resource id of an element
-     * @return annotated node info
+     * @param reader XML stream reader positioned at a start element
+     * @return list of annotations, empty if element has no attributes
      */
-    public static AnnotatedNodeInfo convertXmlAttributesToAnnotations(Element element,
-                                                                      ResourceId id) {
-        Iterator iter = element.attributeIterator();
-        if (!iter.hasNext()) {
+    public static List<Annotation> convertXmlAttributesToAnnotations(
+            XMLStreamReader reader) {
+        int count = reader.getAttributeCount();
+        if (count == 0) {
             // element does not have any attributes
-            return null;
+            return Collections.emptyList();
         }
-        AnnotatedNodeInfo.Builder builder = DefaultAnnotatedNodeInfo.builder();
-        builder = builder.resourceId(id);
-        while (iter.hasNext()) {
-            Attribute attr = (Attribute) iter.next();
-            DefaultAnnotation annotation = new DefaultAnnotation(
-                    attr.getQualifiedName(), attr.getValue());
-            builder = builder.addAnnotation(annotation);
+        List<Annotation> annotations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name = reader.getAttributeLocalName(i);
+            if (prefix != null && !prefix.isEmpty()) {
+                name = prefix + COLON + name;
+            }
+            annotations.add(new DefaultAnnotation(
+                    name, reader.getAttributeValue(i)));
         }
-        return builder.build();
+        return annotations;
     }
 
-
     /**
-     * Appends the XML data with root element.
+     * Encloses the XML data within a root element. The XML data is not
+     * read; the returned stream reads the root element tags around the
+     * given input stream.
      *
      * @param inputStream        XML data
-     * @param protocolAnnotation list of annoations for root element
-     * @return XML with root element
-     * @throws DocumentException if root element cannot be created
-     * @throws IOException       if input data cannot be read
+     * @param protocolAnnotation list of annotations for root element
+     * @return XML data stream with root element
      */
-    public static String addRootElementWithAnnotation(InputStream inputStream,
-                                                      List<Annotation>
-                                                              protocolAnnotation)
-            throws DocumentException, IOException {
-        BufferedReader br;
-        StringBuilder sb = new StringBuilder();
-        String xmlData;
-        // Parse composite stream resourceData
-        br = new BufferedReader(new InputStreamReader(inputStream));
-        while ((xmlData = br.readLine()) != null) {
-            sb.append(xmlData);
-        }
-
+    public static InputStream addRootElementWithAnnotationStream(
+            InputStream inputStream, List<Annotation> protocolAnnotation) {
         StringBuilder rootElement = new StringBuilder(ROOT_ELEMENT_START);
         if (protocolAnnotation != null) {
             for (Annotation annotation : protocolAnnotation) {
                 rootElement.append(annotation.name()).append(EQUAL)
-                        .append(QUOTES).append(annotation.value()).append(QUOTES);
+                        .append(QUOTES).append(annotation.value())
+                        .append(QUOTES).append(SPACE);
             }
         }
-        rootElement.append(">").append(sb.toString()).append(ROOT_ELEMENT_END);
-        return rootElement.toString();
+        rootElement.append(">");
+        InputStream start = new ByteArrayInputStream(
+                rootElement.toString().getBytes(UTF_8));
+        InputStream end = new ByteArrayInputStream(
+                ROOT_ELEMENT_END.getBytes(UTF_8));
+        return new SequenceInputStream(
+                new SequenceInputStream(start, inputStream), end);
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.LeafListKey;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.ListKey;
+import org.onosproject.yang.model.NodeKey;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.runtime.AnnotatedNodeInfo;
+import org.onosproject.yang.runtime.Annotation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a trie of annotations, where each level of the trie is keyed
+ * by the node key of the resource id at that depth. The trie is descended
+ * in step with the data node walk, so the annotations of a data node are
+ * found without building its resource id.
+ */
+final class AnnotationTrie {
+
+    /**
+     * Child tries with node key as key, created on first insertion.
+     */
+    private Map<NodeKey, AnnotationTrie> children;
+
+    /**
+     * Annotations of the resource id ending at this trie node.
+     */
+    private List<Annotation> annotations;
+
+    /**
+     * Creates an empty annotation trie.
+     */
+    private AnnotationTrie() {
+    }
+
+    /**
+     * Returns the annotation trie built from the annotated node information,
+     * or null if there are no annotations.
+     *
+     * @param infos list of annotated node information
+     * @return annotation trie, or null if there is no annotation
+     */
+    static AnnotationTrie of(List<AnnotatedNodeInfo> infos) {
+        if (infos == null || infos.isEmpty()) {
+            return null;
+        }
+        AnnotationTrie root = new AnnotationTrie();
+        for (AnnotatedNodeInfo info : infos) {
+            root.put(info.resourceId(), info.annotations());
+        }
+        return root;
+    }
+
+    /**
+     * Adds the annotations of the resource id to the trie, replacing the
+     * annotations already added for the same resource id.
+     *
+     * @param id          resource id
+     * @param annotations list of annotations
+     */
+    private void put(ResourceId id, List<Annotation> annotations) {
+        AnnotationTrie trie = this;
+        for (NodeKey key : id.nodeKeys()) {
+            if (trie.children == null) {
+                trie.children = new HashMap<>();
+            }
+            trie = trie.children.computeIfAbsent(
+                    key, k -> new AnnotationTrie());
+        }
+        trie.annotations = annotations;
+    }
+
+    /**
+     * Returns the trie node reached by following the node keys of the
+     * resource id, or null if no annotation lies under the resource id.
+     *
+     * @param id resource id
+     * @return trie node for the resource id
+     */
+    AnnotationTrie descend(ResourceId id) {
+        AnnotationTrie trie = this;
+        for (NodeKey key : id.nodeKeys()) {
+            if (trie.children == null) {
+                return null;
+            }
+            trie = trie.children.get(key);
+            if (trie == null) {
+                return null;
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * Returns the child trie node of the data node, or null if no
+     * annotation lies under the data node.
+     *
+     * @param node data node
+     * @return child trie node for the data node
+     */
+    AnnotationTrie child(DataNode node) {
+        if (children == null) {
+            return null;
+        }
+        return children.get(resourceKey(node));
+    }
+
+    /**
+     * Returns the annotations of the resource id ending at this trie node.
+     *
+     * @return list of annotations, or null if there is none
+     */
+    List<Annotation> annotations() {
+        return annotations;
+    }
+
+    /**
+     * Returns the node key with which the data node appears in a resource
+     * id. List entries without key leaves and leaf-list entries are keyed
+     * the way the resource id builder keys them, which need not match the
+     * key of the data node.
+     *
+     * @param node data node
+     * @return node key of the data node in a resource id
+     */
+    private static NodeKey resourceKey(DataNode node) {
+        NodeKey key = node.key();
+        SchemaId schemaId = key.schemaId();
+        switch (node.type()) {
+            case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                return new LeafListKey.LeafListKeyBuilder()
+                        .schemaId(schemaId)
+                        .value(((LeafNode) node).value()).build();
+            case MULTI_INSTANCE_NODE:
+                if (key instanceof ListKey &&
+                        !((ListKey) key).keyLeafs().isEmpty()) {
+                    return key;
+                }
+                return NodeKey.builder().schemaId(schemaId).build();
+            case SINGLE_INSTANCE_LEAF_VALUE_NODE:
+            case SINGLE_INSTANCE_NODE:
+                if (key.getClass() == NodeKey.class) {
+                    return key;
+                }
+                return NodeKey.builder().schemaId(schemaId).build();
+            default:
+                throw new XmlSerializerException("Unsupported type" +
+                                                         node.type());
+        }
+    }
+}
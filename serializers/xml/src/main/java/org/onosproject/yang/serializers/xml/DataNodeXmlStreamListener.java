@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.DataNodeListener;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.util.Stack;
+
+/**
+ * Represents implementation of data node listener which writes the XML
+ * elements to an XML stream writer while the data node is walked.
+ * <p>
+ * Namespace of an element is declared only when it differs from the
+ * namespace of its parent element, so each module namespace is declared
+ * once per subtree.
+ */
+class DataNodeXmlStreamListener implements DataNodeListener {
+
+    private static final String FORWARD_SLASH = "/";
+    private static final String EMPTY_STRING = "";
+
+    /**
+     * XML stream writer to which elements are written.
+     */
+    private final XMLStreamWriter writer;
+
+    /**
+     * Stack of namespaces in scope, used to avoid declaring the namespace
+     * of an element when it is same as the namespace of its parent.
+     */
+    private final Stack<String> namespaceStack = new Stack<>();
+
+    /**
+     * Stack of flags telling whether the elements being written are empty
+     * elements, which are not closed with an end tag.
+     */
+    private final Stack<Boolean> emptyElementStack = new Stack<>();
+
+    /**
+     * Stack of annotation trie nodes of the elements being written. A
+     * null entry means no annotation lies under the element.
+     */
+    private final Stack<AnnotationTrie> annotationStack = new Stack<>();
+
+    /**
+     * Creates a new data node XML stream listener.
+     *
+     * @param writer      XML stream writer
+     * @param annotations annotation trie node of the walk root, or null if
+     *                    there is no annotation
+     */
+    DataNodeXmlStreamListener(XMLStreamWriter writer,
+                              AnnotationTrie annotations) {
+        this.writer = writer;
+        annotationStack.push(annotations);
+    }
+
+    @Override
+    public void enterDataNode(DataNode node) {
+        if (isRootDataNode(node)) {
+            return;
+        }
+
+        SchemaId schemaId = node.key().schemaId();
+        String nameSpace = schemaId.namespace();
+        String parentNameSpace = namespaceStack.isEmpty() ?
+                EMPTY_STRING : namespaceStack.peek();
+        boolean emptyElement = isEmptyElement(node);
+        try {
+            if (emptyElement) {
+                writer.writeEmptyElement(schemaId.name());
+            } else {
+                writer.writeStartElement(schemaId.name());
+            }
+            emptyElementStack.push(emptyElement);
+
+            if (nameSpace != null && !nameSpace.equals(parentNameSpace)) {
+                writer.writeDefaultNamespace(nameSpace);
+                namespaceStack.push(nameSpace);
+            } else {
+                namespaceStack.push(parentNameSpace);
+            }
+
+            // descend the annotation trie in step with the walk
+            AnnotationTrie parentTrie = annotationStack.peek();
+            AnnotationTrie trie = parentTrie == null ?
+                    null : parentTrie.child(node);
+            annotationStack.push(trie);
+
+            /*
+             * If there is annotations for the data node then add them
+             * as attributes
+             */
+            if (trie != null && trie.annotations() != null) {
+                for (Annotation annotation : trie.annotations()) {
+                    writer.writeAttribute(annotation.name(),
+                                          annotation.value());
+                }
+            }
+
+            if (node instanceof LeafNode) {
+                Object value = ((LeafNode) node).value();
+                if (value != null) {
+                    writer.writeCharacters(value.toString());
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void exitDataNode(DataNode node) {
+        if (isRootDataNode(node)) {
+            return;
+        }
+
+        namespaceStack.pop();
+        annotationStack.pop();
+        try {
+            if (!emptyElementStack.pop()) {
+                writer.writeEndElement();
+            }
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the data node is written as an empty element. First
+     * level elements are always written with an end tag.
+     *
+     * @param node data node
+     * @return true if data node is written as an empty element
+     */
+    private boolean isEmptyElement(DataNode node) {
+        if (namespaceStack.isEmpty()) {
+            return false;
+        }
+        if (node instanceof LeafNode) {
+            return ((LeafNode) node).value() == null;
+        }
+        return ((InnerNode) node).childNodes().isEmpty();
+    }
+
+    /**
+     * Returns true if it is root data node.
+     *
+     * @param node data node
+     * @return true if it is root data node, false otherwise
+     */
+    private static boolean isRootDataNode(DataNode node) {
+        return node.key().schemaId().name().equals(FORWARD_SLASH);
+    }
+}
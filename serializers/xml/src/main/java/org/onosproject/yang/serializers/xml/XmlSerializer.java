@@ -16,17 +16,10 @@
 
 package org.onosproject.yang.serializers.xml;
 
-import org.apache.commons.io.IOUtils;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.ResourceData;
 import org.onosproject.yang.model.ResourceId;
-import org.onosproject.yang.runtime.AnnotatedNodeInfo;
-import org.onosproject.yang.runtime.Annotation;
 import org.onosproject.yang.runtime.CompositeData;
 import org.onosproject.yang.runtime.CompositeStream;
 import org.onosproject.yang.runtime.DefaultCompositeData;
@@ -34,16 +27,19 @@ import org.onosproject.yang.runtime.DefaultCompositeStream;
 import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
-import java.io.IOException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.onosproject.yang.runtime.DefaultDataNodeWalker.walk;
 import static org.onosproject.yang.runtime.SerializerHelper.initializeDataNode;
-import static org.onosproject.yang.serializers.utils.SerializersUtil.addRootElementWithAnnotation;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.addRootElementWithAnnotationStream;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
 
@@ -52,6 +48,8 @@ import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriT
  */
 public class XmlSerializer implements YangSerializer {
     private static final String XML = "xml";
+    private static final XMLOutputFactory OUTPUT_FACTORY =
+            XMLOutputFactory.newInstance();
 
     @Override
     public String supportsFormat() {
@@ -62,100 +60,107 @@ public class XmlSerializer implements YangSerializer {
     public CompositeData decode(CompositeStream external,
                                 YangSerializerContext context) {
 
-        try {
-            //parse XML input
-            String xmlInput = addRootElementWithAnnotation(
-                    external.resourceData(), context.getProtocolAnnotations());
-            Document document = DocumentHelper.parseText(xmlInput);
-
-            // initialize all the required builders
-            CompositeData.Builder cBuilder = DefaultCompositeData.builder();
-            ResourceData.Builder rdBuilder = DefaultResourceData.builder();
-            XmlWalker walker = new DefaultXmlWalker();
-            XmlSerializerListener listener = new XmlSerializerListener();
-            listener.cBuilder(cBuilder);
-
-            String uri = external.resourceId();
-            if (uri == null) {
-                listener.dnBuilder(initializeDataNode(context));
-                walker.walk(listener, document.getRootElement(),
-                            document.getRootElement());
-                rdBuilder = rdBuilder.addDataNode(listener.dnBuilder().build());
-            } else {
-                /*
-                 * If URI is not null, then each first level elements is
-                 * converted to data node and added to list of data nodes in
-                 * resource data
-                 */
-                ResourceId.Builder rIdBuilder = convertUriToRid(uri, context);
-                Element rootElement = document.getRootElement();
-                if (rootElement.hasContent() && !rootElement.isTextOnly()) {
-                    Iterator i = rootElement.elementIterator();
-                    while (i.hasNext()) {
-                        Element childElement = (Element) i.next();
-                        listener.dnBuilder(initializeDataNode(rIdBuilder));
-                        walker.walk(listener, childElement, rootElement);
-                        rdBuilder = rdBuilder.addDataNode(listener.dnBuilder()
-                                                                  .build());
-                    }
-                }
-                rdBuilder.resourceId(rIdBuilder.build());
-            }
-            return cBuilder.resourceData(rdBuilder.build()).build();
-        } catch (DocumentException e) {
-            throw new XmlSerializerException(e.getMessage());
-        } catch (IOException e) {
-            throw new XmlSerializerException(e.getMessage());
+        // initialize all the required builders
+        CompositeData.Builder cBuilder = DefaultCompositeData.builder();
+        ResourceData.Builder rdBuilder = DefaultResourceData.builder();
+
+        /*
+         * If URI is not null, then each first level elements is converted
+         * to data node and added to list of data nodes in resource data by
+         * the listener.
+         */
+        ResourceId.Builder rIdBuilder = null;
+        String uri = external.resourceId();
+        if (uri != null) {
+            rIdBuilder = convertUriToRid(uri, context);
+        }
+        XmlStreamSerializerListener listener =
+                new XmlStreamSerializerListener(cBuilder, rdBuilder, rIdBuilder);
+        if (rIdBuilder == null) {
+            listener.dnBuilder(initializeDataNode(context));
         }
+
+        //parse XML input, enclosed in a root element
+        InputStream xmlInput = addRootElementWithAnnotationStream(
+                external.resourceData(), context.getProtocolAnnotations());
+        new XmlStreamWalker().walk(listener, xmlInput);
+
+        if (rIdBuilder == null) {
+            rdBuilder.addDataNode(listener.dnBuilder().build());
+        } else {
+            rdBuilder.resourceId(rIdBuilder.build());
+        }
+        return cBuilder.resourceData(rdBuilder.build()).build();
     }
 
     @Override
     public CompositeStream encode(CompositeData internal,
                                   YangSerializerContext context) {
         String uriString = null;
-        ResourceId.Builder builder;
-
         ResourceId resourceId = internal.resourceData().resourceId();
         if (resourceId != null && resourceId.nodeKeys() != null &&
                 !resourceId.nodeKeys().isEmpty()) {
             uriString = convertRidToUri(resourceId, context);
-            try {
-                builder = resourceId.copyBuilder();
-            } catch (CloneNotSupportedException e) {
-                throw new XmlSerializerException(e.getMessage());
-            }
-        } else {
-            /*
-             * If resource id is null, initialise resource id with context
-             * and get the resource id builder. Resource id is built for each
-             * data node and checked in annotation map for annotations
-             * associated with resource id.
-             */
-            builder = ResourceId.builder();
         }
 
-        // Store annotations in map with resource id as key
-        Map<ResourceId, List<Annotation>> annotations = new HashMap<>();
-        List<AnnotatedNodeInfo> annotationList = internal.annotatedNodesInfo();
-        if (annotationList != null) {
-            for (AnnotatedNodeInfo annotationInfo : annotationList) {
-                annotations.put(annotationInfo.resourceId(),
-                                annotationInfo.annotations());
-            }
+        // write XML to buffer and build composite stream over it
+        XmlBuffer buffer = new XmlBuffer();
+        encode(internal, context, buffer);
+        return new DefaultCompositeStream(uriString, buffer.toInputStream());
+    }
+
+    /**
+     * Encodes the resource data of the given composite data as UTF-8 XML
+     * straight to the given output stream. The output stream is flushed
+     * but not closed. Resource identifier is not written; it can be
+     * obtained from the resource data using
+     * {@link org.onosproject.yang.serializers.utils.SerializersUtil#convertRidToUri}.
+     *
+     * @param internal in-memory representation of configuration data
+     * @param context  YANG serializer context
+     * @param out      output stream to write the XML to
+     * @throws XmlSerializerException when fails to perform encode operation
+     */
+    public void encode(CompositeData internal, YangSerializerContext context,
+                       OutputStream out) {
+        /*
+         * Index annotations in a trie keyed by node key, and position it
+         * at the resource id of the data nodes, if any. The trie is then
+         * descended in step with the data node walk.
+         */
+        AnnotationTrie annotations = AnnotationTrie.of(
+                internal.annotatedNodesInfo());
+        ResourceId resourceId = internal.resourceData().resourceId();
+        if (annotations != null && resourceId != null &&
+                resourceId.nodeKeys() != null) {
+            annotations = annotations.descend(resourceId);
         }
 
-        // Walk through data node and build the XML
+        // Walk through data node and write the XML
         List<DataNode> dataNodes = internal.resourceData().dataNodes();
-        StringBuilder sb = new StringBuilder();
-        for (DataNode dataNode : dataNodes) {
-            DataNodeXmlListener listener = new DataNodeXmlListener(annotations,
-                                                                   builder);
-            walk(listener, dataNode);
-            sb.append(listener.xmlData());
+        try {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(
+                    out, UTF_8.name());
+            for (DataNode dataNode : dataNodes) {
+                DataNodeXmlStreamListener listener =
+                        new DataNodeXmlStreamListener(writer, annotations);
+                walk(listener, dataNode);
+            }
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
         }
+    }
 
-        // convert XML to input stream and build composite stream
-        InputStream inputStream = IOUtils.toInputStream(sb.toString());
-        return new DefaultCompositeStream(uriString, inputStream);
+    /**
+     * Byte array output stream which is read through an input stream
+     * without copying the written bytes.
+     */
+    private static final class XmlBuffer extends ByteArrayOutputStream {
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
     }
 }
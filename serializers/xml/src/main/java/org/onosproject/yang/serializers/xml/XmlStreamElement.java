@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.runtime.Annotation;
+
+import java.util.List;
+
+/**
+ * Represents an XML element read from an XML stream. Only the information
+ * needed to add the element to the data node is retained; child elements
+ * are not.
+ */
+final class XmlStreamElement {
+
+    private final String name;
+    private final String namespace;
+    private final List<Annotation> attributes;
+    private final int depth;
+    private StringBuilder text;
+    private XmlNodeType nodeType;
+
+    /**
+     * Creates an instance of XML stream element.
+     *
+     * @param name       local name of the element
+     * @param namespace  namespace URI of the element
+     * @param attributes attributes of the element
+     * @param depth      depth of the element, zero for the root element
+     */
+    XmlStreamElement(String name, String namespace,
+                     List<Annotation> attributes, int depth) {
+        this.name = name;
+        this.namespace = namespace;
+        this.attributes = attributes;
+        this.depth = depth;
+    }
+
+    /**
+     * Returns local name of the element.
+     *
+     * @return element name
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Returns namespace URI of the element.
+     *
+     * @return namespace URI
+     */
+    String namespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns attributes of the element.
+     *
+     * @return attributes as annotations
+     */
+    List<Annotation> attributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns depth of the element, zero for the root element.
+     *
+     * @return depth of the element
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns text of the element.
+     *
+     * @return text of the element, null if it has no text
+     */
+    String text() {
+        return text == null ? null : text.toString();
+    }
+
+    /**
+     * Appends text content to the element. Line terminators are not part
+     * of the element text.
+     *
+     * @param chars  characters array
+     * @param start  start offset of text
+     * @param length length of text
+     */
+    void appendText(char[] chars, int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            char c = chars[i];
+            if (c == '\n' || c == '\r') {
+                continue;
+            }
+            if (text == null) {
+                text = new StringBuilder();
+            }
+            text.append(c);
+        }
+    }
+
+    /**
+     * Returns XML node type of the element.
+     *
+     * @return XML node type
+     */
+    XmlNodeType nodeType() {
+        return nodeType;
+    }
+
+    /**
+     * Sets XML node type of the element.
+     *
+     * @param nodeType XML node type
+     */
+    void nodeType(XmlNodeType nodeType) {
+        this.nodeType = nodeType;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.serializers.xml;
+
+/**
+ * Abstraction of an entity which provide call back methods which are called
+ * by XML stream walker while reading the XML data. This interface needs to be
+ * implemented by protocol implementing listener's based call backs while
+ * XML stream walk.
+ */
+interface XmlStreamListener {
+
+    /**
+     * Callback invoked during a node entry. The child elements of the node
+     * have not been read yet.
+     *
+     * @param element  current xml node(element)
+     * @param nodeType xml node type
+     */
+    void enterXmlElement(XmlStreamElement element, XmlNodeType nodeType);
+
+    /**
+     * Callback invoked during a node exit.
+     *
+     * @param element  current xml node(element)
+     * @param nodeType xml node type
+     */
+    void exitXmlElement(XmlStreamElement element, XmlNodeType nodeType);
+}
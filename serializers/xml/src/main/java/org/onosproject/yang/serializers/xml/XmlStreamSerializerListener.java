@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.ResourceData;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.AnnotatedNodeInfo;
+import org.onosproject.yang.runtime.CompositeData;
+import org.onosproject.yang.runtime.DefaultAnnotatedNodeInfo;
+import org.onosproject.yang.runtime.HelperContext;
+
+import static org.onosproject.yang.runtime.SerializerHelper.addDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.exitDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.getResourceId;
+import static org.onosproject.yang.runtime.SerializerHelper.initializeDataNode;
+import static org.onosproject.yang.serializers.xml.XmlNodeType.OBJECT_NODE;
+import static org.onosproject.yang.serializers.xml.XmlNodeType.TEXT_NODE;
+
+/**
+ * Implementation of XML stream listener which adds the elements to the data
+ * node as they are read.
+ */
+class XmlStreamSerializerListener implements XmlStreamListener {
+
+    // Depth of the root element enclosing the XML data
+    private static final int ROOT_DEPTH = 0;
+
+    // Depth of the first level elements of the XML data
+    private static final int FIRST_LEVEL_DEPTH = 1;
+
+    /**
+     * Data node builder.
+     */
+    private DataNode.Builder dnBuilder;
+
+    /**
+     * Composite data builder.
+     */
+    private final CompositeData.Builder cBuilder;
+
+    /**
+     * Resource data builder.
+     */
+    private final ResourceData.Builder rdBuilder;
+
+    /**
+     * Resource identifier builder of the URI, null if XML data has no URI.
+     */
+    private final ResourceId.Builder rIdBuilder;
+
+    /**
+     * Creates an instance of XML stream serializer listener.
+     *
+     * @param cBuilder   composite data builder
+     * @param rdBuilder  resource data builder
+     * @param rIdBuilder resource identifier builder of the URI, in case
+     *                   XML data has a URI, null otherwise
+     */
+    XmlStreamSerializerListener(CompositeData.Builder cBuilder,
+                                ResourceData.Builder rdBuilder,
+                                ResourceId.Builder rIdBuilder) {
+        this.cBuilder = cBuilder;
+        this.rdBuilder = rdBuilder;
+        this.rIdBuilder = rIdBuilder;
+    }
+
+    /**
+     * Sets the data node builder.
+     *
+     * @param builder data node builder
+     */
+    void dnBuilder(DataNode.Builder builder) {
+        dnBuilder = builder;
+    }
+
+    /**
+     * Returns data node builder.
+     *
+     * @return data node builder
+     */
+    DataNode.Builder dnBuilder() {
+        return dnBuilder;
+    }
+
+    @Override
+    public void enterXmlElement(XmlStreamElement element,
+                                XmlNodeType nodeType) {
+        // root element should not be added to data node
+        if (element.depth() == ROOT_DEPTH) {
+            return;
+        }
+
+        /*
+         * If URI is not null, then each first level element is
+         * converted to data node and added to list of data nodes in
+         * resource data
+         */
+        if (rIdBuilder != null && element.depth() == FIRST_LEVEL_DEPTH) {
+            dnBuilder = initializeDataNode(rIdBuilder);
+        }
+
+        if (nodeType == OBJECT_NODE) {
+            if (dnBuilder != null) {
+                dnBuilder = addDataNode(dnBuilder, element.name(),
+                                        element.namespace(), null, null);
+            }
+        } else if (nodeType == TEXT_NODE) {
+            if (dnBuilder != null) {
+                dnBuilder = addDataNode(dnBuilder, element.name(),
+                                        element.namespace(),
+                                        element.text(), null);
+            }
+        }
+    }
+
+    @Override
+    public void exitXmlElement(XmlStreamElement element,
+                               XmlNodeType nodeType) {
+        // Ignore the root element as it is not added to data node
+        if (element.depth() == ROOT_DEPTH) {
+            return;
+        }
+
+        // Build resource Id for annotations
+        if (!element.attributes().isEmpty()) {
+            ResourceId id = getResourceId(dnBuilder);
+            AnnotatedNodeInfo.Builder builder = DefaultAnnotatedNodeInfo
+                    .builder().resourceId(id);
+            for (Annotation annotation : element.attributes()) {
+                builder = builder.addAnnotation(annotation);
+            }
+            cBuilder.addAnnotatedNodeInfo(builder.build());
+        }
+
+        /*
+         * Since we need to build data node from top node, we should not
+         * traverse back to parent for top node.
+         */
+        HelperContext info = (HelperContext) dnBuilder.appInfo();
+        if (info.getParentResourceIdBldr() == null) {
+            dnBuilder = exitDataNode(dnBuilder);
+        }
+
+        if (rIdBuilder != null && element.depth() == FIRST_LEVEL_DEPTH) {
+            rdBuilder.addDataNode(dnBuilder.build());
+        }
+    }
+}
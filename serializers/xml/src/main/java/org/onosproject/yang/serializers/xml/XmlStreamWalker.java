@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.serializers.xml;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.convertXmlAttributesToAnnotations;
+import static org.onosproject.yang.serializers.xml.XmlNodeType.OBJECT_NODE;
+import static org.onosproject.yang.serializers.xml.XmlNodeType.TEXT_NODE;
+
+/**
+ * Represents implementation of XML walker which walks the XML data while
+ * it is read from a stream, without building an XML document.
+ * <p>
+ * Type of an element is known only after its first child element or its
+ * end is read, so entry of an element is reported at that point. Only the
+ * elements on the path from the root element to the current element are
+ * held in memory.
+ */
+class XmlStreamWalker {
+
+    private static final XMLInputFactory FACTORY = createInputFactory();
+
+    /**
+     * Walks the XML data read from the input stream.
+     *
+     * @param listener    XML stream listener implemented by the protocol
+     * @param inputStream XML data with a single root element
+     */
+    void walk(XmlStreamListener listener, InputStream inputStream) {
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(inputStream);
+            walk(listener, reader);
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        } finally {
+            close(reader);
+        }
+    }
+
+    private void walk(XmlStreamListener listener, XMLStreamReader reader)
+            throws XMLStreamException {
+        Deque<XmlStreamElement> elementStack = new ArrayDeque<>();
+        // Element whose type is not known yet
+        XmlStreamElement pending = null;
+        XmlStreamElement element;
+
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case START_ELEMENT:
+                    if (pending != null) {
+                        enter(listener, pending, OBJECT_NODE);
+                    }
+                    String namespace = reader.getNamespaceURI();
+                    pending = new XmlStreamElement(
+                            reader.getLocalName(),
+                            namespace == null ? "" : namespace,
+                            convertXmlAttributesToAnnotations(reader),
+                            elementStack.size());
+                    elementStack.push(pending);
+                    break;
+
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    if (pending != null) {
+                        pending.appendText(reader.getTextCharacters(),
+                                           reader.getTextStart(),
+                                           reader.getTextLength());
+                    }
+                    break;
+
+                case END_ELEMENT:
+                    element = elementStack.pop();
+                    if (element == pending) {
+                        enter(listener, element, element.text() != null ?
+                                TEXT_NODE : OBJECT_NODE);
+                    }
+                    pending = null;
+                    exit(listener, element);
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void enter(XmlStreamListener listener, XmlStreamElement element,
+                       XmlNodeType nodeType) {
+        element.nodeType(nodeType);
+        try {
+            listener.enterXmlElement(element, nodeType);
+        } catch (XmlSerializerException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+    }
+
+    private void exit(XmlStreamListener listener, XmlStreamElement element) {
+        try {
+            listener.exitXmlElement(element, element.nodeType());
+        } catch (XmlSerializerException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nothing to release; the data has been read already.
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+                XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.xml;
+
+import org.junit.Test;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.runtime.AnnotatedNodeInfo;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.DefaultAnnotatedNodeInfo;
+import org.onosproject.yang.runtime.DefaultAnnotation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+
+/**
+ * Unit tests for annotation trie.
+ */
+public class AnnotationTrieTest {
+
+    private static final String NS = "urn:test";
+    private static final Annotation ENTRY = new DefaultAnnotation(
+            "xc:operation", "replace");
+    private static final Annotation LEAF_LIST = new DefaultAnnotation(
+            "xc:operation", "delete");
+    private static final Annotation KEYLESS = new DefaultAnnotation(
+            "xc:operation", "merge");
+
+    private static AnnotatedNodeInfo info(ResourceId id, Annotation annotation) {
+        return DefaultAnnotatedNodeInfo.builder().resourceId(id)
+                .addAnnotation(annotation).build();
+    }
+
+    private static AnnotationTrie trie() {
+        List<AnnotatedNodeInfo> infos = new ArrayList<>();
+        infos.add(info(ResourceId.builder()
+                               .addBranchPointSchema("top", NS)
+                               .addBranchPointSchema("entry", NS)
+                               .addKeyLeaf("name", NS, "e1").build(), ENTRY));
+        infos.add(info(ResourceId.builder()
+                               .addBranchPointSchema("top", NS)
+                               .addLeafListBranchPoint("ll", NS, "v1").build(),
+                       LEAF_LIST));
+        infos.add(info(ResourceId.builder()
+                               .addBranchPointSchema("top", NS)
+                               .addBranchPointSchema("keyless", NS).build(),
+                       KEYLESS));
+        return AnnotationTrie.of(infos);
+    }
+
+    private static AnnotationTrie top(AnnotationTrie trie) {
+        return trie.child(InnerNode.builder("top", NS)
+                                  .type(SINGLE_INSTANCE_NODE).build());
+    }
+
+    /**
+     * Checks the annotations of a list entry are found by its key leaves.
+     */
+    @Test
+    public void testListEntry() {
+        AnnotationTrie top = top(trie());
+        DataNode e1 = InnerNode.builder("entry", NS).type(MULTI_INSTANCE_NODE)
+                .addKeyLeaf("name", NS, "e1").build();
+        DataNode e2 = InnerNode.builder("entry", NS).type(MULTI_INSTANCE_NODE)
+                .addKeyLeaf("name", NS, "e2").build();
+
+        assertThat(top.child(e1).annotations(), contains(ENTRY));
+        assertThat(top.child(e2), nullValue());
+    }
+
+    /**
+     * Checks the annotations of a leaf-list entry are found by its value,
+     * whether or not the data node is keyed by the value.
+     */
+    @Test
+    public void testLeafListEntry() {
+        AnnotationTrie top = top(trie());
+        DataNode keyed = LeafNode.builder("ll", NS).value("v1")
+                .type(MULTI_INSTANCE_LEAF_VALUE_NODE)
+                .addLeafListValue("v1").build();
+        DataNode unkeyed = LeafNode.builder("ll", NS).value("v1")
+                .type(MULTI_INSTANCE_LEAF_VALUE_NODE).build();
+        DataNode other = LeafNode.builder("ll", NS).value("v2")
+                .type(MULTI_INSTANCE_LEAF_VALUE_NODE)
+                .addLeafListValue("v2").build();
+
+        assertThat(top.child(keyed).annotations(), contains(LEAF_LIST));
+        assertThat(top.child(unkeyed).annotations(), contains(LEAF_LIST));
+        assertThat(top.child(other), nullValue());
+    }
+
+    /**
+     * Checks the annotations of a list entry without key leaves are found
+     * by its schema identifier.
+     */
+    @Test
+    public void testKeylessListEntry() {
+        AnnotationTrie top = top(trie());
+        DataNode keyless = InnerNode.builder("keyless", NS)
+                .type(MULTI_INSTANCE_NODE).build();
+
+        assertThat(top.child(keyless).annotations(), contains(KEYLESS));
+        assertThat(top.annotations(), nullValue());
+    }
+
+    /**
+     * Checks the trie is descended along a resource id.
+     */
+    @Test
+    public void testDescend() {
+        AnnotationTrie trie = trie();
+        ResourceId entry = ResourceId.builder()
+                .addBranchPointSchema("top", NS)
+                .addBranchPointSchema("entry", NS)
+                .addKeyLeaf("name", NS, "e1").build();
+        ResourceId other = ResourceId.builder()
+                .addBranchPointSchema("other", NS).build();
+
+        assertThat(trie.descend(entry).annotations(), contains(ENTRY));
+        assertThat(trie.descend(other), nullValue());
+        assertThat(AnnotationTrie.of(new ArrayList<>()), is(nullValue()));
+    }
+}
@@ -20,6 +20,7 @@ import org.apache.commons.io.IOUtils;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.InnerNode;
 import org.onosproject.yang.model.KeyLeaf;
 import org.onosproject.yang.model.LeafListKey;
@@ -40,6 +41,8 @@ import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -48,8 +51,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
 
 /**
  *
@@ -282,6 +288,58 @@ public class XmlSerializerTest {
         assertThat(convertInputStreamToString(inputStream), is(parseXml(path)));
     }
 
+    /**
+     * Validates encoding straight to an output stream writes the same XML
+     * as encoding to a composite stream.
+     */
+    @Test
+    public void testEncodeToOutputStream() {
+        String path = "src/test/resources/testXmlAttributes.xml";
+
+        DefaultCompositeStream external =
+                new DefaultCompositeStream(null, parseInput(path));
+        CompositeData compositeData = getNewCompositeData(
+                xmlSerializer.decode(external, context));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((XmlSerializer) xmlSerializer).encode(compositeData, context, out);
+        String xml = new String(out.toByteArray(), UTF_8);
+        assertThat(xml, is(convertInputStreamToString(
+                xmlSerializer.encode(compositeData, context).resourceData())));
+        assertThat(convertInputStreamToString(
+                new ByteArrayInputStream(out.toByteArray())), is(parseXml(path)));
+    }
+
+    /**
+     * Validates namespace is declared only on elements whose namespace
+     * differs from the namespace of the parent element.
+     */
+    @Test
+    public void testEncodeNamespaceDeclaration() {
+        DataNode top = InnerNode.builder("top", "urn:a")
+                .type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("inner", "urn:a")
+                .type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("aug", "urn:b")
+                .type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("leaf", "urn:b", "v")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .exitNode()
+                .exitNode()
+                .exitNode()
+                .build();
+        CompositeData compositeData = DefaultCompositeData.builder()
+                .resourceData(DefaultResourceData.builder()
+                                      .addDataNode(top).build())
+                .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((XmlSerializer) xmlSerializer).encode(compositeData, context, out);
+        assertThat(new String(out.toByteArray(), UTF_8),
+                   is("<top xmlns=\"urn:a\"><inner>" +
+                              "<aug xmlns=\"urn:b\"><leaf>v</leaf></aug>" +
+                              "</inner></top>"));
+    }
+
     /**
      * Validates and returns container data node.
      *
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.xml;
+
+import org.junit.Test;
+import org.onosproject.yang.runtime.Annotation;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for XML stream walker.
+ */
+public class XmlStreamWalkerTest {
+
+    /**
+     * Records the callbacks of the walker as strings.
+     */
+    private static final class RecordingListener implements XmlStreamListener {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<XmlStreamElement> elements = new ArrayList<>();
+
+        @Override
+        public void enterXmlElement(XmlStreamElement element,
+                                    XmlNodeType nodeType) {
+            events.add("enter " + element.name() + " " + nodeType + " " +
+                               element.depth());
+            elements.add(element);
+        }
+
+        @Override
+        public void exitXmlElement(XmlStreamElement element,
+                                   XmlNodeType nodeType) {
+            events.add("exit " + element.name());
+        }
+
+        private XmlStreamElement element(String name) {
+            for (XmlStreamElement element : elements) {
+                if (element.name().equals(name)) {
+                    return element;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static RecordingListener walk(String xml) {
+        RecordingListener listener = new RecordingListener();
+        new XmlStreamWalker().walk(
+                listener, new ByteArrayInputStream(xml.getBytes(UTF_8)));
+        return listener;
+    }
+
+    /**
+     * Checks attributes are reported as annotations, with their prefix.
+     */
+    @Test
+    public void testAttributes() {
+        RecordingListener listener = walk(
+                "<root xmlns:xc=\"urn:ietf:params:xml:ns:netconf:base:1.0\">" +
+                        "<top xc:operation=\"replace\" type=\"t1\">" +
+                        "<mtu>1500</mtu></top><leaf>v</leaf></root>");
+
+        List<Annotation> attributes = listener.element("top").attributes();
+        assertThat(attributes.size(), is(2));
+        assertThat(attributes.get(0).name(), is("xc:operation"));
+        assertThat(attributes.get(0).value(), is("replace"));
+        assertThat(attributes.get(1).name(), is("type"));
+        assertThat(attributes.get(1).value(), is("t1"));
+        assertThat(listener.element("leaf").attributes().isEmpty(), is(true));
+    }
+
+    /**
+     * Checks namespaces are resolved from default and prefixed
+     * declarations, and inherited by child elements.
+     */
+    @Test
+    public void testNamespaces() {
+        RecordingListener listener = walk(
+                "<root><food xmlns=\"urn:food\">" +
+                        "<p1>v1</p1>" +
+                        "<a:snack xmlns:a=\"urn:animal\"><a:kind>k</a:kind>" +
+                        "<p2>v2</p2></a:snack></food></root>");
+
+        assertThat(listener.element("root").namespace(), is(""));
+        assertThat(listener.element("food").namespace(), is("urn:food"));
+        assertThat(listener.element("p1").namespace(), is("urn:food"));
+        assertThat(listener.element("snack").namespace(), is("urn:animal"));
+        assertThat(listener.element("kind").namespace(), is("urn:animal"));
+        assertThat(listener.element("p2").namespace(), is("urn:food"));
+    }
+
+    /**
+     * Checks the node type and text of elements with mixed whitespace and
+     * text content.
+     */
+    @Test
+    public void testMixedContent() {
+        RecordingListener listener = walk(
+                "<root>\n  <top>\n    <name> Ethernet 0 </name>\n" +
+                        "    <empty/>\n    <blank>\n</blank>\n" +
+                        "    <mixed>before<inner>x</inner>after</mixed>\n" +
+                        "  </top>\n</root>");
+
+        assertThat(listener.events, contains(
+                "enter root OBJECT_NODE 0",
+                "enter top OBJECT_NODE 1",
+                "enter name TEXT_NODE 2",
+                "exit name",
+                "enter empty OBJECT_NODE 2",
+                "exit empty",
+                "enter blank OBJECT_NODE 2",
+                "exit blank",
+                "enter mixed OBJECT_NODE 2",
+                "enter inner TEXT_NODE 3",
+                "exit inner",
+                "exit mixed",
+                "exit top",
+                "exit root"));
+        assertThat(listener.element("name").text(), is(" Ethernet 0 "));
+        assertThat(listener.element("inner").text(), is("x"));
+    }
+
+    /**
+     * Checks character data in a CDATA section is part of the element text.
+     */
+    @Test
+    public void testCdata() {
+        RecordingListener listener = walk(
+                "<root><leaf>a<![CDATA[<b>&]]>c</leaf></root>");
+
+        assertThat(listener.element("leaf").nodeType(), is(XmlNodeType.TEXT_NODE));
+        assertThat(listener.element("leaf").text(), is("a<b>&c"));
+    }
+}